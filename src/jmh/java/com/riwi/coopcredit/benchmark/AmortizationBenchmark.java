@@ -0,0 +1,67 @@
+package com.riwi.coopcredit.benchmark;
+
+import com.riwi.coopcredit.application.usecase.AmortizationUseCaseImpl;
+import com.riwi.coopcredit.domain.model.AmortizationQuote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cotización de la cuota con una tasa de la tabla precalculada ({@code quoteTable}) frente a una que se calcula en
+ * el momento ({@code quoteComputed}), y el plan completo de 120 cuotas escrito a un consumidor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AmortizationBenchmark {
+
+    private static final int INPUTS = 1024;
+    private static final BigDecimal TABLE_RATE = new BigDecimal("24");
+    private static final BigDecimal OTHER_RATE = new BigDecimal("23.7");
+
+    private AmortizationUseCaseImpl amortization;
+    private final BigDecimal[] amounts = new BigDecimal[INPUTS];
+    private final Integer[] terms = new Integer[INPUTS];
+    private AmortizationQuote longQuote;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < INPUTS; i++) {
+            amounts[i] = BigDecimal.valueOf(1_000_000L + random.nextInt(60_000_000));
+            terms[i] = 6 + random.nextInt(115);
+        }
+        amortization = new AmortizationUseCaseImpl(
+                List.of(new BigDecimal("12"), new BigDecimal("18"), TABLE_RATE), 120, TABLE_RATE,
+                new BigDecimal("500000000"));
+        longQuote = amortization.quote(new BigDecimal("45000000"), 120, TABLE_RATE);
+    }
+
+    @Benchmark
+    public AmortizationQuote quoteTable() {
+        int i = next++ & (INPUTS - 1);
+        return amortization.quote(amounts[i], terms[i], TABLE_RATE);
+    }
+
+    @Benchmark
+    public AmortizationQuote quoteComputed() {
+        int i = next++ & (INPUTS - 1);
+        return amortization.quote(amounts[i], terms[i], OTHER_RATE);
+    }
+
+    @Benchmark
+    public void schedule120(Blackhole blackhole) {
+        amortization.schedule(longQuote, blackhole::consume);
+    }
+}
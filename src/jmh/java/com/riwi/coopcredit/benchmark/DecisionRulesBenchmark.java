@@ -0,0 +1,80 @@
+package com.riwi.coopcredit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.RiskDecision;
+import com.riwi.coopcredit.infrastructure.adapter.output.file.DecisionRulesFileAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decisiones por segundo de la tabla de decisión compilada, sobre solicitudes variadas para que ninguna rama
+ * quede fija. {@code defaults} solo tiene bandas de puntaje; {@code bundled} es decision-rules.json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecisionRulesBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    @Param({"defaults", "bundled"})
+    public String table;
+
+    private DecisionRules rules;
+    private final int[] scores = new int[INPUTS];
+    private final BigDecimal[] amounts = new BigDecimal[INPUTS];
+    private final int[] terms = new int[INPUTS];
+    private final Double[] incomes = new Double[INPUTS];
+    private final LocalDate[] registrationDates = new LocalDate[INPUTS];
+    private LocalDate today;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        rules = "defaults".equals(table)
+                ? DecisionRules.defaults()
+                : new DecisionRulesFileAdapter(new DefaultResourceLoader(), new ObjectMapper(), new SimpleMeterRegistry(),
+                "classpath:decision-rules.json").current();
+        today = LocalDate.now();
+        Random random = new Random(42);
+        for (int i = 0; i < INPUTS; i++) {
+            scores[i] = 300 + random.nextInt(600);
+            amounts[i] = BigDecimal.valueOf(1_000_000L + random.nextInt(60_000_000));
+            terms[i] = 6 + random.nextInt(84);
+            incomes[i] = 12_000_000.0 + random.nextInt(120_000_000);
+            registrationDates[i] = today.minusMonths(random.nextInt(48));
+        }
+    }
+
+    /**
+     * Lo que hacen la creación y el re-puntaje: monto como BigDecimal y antigüedad a partir de la fecha de registro.
+     */
+    @Benchmark
+    public RiskDecision decide() {
+        int i = next++ & (INPUTS - 1);
+        return rules.decide(scores[i], amounts[i], terms[i], incomes[i], registrationDates[i], today);
+    }
+
+    /**
+     * Solo la evaluación de la tabla, con las métricas ya calculadas.
+     */
+    @Benchmark
+    public RiskDecision decidePrimitive() {
+        int i = next++ & (INPUTS - 1);
+        return rules.decide(scores[i], amounts[i].doubleValue(), terms[i], incomes[i], 24);
+    }
+}
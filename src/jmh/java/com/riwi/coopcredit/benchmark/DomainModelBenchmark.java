@@ -0,0 +1,52 @@
+package com.riwi.coopcredit.benchmark;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción y validación de los modelos de dominio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainModelBenchmark {
+
+    private Affiliate affiliate;
+    private BigDecimal amount;
+    private LocalDate registrationDate;
+
+    @Setup
+    public void setUp() {
+        registrationDate = LocalDate.now().minusMonths(7);
+        affiliate = new Affiliate(1L, "1017654311", "Juan", "Pérez", "juan@example.com",
+                3500000.0, registrationDate, null);
+        amount = new BigDecimal("5000000");
+    }
+
+    @Benchmark
+    public Affiliate newAffiliate() {
+        return new Affiliate("1017654311", "Juan", "Pérez", "juan@example.com", 3500000.0);
+    }
+
+    @Benchmark
+    public Affiliate newAffiliateWithId() {
+        return new Affiliate(1L, "1017654311", "Juan", "Pérez", "juan@example.com",
+                3500000.0, registrationDate, null);
+    }
+
+    @Benchmark
+    public CreditApplication newCreditApplication() {
+        return new CreditApplication(amount, 36, affiliate);
+    }
+}
@@ -0,0 +1,66 @@
+package com.riwi.coopcredit.benchmark;
+
+import com.riwi.coopcredit.domain.model.RiskProfile;
+import com.riwi.coopcredit.domain.model.RiskScoringModel;
+import com.riwi.coopcredit.infrastructure.adapter.output.scoring.LocalRiskScoringAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puntaje local con el perfil ya en memoria: el modelo solo y el adaptador completo (búsqueda del perfil y
+ * {@link Integer} del resultado). Con {@code -prof gc}, gc.alloc.rate.norm debe quedar en 0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalRiskScoringBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private RiskScoringModel model;
+    private LocalRiskScoringAdapter adapter;
+    private final String[] documents = new String[INPUTS];
+    private final RiskProfile[] profiles = new RiskProfile[INPUTS];
+    private final Double[] amounts = new Double[INPUTS];
+    private final Integer[] terms = new Integer[INPUTS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<String, Optional<RiskProfile>> byDocument = new HashMap<>();
+        for (int i = 0; i < INPUTS; i++) {
+            documents[i] = "10" + (17_000_000 + i);
+            profiles[i] = new RiskProfile(12_000_000.0 + random.nextInt(200_000_000), random.nextInt(8), random.nextInt(3));
+            amounts[i] = 1_000_000.0 + random.nextInt(60_000_000);
+            terms[i] = 6 + random.nextInt(84);
+            byDocument.put(documents[i], Optional.of(profiles[i]));
+        }
+        // Mismos pesos por defecto que risk.scoring.local; el mapa hace de cache de perfiles con todos los aciertos
+        model = new RiskScoringModel(620, 60, 3_000_000, -250, -6, 12, -45, 10, 300, 900);
+        adapter = new LocalRiskScoringAdapter(byDocument::get, 620, 60, 3_000_000, -250, -6, 12, -45, 10, 300, 900);
+    }
+
+    @Benchmark
+    public int model() {
+        int i = next++ & (INPUTS - 1);
+        return model.score(profiles[i], amounts[i], terms[i]);
+    }
+
+    @Benchmark
+    public Integer adapter() {
+        int i = next++ & (INPUTS - 1);
+        return adapter.getRiskScore(documents[i], amounts[i], terms[i]);
+    }
+}
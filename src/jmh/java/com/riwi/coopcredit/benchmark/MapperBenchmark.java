@@ -0,0 +1,104 @@
+package com.riwi.coopcredit.benchmark;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationResponse;
+import com.riwi.coopcredit.infrastructure.adapter.input.mapper.ApplicationRestMapper;
+import com.riwi.coopcredit.infrastructure.adapter.input.mapper.ApplicationRestMapperImpl;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateEntity;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper.AffiliateMapper;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper.AffiliateMapperImpl;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapper;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mappers MapStruct de persistencia y REST (implementaciones generadas, sin contexto Spring).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    private AffiliateMapper affiliateMapper;
+    private CreditApplicationMapper applicationMapper;
+    private ApplicationRestMapper restMapper;
+
+    private AffiliateEntity affiliateEntity;
+    private Affiliate affiliate;
+    private CreditApplicationEntity applicationEntity;
+    private CreditApplication application;
+
+    @Setup
+    public void setUp() {
+        applicationMapper = new CreditApplicationMapperImpl();
+        affiliateMapper = new AffiliateMapperImpl();
+        // En la aplicación Spring inyecta el mapper de solicitudes usado por AffiliateMapper
+        ReflectionTestUtils.setField(affiliateMapper, "creditApplicationMapper", applicationMapper);
+        restMapper = new ApplicationRestMapperImpl();
+
+        affiliateEntity = AffiliateEntity.builder()
+                .id(1L)
+                .document("1017654311")
+                .firstName("Juan")
+                .lastName("Pérez")
+                .email("juan@example.com")
+                .annualIncome(new BigDecimal("3500000.00"))
+                .registrationDate(LocalDate.now().minusMonths(7))
+                .build();
+        affiliate = affiliateMapper.toDomain(affiliateEntity);
+
+        applicationEntity = CreditApplicationEntity.builder()
+                .id(10L)
+                .requestedAmount(new BigDecimal("5000000.00"))
+                .termMonths(36)
+                .applicationDate(LocalDateTime.now())
+                .status(CreditApplicationEntity.CreditApplicationStatus.APROBADA)
+                .riskScore(750)
+                .riskLevel("BAJO RIESGO")
+                .affiliate(affiliateEntity)
+                .build();
+        application = applicationMapper.toDomain(applicationEntity);
+        application.setAffiliate(affiliate);
+        application.setStatus(ApplicationStatus.APROBADA);
+    }
+
+    @Benchmark
+    public Affiliate affiliateToDomain() {
+        return affiliateMapper.toDomain(affiliateEntity);
+    }
+
+    @Benchmark
+    public AffiliateEntity affiliateToEntity() {
+        return affiliateMapper.toEntity(affiliate);
+    }
+
+    @Benchmark
+    public CreditApplication applicationToDomain() {
+        return applicationMapper.toDomain(applicationEntity);
+    }
+
+    @Benchmark
+    public CreditApplicationEntity applicationToEntity() {
+        return applicationMapper.toEntity(application);
+    }
+
+    @Benchmark
+    public ApplicationResponse applicationToResponse() {
+        return restMapper.toResponse(application);
+    }
+}
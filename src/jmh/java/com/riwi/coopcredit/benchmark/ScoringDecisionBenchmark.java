@@ -0,0 +1,178 @@
+package com.riwi.coopcredit.benchmark;
+
+import com.riwi.coopcredit.application.usecase.CreateApplicationUseCaseImpl;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.DuplicateHandling;
+import com.riwi.coopcredit.domain.model.PortfolioStatsCell;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.DuplicateApplicationPort;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flujo de decisión de CreateApplicationUseCaseImpl con puertos en memoria:
+ * aísla el costo de la lógica de scoring del de la base de datos y la red.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoringDecisionBenchmark {
+
+    // Un score por banda de decisión: alto riesgo, medio y bajo
+    @Param({"400", "600", "750"})
+    public int score;
+
+    private CreateApplicationUseCaseImpl useCase;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        Affiliate affiliate = new Affiliate(1L, "1017654311", "Juan", "Pérez", "juan@example.com",
+                3500000.0, LocalDate.now().minusMonths(7), null);
+        RiskExternalPort risk = (document, requested, term) -> score;
+        DecisionRules rules = DecisionRules.defaults();
+        // El puntaje nunca falla: la cola de re-puntaje no se usa
+        useCase = new CreateApplicationUseCaseImpl(new InMemoryAffiliates(affiliate), new InMemoryApplications(), risk,
+                new NoOpPortfolioStats(), new NoDuplicates(), () -> rules, new NoExposure(), null,
+                DuplicateHandling.REJECT);
+        amount = new BigDecimal("5000000");
+    }
+
+    @Benchmark
+    public CreditApplication create() {
+        return useCase.create(1L, amount, 36);
+    }
+
+    private static final class InMemoryAffiliates implements AffiliateRepositoryPort {
+        private final Optional<Affiliate> affiliate;
+
+        private InMemoryAffiliates(Affiliate affiliate) {
+            this.affiliate = Optional.of(affiliate);
+        }
+
+        @Override
+        public Affiliate save(Affiliate affiliate) {
+            return affiliate;
+        }
+
+        @Override
+        public Optional<Affiliate> findById(Long id) {
+            return affiliate;
+        }
+
+        @Override
+        public Optional<Affiliate> findByDocument(String document) {
+            return affiliate;
+        }
+
+        @Override
+        public List<Affiliate> findAll() {
+            return List.of(affiliate.get());
+        }
+    }
+
+    private static final class InMemoryApplications implements CreditApplicationRepositoryPort {
+        @Override
+        public CreditApplication save(CreditApplication application) {
+            return application;
+        }
+
+        @Override
+        public Optional<CreditApplication> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<CreditApplication> findAllByAffiliateId(Long affiliateId) {
+            return List.of();
+        }
+    }
+
+    private static final class NoOpPortfolioStats implements PortfolioStatsPort {
+        @Override
+        public void record(CreditApplication application) {
+        }
+
+        @Override
+        public void recordChanges(List<ApplicationStatusChange> changes) {
+        }
+
+        @Override
+        public List<PortfolioStatsCell> find(YearMonth from, YearMonth to) {
+            return List.of();
+        }
+
+        @Override
+        public int reconcile() {
+            return 0;
+        }
+    }
+
+    private static final class NoExposure implements AffiliateExposurePort {
+        @Override
+        public BigDecimal findApprovedAmount(Long affiliateId) {
+            return BigDecimal.ZERO;
+        }
+
+        @Override
+        public BigDecimal lockApprovedAmount(Long affiliateId) {
+            return BigDecimal.ZERO;
+        }
+
+        @Override
+        public Map<Long, BigDecimal> lockApprovedAmounts(Collection<Long> affiliateIds) {
+            return Map.of();
+        }
+
+        @Override
+        public void record(CreditApplication application) {
+        }
+
+        @Override
+        public void recordChanges(List<ApplicationStatusChange> changes) {
+        }
+
+        @Override
+        public int reconcile() {
+            return 0;
+        }
+    }
+
+    private static final class NoDuplicates implements DuplicateApplicationPort {
+        @Override
+        public boolean isDuplicate(Long affiliateId, BigDecimal amount, Integer term) {
+            return false;
+        }
+
+        @Override
+        public Optional<Long> findRecent(Long affiliateId, BigDecimal amount, Integer term) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void remember(CreditApplication application) {
+        }
+    }
+}
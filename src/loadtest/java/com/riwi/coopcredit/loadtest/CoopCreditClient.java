@@ -0,0 +1,78 @@
+package com.riwi.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cliente HTTP mínimo de la API pública usada en la prueba de carga: registro, login y creación de solicitudes.
+ */
+public class CoopCreditClient {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public CoopCreditClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public Response register(VirtualAffiliate affiliate) throws IOException, InterruptedException {
+        return post("/auth/register", null, Map.of(
+                "username", affiliate.getName(),
+                "document", affiliate.getDocument(),
+                "email", affiliate.getEmail(),
+                "password", affiliate.getPassword(),
+                "annualIncome", affiliate.getAnnualIncome()));
+    }
+
+    public Response login(VirtualAffiliate affiliate) throws IOException, InterruptedException {
+        return post("/auth/login", null, Map.of(
+                "username", affiliate.getEmail(),
+                "password", affiliate.getPassword()));
+    }
+
+    public Response apply(VirtualAffiliate affiliate, BigDecimal amount, int termMonths) throws IOException, InterruptedException {
+        return post("/api/v1/applications", affiliate.getToken(), Map.of(
+                "affiliateId", affiliate.getAffiliateId(),
+                "requestedAmount", amount,
+                "termMonths", termMonths));
+    }
+
+    /**
+     * Extrae el token JWT de una respuesta de registro o login.
+     */
+    public String token(Response response) throws IOException {
+        return objectMapper.readTree(response.body()).path("token").asText(null);
+    }
+
+    private Response post(String path, String token, Map<String, Object> body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    public record Response(int status, String body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.riwi.coopcredit.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Escribe filas en formato texto de {@code COPY ... FROM STDIN}, enviándolas en bloques de ~256 KB.
+ * <p>
+ * Los valores generados no contienen tabuladores, saltos de línea ni barras invertidas, por lo que no se escapan.
+ */
+final class CopyBuffer implements AutoCloseable {
+
+    private static final int FLUSH_THRESHOLD = 256 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private boolean finished;
+
+    CopyBuffer(Connection connection, String copySql) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+    }
+
+    CopyBuffer row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append('\t');
+            }
+            buffer.append(values[i] == null ? "\\N" : values[i]);
+        }
+        buffer.append('\n');
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+        return this;
+    }
+
+    long finish() throws SQLException {
+        flush();
+        finished = true;
+        return copyIn.endCopy();
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!finished && copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.riwi.coopcredit.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribución de probabilidad configurable desde texto, usada para latencias, scores y montos.
+ * <p>
+ * Formatos soportados:
+ * <ul>
+ *     <li>{@code fixed:v}</li>
+ *     <li>{@code uniform:min:max}</li>
+ *     <li>{@code normal:media:desviacion}</li>
+ *     <li>{@code lognormal:mediana:sigma} (colas largas, típica de latencias reales)</li>
+ *     <li>{@code exp:media}</li>
+ * </ul>
+ */
+public final class Distribution {
+
+    private final String spec;
+    private final ToDoubleFunction<RandomGenerator> sampler;
+
+    private Distribution(String spec, ToDoubleFunction<RandomGenerator> sampler) {
+        this.spec = spec;
+        this.sampler = sampler;
+    }
+
+    public static Distribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            switch (parts[0]) {
+                case "fixed": {
+                    double value = Double.parseDouble(parts[1]);
+                    return new Distribution(spec, r -> value);
+                }
+                case "uniform": {
+                    double min = Double.parseDouble(parts[1]);
+                    double max = Double.parseDouble(parts[2]);
+                    return new Distribution(spec, r -> min + r.nextDouble() * (max - min));
+                }
+                case "normal": {
+                    double mean = Double.parseDouble(parts[1]);
+                    double sd = Double.parseDouble(parts[2]);
+                    return new Distribution(spec, r -> mean + r.nextGaussian() * sd);
+                }
+                case "lognormal": {
+                    double mu = Math.log(Double.parseDouble(parts[1]));
+                    double sigma = Double.parseDouble(parts[2]);
+                    return new Distribution(spec, r -> Math.exp(mu + r.nextGaussian() * sigma));
+                }
+                case "exp": {
+                    double mean = Double.parseDouble(parts[1]);
+                    return new Distribution(spec, r -> -mean * Math.log(1.0 - r.nextDouble()));
+                }
+                default:
+                    throw new IllegalArgumentException("Distribución desconocida: " + spec);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Distribución mal formada: " + spec, e);
+        }
+    }
+
+    public double sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Muestra con un generador explícito, para secuencias reproducibles a partir de una semilla.
+     */
+    public double sample(RandomGenerator random) {
+        return sampler.applyAsDouble(random);
+    }
+
+    /**
+     * Muestra acotada a [min, max], útil para scores y valores que no pueden ser negativos.
+     */
+    public double sample(double min, double max) {
+        return Math.max(min, Math.min(max, sample()));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,141 @@
+package com.riwi.coopcredit.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula latencias (HdrHistogram, en microsegundos) y errores por operación.
+ * <p>
+ * Solo registra mientras {@link #measuring} está activo, así el calentamiento no contamina los percentiles.
+ */
+public class LoadReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> successes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean measuring;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    public LoadReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3));
+            successes.put(operation, new LongAdder());
+            errors.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void startMeasuring() {
+        startedAt = System.nanoTime();
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measuring = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    /**
+     * @param latencyNanos en el modelo abierto se mide desde el instante programado de la llegada,
+     *                     no desde el envío, para no ocultar la espera en cola (coordinated omission).
+     */
+    public void success(Operation operation, long latencyNanos) {
+        if (measuring) {
+            latencies.get(operation).recordValue(Math.min(MAX_TRACKABLE_MICROS, Math.max(1, latencyNanos / 1_000)));
+            successes.get(operation).increment();
+        }
+    }
+
+    public void error(Operation operation, String cause) {
+        if (measuring) {
+            errors.get(operation).computeIfAbsent(cause, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Llegadas del modelo abierto descartadas por superar el máximo de peticiones en vuelo.
+     */
+    public void dropped() {
+        if (measuring) {
+            dropped.increment();
+        }
+    }
+
+    public long totalRequests() {
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            total += successes.get(operation).sum() + errorCount(operation);
+        }
+        return total;
+    }
+
+    public long totalErrors() {
+        long total = dropped.sum();
+        for (Operation operation : Operation.values()) {
+            total += errorCount(operation);
+        }
+        return total;
+    }
+
+    public double errorRate() {
+        long requests = totalRequests() + dropped.sum();
+        return requests == 0 ? 0.0 : (double) totalErrors() / requests;
+    }
+
+    private long errorCount(Operation operation) {
+        return errors.get(operation).values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public String render() {
+        double seconds = Math.max(1e-9, (stoppedAt - startedAt) / 1e9);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Duración medida: %.1f s%n%n", seconds));
+        sb.append(String.format("%-10s %9s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operación", "ok", "errores", "error%", "ok/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long ok = successes.get(operation).sum();
+            long failed = errorCount(operation);
+            if (ok + failed == 0) {
+                continue;
+            }
+            sb.append(String.format("%-10s %9d %9d %7.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    operation.name().toLowerCase(), ok, failed,
+                    100.0 * failed / (ok + failed), ok / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0));
+        }
+
+        sb.append(String.format("%nTotal: %d peticiones, %.1f req/s, tasa de error %.2f%%%n",
+                totalRequests(), totalRequests() / seconds, 100.0 * errorRate()));
+        if (dropped.sum() > 0) {
+            sb.append(String.format("Llegadas descartadas (max-in-flight): %d%n", dropped.sum()));
+        }
+
+        for (Operation operation : Operation.values()) {
+            Map<String, LongAdder> byCause = errors.get(operation);
+            if (!byCause.isEmpty()) {
+                sb.append(String.format("%nErrores de %s:%n", operation.name().toLowerCase()));
+                new TreeMap<>(byCause).forEach((cause, count) ->
+                        sb.append(String.format("  %-40s %d%n", cause, count.sum())));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.riwi.coopcredit.loadtest;
+
+import com.riwi.coopcredit.CoopCreditApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Punto de entrada de la prueba de carga de punta a punta.
+ * <ol>
+ *     <li>Levanta el stub del servicio de riesgo con la latencia, tasa de error y scores configurados.</li>
+ *     <li>Inicia la aplicación en proceso contra la base local apuntando al stub (o usa {@code target}).</li>
+ *     <li>Registra el pool de afiliados y resuelve sus IDs en la base.</li>
+ *     <li>Genera tráfico register/login/apply con el modelo elegido y reporta throughput, percentiles y errores.</li>
+ * </ol>
+ * Uso: {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="model=open rate=100 duration=2m"}
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        System.out.println("Parámetros de la prueba de carga:");
+        System.out.print(settings);
+
+        ConfigurableApplicationContext context = null;
+        try (StubRiskServer riskStub = new StubRiskServer(
+                settings.getInt("risk.port"),
+                settings.getDistribution("risk.latency"),
+                settings.getDistribution("risk.scores"),
+                settings.getDouble("risk.error-rate")).start()) {
+
+            System.out.println("Stub de riesgo escuchando en " + riskStub.baseUrl());
+
+            String baseUrl = settings.get("target");
+            if (baseUrl.isBlank()) {
+                context = startApplication(settings, riskStub.baseUrl());
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            } else {
+                System.out.println("Usando instancia externa " + baseUrl
+                        + "; debe tener external.risk-service.url=" + riskStub.baseUrl());
+            }
+
+            LoadReport report = new LoadReport();
+            Scenario scenario = new Scenario(new CoopCreditClient(baseUrl), report, settings);
+            scenario.usePool(registerPool(scenario, new CoopCreditClient(baseUrl), settings));
+
+            new WorkloadGenerator(scenario, report, settings).run();
+
+            String output = report.render()
+                    + String.format("%nStub de riesgo: %d llamadas, %d errores inyectados%n",
+                    riskStub.calls(), riskStub.injectedErrors());
+            System.out.println();
+            System.out.print(output);
+
+            String reportPath = settings.get("report");
+            if (!reportPath.isBlank()) {
+                Path path = Path.of(reportPath);
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                Files.writeString(path, "Parámetros:\n" + settings + "\n" + output, StandardCharsets.UTF_8);
+                System.out.println("Reporte escrito en " + path.toAbsolutePath());
+            }
+
+            if (report.errorRate() > settings.getDouble("max-error-rate")) {
+                System.err.printf("Tasa de error %.2f%% supera el máximo permitido%n", 100.0 * report.errorRate());
+                System.exit(1);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, String riskUrl) {
+        // Como argumentos de línea de comandos para que tengan prioridad sobre application.yml
+        return new SpringApplicationBuilder(CoopCreditApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + settings.get("db.url"),
+                "--spring.datasource.username=" + settings.get("db.user"),
+                "--spring.datasource.password=" + settings.get("db.password"),
+                "--external.risk-service.url=" + riskUrl,
+                // Todo el tráfico sale de 127.0.0.1 y cada afiliado envía muchas solicitudes: con los límites de
+                // envíos casi todo sería 429. Un monto idéntico repetido (raro, los montos son continuos) responde con
+                // la solicitud anterior en lugar de contar como error; la detección se sigue midiendo
+                "--velocity.applications.enabled=false",
+                "--applications.duplicates.handling=FOLD",
+                // Los avisos por petición inundarían la consola durante la carga
+                "--logging.level.com.riwi.coopcredit=WARN",
+                "--springdoc.api-docs.enabled=false");
+    }
+
+    /**
+     * Registra los afiliados del pool a través de la API y luego resuelve sus IDs en una sola consulta,
+     * ya que el registro solo devuelve el token.
+     */
+    private static List<VirtualAffiliate> registerPool(Scenario scenario, CoopCreditClient client,
+                                                       LoadTestSettings settings) throws Exception {
+        int users = settings.getInt("users");
+        List<VirtualAffiliate> registered = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(32, settings.getInt("concurrency"))));
+        for (int i = 0; i < users; i++) {
+            executor.execute(() -> {
+                VirtualAffiliate affiliate = scenario.newAffiliate();
+                try {
+                    CoopCreditClient.Response response = client.register(affiliate);
+                    if (response.isSuccess()) {
+                        affiliate.setToken(client.token(response));
+                        registered.add(affiliate);
+                    }
+                } catch (Exception e) {
+                    // Se reporta abajo como diferencia entre solicitados y registrados
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        System.out.printf("Pool de afiliados: %d de %d registrados%n", registered.size(), users);
+
+        Map<String, VirtualAffiliate> byDocument = registered.stream()
+                .collect(Collectors.toMap(VirtualAffiliate::getDocument, Function.identity()));
+        Map<String, Long> ids = new ConcurrentHashMap<>();
+        try (Connection connection = DriverManager.getConnection(
+                settings.get("db.url"), settings.get("db.user"), settings.get("db.password"));
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT document, id FROM affiliate WHERE document = ANY (?)")) {
+            statement.setArray(1, connection.createArrayOf("varchar", byDocument.keySet().toArray()));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        byDocument.forEach((document, affiliate) -> affiliate.setAffiliateId(ids.get(document)));
+        return registered.stream().filter(a -> a.getAffiliateId() != null).toList();
+    }
+}
@@ -0,0 +1,139 @@
+package com.riwi.coopcredit.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parámetros del escenario de carga, recibidos como argumentos {@code clave=valor}.
+ * <p>
+ * Ejemplos:
+ * <pre>
+ * model=closed concurrency=32 duration=2m
+ * model=open rate=150 risk.latency=lognormal:80:0.8 risk.error-rate=0.02
+ * target=http://localhost:8081 risk.port=8082
+ * </pre>
+ */
+public final class LoadTestSettings {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        // Modelo de carga: closed (N usuarios concurrentes) u open (tasa de llegadas fija)
+        DEFAULTS.put("model", "closed");
+        DEFAULTS.put("concurrency", "16");
+        DEFAULTS.put("think", "0ms");
+        DEFAULTS.put("rate", "50");
+        DEFAULTS.put("arrivals", "poisson");
+        DEFAULTS.put("max-in-flight", "512");
+        DEFAULTS.put("warmup", "10s");
+        DEFAULTS.put("duration", "60s");
+        // Peso relativo de cada operación en el tráfico medido
+        DEFAULTS.put("mix", "register:1,login:2,apply:7");
+        // Afiliados registrados antes de medir, usados por login y apply
+        DEFAULTS.put("users", "200");
+        // Si se indica, se ataca una instancia ya levantada en lugar de iniciar la aplicación en proceso
+        DEFAULTS.put("target", "");
+        DEFAULTS.put("db.url", "jdbc:postgresql://localhost:5432/coop_credit_db");
+        DEFAULTS.put("db.user", "root");
+        DEFAULTS.put("db.password", "admin123");
+        // Stub del servicio de riesgo
+        DEFAULTS.put("risk.port", "0");
+        DEFAULTS.put("risk.latency", "lognormal:40:0.6");
+        DEFAULTS.put("risk.error-rate", "0.0");
+        DEFAULTS.put("risk.scores", "normal:620:110");
+        // Perfil de los afiliados y montos solicitados (COP)
+        DEFAULTS.put("income", "lognormal:48000000:0.6");
+        DEFAULTS.put("amount-ratio", "uniform:0.05:1.2");
+        DEFAULTS.put("report", "target/loadtest-report.txt");
+        // Umbral de errores por encima del cual el proceso termina con código distinto de 0
+        DEFAULTS.put("max-error-rate", "1.0");
+    }
+
+    private final Map<String, String> values;
+
+    private LoadTestSettings(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestSettings parse(String[] args) {
+        return parse(args, DEFAULTS);
+    }
+
+    /**
+     * Variante para otras herramientas del módulo con su propio juego de parámetros y valores por defecto.
+     */
+    public static LoadTestSettings parse(String[] args, Map<String, String> defaults) {
+        Map<String, String> values = new LinkedHashMap<>(defaults);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Argumento inválido (se espera clave=valor): " + arg);
+            }
+            String key = arg.substring(0, eq);
+            if (!defaults.containsKey(key)) {
+                throw new IllegalArgumentException("Parámetro desconocido: " + key + ". Disponibles: " + defaults.keySet());
+            }
+            values.put(key, arg.substring(eq + 1));
+        }
+        return new LoadTestSettings(values);
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(get(key));
+    }
+
+    public long getLong(String key) {
+        return Long.parseLong(get(key));
+    }
+
+    public double getDouble(String key) {
+        return Double.parseDouble(get(key));
+    }
+
+    public Distribution getDistribution(String key) {
+        return Distribution.parse(get(key));
+    }
+
+    /**
+     * Duraciones con sufijo ms, s o m (p. ej. 500ms, 30s, 2m).
+     */
+    public Duration getDuration(String key) {
+        String raw = get(key).trim();
+        if (raw.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(raw.substring(0, raw.length() - 2)));
+        }
+        if (raw.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(raw.substring(0, raw.length() - 1)));
+        }
+        if (raw.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(raw.substring(0, raw.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(raw));
+    }
+
+    public Map<Operation, Integer> getMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : get("mix").split(",")) {
+            String[] parts = entry.trim().split(":");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        values.forEach((k, v) -> {
+            if (!k.equals("db.password")) {
+                sb.append(String.format("  %-16s %s%n", k, v));
+            }
+        });
+        return sb.toString();
+    }
+}
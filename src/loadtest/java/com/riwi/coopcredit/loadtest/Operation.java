@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.loadtest;
+
+/**
+ * Operaciones de negocio que genera la prueba de carga.
+ */
+public enum Operation {
+    REGISTER,
+    LOGIN,
+    APPLY
+}
@@ -0,0 +1,114 @@
+package com.riwi.coopcredit.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Tráfico de negocio: elige la operación según el mix configurado, la ejecuta contra la API y
+ * registra el resultado en el {@link LoadReport}.
+ */
+public class Scenario {
+
+    private static final int[] TERMS = {12, 24, 36, 48, 60};
+
+    private final CoopCreditClient client;
+    private final LoadReport report;
+    private final Distribution income;
+    private final Distribution amountRatio;
+    private final Operation[] weightedOperations;
+    private final String runId;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile List<VirtualAffiliate> pool = List.of();
+
+    public Scenario(CoopCreditClient client, LoadReport report, LoadTestSettings settings) {
+        this.client = client;
+        this.report = report;
+        this.income = settings.getDistribution("income");
+        this.amountRatio = settings.getDistribution("amount-ratio");
+        this.weightedOperations = expand(settings.getMix());
+        // Prefijo por ejecución para que documentos y emails no choquen con corridas anteriores
+        this.runId = "LT" + Long.toString(System.currentTimeMillis(), 36).toUpperCase();
+    }
+
+    /**
+     * Afiliados ya registrados (con ID resuelto) sobre los que se hacen login y solicitudes.
+     */
+    public void usePool(List<VirtualAffiliate> pool) {
+        this.pool = List.copyOf(pool);
+    }
+
+    public VirtualAffiliate newAffiliate() {
+        long n = sequence.incrementAndGet();
+        BigDecimal annualIncome = BigDecimal.valueOf(income.sample(1_000_000, 2_000_000_000))
+                .setScale(2, RoundingMode.HALF_UP);
+        return new VirtualAffiliate(
+                runId + String.format("%06d", n),
+                runId.toLowerCase() + "." + n + "@loadtest.local",
+                "Carga " + runId + " " + n,
+                "Carga" + n + "!",
+                annualIncome);
+    }
+
+    public Operation nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+
+    /**
+     * Ejecuta una operación. {@code intendedStartNanos} es el instante en que la operación debió empezar;
+     * en el modelo cerrado coincide con el envío real.
+     */
+    public void execute(Operation operation, long intendedStartNanos) {
+        try {
+            CoopCreditClient.Response response = switch (operation) {
+                case REGISTER -> client.register(newAffiliate());
+                case LOGIN -> login(randomFromPool());
+                case APPLY -> apply(randomFromPool());
+            };
+            if (response.isSuccess()) {
+                report.success(operation, System.nanoTime() - intendedStartNanos);
+            } else {
+                report.error(operation, "HTTP " + response.status());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            report.error(operation, e.getClass().getSimpleName());
+        }
+    }
+
+    private CoopCreditClient.Response login(VirtualAffiliate affiliate) throws Exception {
+        CoopCreditClient.Response response = client.login(affiliate);
+        if (response.isSuccess()) {
+            affiliate.setToken(client.token(response));
+        }
+        return response;
+    }
+
+    private CoopCreditClient.Response apply(VirtualAffiliate affiliate) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BigDecimal amount = affiliate.getAnnualIncome()
+                .multiply(BigDecimal.valueOf(amountRatio.sample(0.001, 10)))
+                .max(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP);
+        return client.apply(affiliate, amount, TERMS[random.nextInt(TERMS.length)]);
+    }
+
+    private VirtualAffiliate randomFromPool() {
+        List<VirtualAffiliate> current = pool;
+        if (current.isEmpty()) {
+            throw new IllegalStateException("No hay afiliados en el pool; aumente el parámetro users");
+        }
+        return current.get(ThreadLocalRandom.current().nextInt(current.size()));
+    }
+
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+                .toArray(Operation[]::new);
+    }
+}
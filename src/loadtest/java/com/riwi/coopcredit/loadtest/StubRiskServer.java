@@ -0,0 +1,129 @@
+package com.riwi.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servicio de riesgo embebido que reemplaza a {@code external.risk-service.url} durante la prueba de carga.
+ * <p>
+ * Cada respuesta se retrasa según la distribución de latencia configurada. El retraso se programa en un
+ * scheduler en lugar de dormir el hilo, así la latencia inyectada no limita el throughput del propio stub.
+ * Una fracción configurable de las llamadas responde 503 para simular fallas del proveedor.
+ */
+public class StubRiskServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Distribution latencyMs;
+    private final Distribution scores;
+    private final double errorRate;
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ScheduledExecutorService delayer;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    public StubRiskServer(int port, Distribution latencyMs, Distribution scores, double errorRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.scores = scores;
+        this.errorRate = errorRate;
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        this.handlers = Executors.newFixedThreadPool(4, daemon("risk-stub-http"));
+        this.delayer = Executors.newScheduledThreadPool(2, daemon("risk-stub-delay"));
+        this.server.setExecutor(handlers);
+        // El adaptador concatena /risk-evaluation a la URL base, se acepta cualquier ruta
+        this.server.createContext("/", this::handle);
+    }
+
+    public StubRiskServer start() {
+        server.start();
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long injectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        calls.increment();
+        String document;
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonNode request = objectMapper.readTree(body);
+            document = request == null ? null : request.path("documento").asText(null);
+        }
+
+        long delay = Math.round(latencyMs.sample(0, 60_000));
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.increment();
+            delayer.schedule(() -> respond(exchange, 503, "{\"error\":\"servicio de riesgo no disponible\"}"),
+                    delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        int score = (int) Math.round(scores.sample(300, 850));
+        String level = score >= 700 ? "BAJO" : score >= 500 ? "MEDIO" : "ALTO";
+        byte[] json = objectMapper.writeValueAsBytes(Map.of(
+                "documento", document == null ? "" : document,
+                "score", score,
+                "nivelRiesgo", level,
+                "detalle", "stub de carga"));
+        delayer.schedule(() -> respond(exchange, 200, new String(json, StandardCharsets.UTF_8)),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            // El cliente pudo haber abandonado la petición por timeout; no afecta la prueba
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        delayer.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    static ThreadFactory daemon(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,395 @@
+package com.riwi.coopcredit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.RiskDecision;
+import com.riwi.coopcredit.infrastructure.adapter.output.file.DecisionRulesFileAdapter;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.AffiliateExposureAdapter;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.PortfolioStatsAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga masiva de datos sintéticos (usuarios, afiliados y solicitudes de crédito) con {@code COPY FROM STDIN}.
+ * <p>
+ * Los IDs se reservan por bloque en las secuencias, así cada hilo genera un rango independiente y las solicitudes
+ * referencian afiliados sin consultar la base. El perfil de cada afiliado (ingreso y fecha de registro) se deriva
+ * de su ID con una semilla fija, por lo que la misma configuración produce siempre los mismos datos.
+ * <p>
+ * Las solicitudes con puntaje se deciden con la misma tabla de decisión que la aplicación ({@code rules}, por defecto
+ * la incluida en el jar): bandas, revisión de analistas y reglas de cuota, monto, plazo y antigüedad a la fecha de la
+ * solicitud. Los hilos generan solicitudes de un mismo afiliado sin orden entre ellas, así que la regla de
+ * endeudamiento total solo ve el monto de cada solicitud, no lo aprobado antes al afiliado.
+ * <p>
+ * El COPY no pasa por los contadores que la aplicación mantiene con incrementos ({@code portfolio_stats} y
+ * {@code affiliate_exposure}); al terminar se reconstruyen con la misma reconciliación del job nocturno.
+ * <p>
+ * Uso:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.riwi.coopcredit.loadtest.SyntheticDataGenerator \
+ *     -Dloadtest.args="affiliates=1000000 applications=10000000 threads=4"
+ * </pre>
+ * Conviene ejecutarlo con la aplicación detenida: la reserva de IDs no contempla inserciones concurrentes.
+ */
+public final class SyntheticDataGenerator {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("affiliates", "100000");
+        DEFAULTS.put("applications", "1000000");
+        // Hilos, cada uno con su conexión y su COPY; los rangos se reparten en bloques de chunk filas
+        DEFAULTS.put("threads", "4");
+        DEFAULTS.put("chunk", "100000");
+        DEFAULTS.put("seed", "42");
+        // Antigüedad máxima de los afiliados; las solicitudes se concentran en los meses recientes
+        DEFAULTS.put("years", "5");
+        DEFAULTS.put("income", "lognormal:48000000:0.6");
+        DEFAULTS.put("amount-ratio", "lognormal:0.35:0.7");
+        DEFAULTS.put("scores", "normal:620:110");
+        DEFAULTS.put("pending-rate", "0.03");
+        // Tabla de decisión, con la misma sintaxis que decision.rules.location
+        DEFAULTS.put("rules", "classpath:decision-rules.json");
+        // Contraseña común de los usuarios generados (se hashea una sola vez)
+        DEFAULTS.put("password", "Sintetico123!");
+        DEFAULTS.put("db.url", "jdbc:postgresql://localhost:5432/coop_credit_db");
+        DEFAULTS.put("db.user", "root");
+        DEFAULTS.put("db.password", "admin123");
+    }
+
+    private static final String[] FIRST_NAMES = {
+            "Juan", "María", "Carlos", "Ana", "Luis", "Laura", "Andrés", "Camila", "Jorge", "Valentina",
+            "Diego", "Daniela", "Santiago", "Paula", "Felipe", "Natalia", "Sebastián", "Carolina", "Mateo", "Sofía"};
+    private static final String[] LAST_NAMES = {
+            "Gómez", "Rodríguez", "Martínez", "García", "López", "Hernández", "Pérez", "Sánchez", "Ramírez", "Torres",
+            "Díaz", "Vargas", "Moreno", "Rojas", "Castro", "Ortiz", "Jiménez", "Restrepo", "Muñoz", "Álvarez"};
+    // Plazos habituales y su peso relativo
+    private static final int[] TERMS = {6, 12, 24, 36, 48, 60};
+    private static final int[] TERM_WEIGHTS = {5, 20, 30, 25, 10, 10};
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("9999999999999.99");
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("100.00");
+
+    private final LoadTestSettings settings;
+    private final long seed;
+    private final int years;
+    private final Distribution income;
+    private final Distribution amountRatio;
+    private final Distribution scores;
+    private final double pendingRate;
+    private final DecisionRules rules;
+    private final LocalDate today = LocalDate.now();
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private SyntheticDataGenerator(LoadTestSettings settings) {
+        this.settings = settings;
+        this.seed = settings.getLong("seed");
+        this.years = settings.getInt("years");
+        this.income = settings.getDistribution("income");
+        this.amountRatio = settings.getDistribution("amount-ratio");
+        this.scores = settings.getDistribution("scores");
+        this.pendingRate = settings.getDouble("pending-rate");
+        this.rules = new DecisionRulesFileAdapter(new DefaultResourceLoader(), new ObjectMapper(),
+                new SimpleMeterRegistry(), settings.get("rules")).current();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args, DEFAULTS);
+        System.out.println("Parámetros de la generación:");
+        System.out.print(settings);
+        new SyntheticDataGenerator(settings).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        long affiliates = settings.getLong("affiliates");
+        long applications = settings.getLong("applications");
+        String passwordHash = new BCryptPasswordEncoder().encode(settings.get("password"));
+
+        long roleId;
+        long firstUserId;
+        long firstAffiliateId;
+        long firstApplicationId;
+        try (Connection connection = connect()) {
+            roleId = affiliateRoleId(connection);
+            firstUserId = reserveIds(connection, "coop_user", affiliates);
+            firstAffiliateId = reserveIds(connection, "affiliate", affiliates);
+            firstApplicationId = reserveIds(connection, "credit_application", applications);
+            ensurePartitions(connection);
+        }
+
+        long started = System.nanoTime();
+        inParallel("afiliados", affiliates, (connection, from, to) ->
+                copyAffiliates(connection, from, to, firstUserId, firstAffiliateId, roleId, passwordHash));
+        inParallel("solicitudes", applications, (connection, from, to) ->
+                copyApplications(connection, from, to, affiliates, firstAffiliateId, firstApplicationId));
+
+        refreshCounters();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            System.out.println("Actualizando estadísticas del planificador...");
+            statement.execute("ANALYZE coop_user, user_role, affiliate, credit_application, portfolio_stats, affiliate_exposure");
+        }
+        System.out.printf("Generación completa en %.1f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    private void copyAffiliates(Connection connection, long from, long to, long firstUserId, long firstAffiliateId,
+                                long roleId, String passwordHash) throws SQLException {
+        // Usuarios, roles y afiliados en COPY sucesivos para respetar las llaves foráneas
+        try (CopyBuffer users = new CopyBuffer(connection,
+                "COPY coop_user (id, username, password, is_enabled, created_at) FROM STDIN")) {
+            for (long i = from; i < to; i++) {
+                long affiliateId = firstAffiliateId + i;
+                users.row(firstUserId + i, email(affiliateId), passwordHash, "t",
+                        registrationDate(affiliateId).atTime(9, 0));
+            }
+            users.finish();
+        }
+        try (CopyBuffer roles = new CopyBuffer(connection, "COPY user_role (user_id, role_id) FROM STDIN")) {
+            for (long i = from; i < to; i++) {
+                roles.row(firstUserId + i, roleId);
+            }
+            roles.finish();
+        }
+        try (CopyBuffer rows = new CopyBuffer(connection,
+                "COPY affiliate (id, document, first_name, last_name, email, annual_income, registration_date, user_id) FROM STDIN")) {
+            for (long i = from; i < to; i++) {
+                long affiliateId = firstAffiliateId + i;
+                SplittableRandom random = profileRandom(affiliateId);
+                rows.row(affiliateId,
+                        "SD" + affiliateId,
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                        LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                        email(affiliateId),
+                        annualIncome(affiliateId),
+                        registrationDate(affiliateId),
+                        firstUserId + i);
+            }
+            rows.finish();
+        }
+    }
+
+    private void copyApplications(Connection connection, long from, long to, long affiliates,
+                                  long firstAffiliateId, long firstApplicationId) throws SQLException {
+        try (CopyBuffer rows = new CopyBuffer(connection,
+                "COPY credit_application (id, affiliate_id, requested_amount, term_months, application_date, status, risk_score, risk_level, review_required) FROM STDIN")) {
+            for (long i = from; i < to; i++) {
+                long applicationId = firstApplicationId + i;
+                SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + applicationId);
+
+                // Distribución sesgada: pocos afiliados concentran muchas solicitudes
+                long affiliateId = firstAffiliateId + Math.min(affiliates - 1, (long) (affiliates * Math.pow(random.nextDouble(), 1.6)));
+                LocalDate registered = registrationDate(affiliateId);
+
+                // Fechas entre el registro y hoy, más densas hacia el presente
+                long spanSeconds = Math.max(1, ChronoUnit.SECONDS.between(registered.atStartOfDay(), now));
+                LocalDateTime applicationDate = registered.atStartOfDay()
+                        .plusSeconds((long) (spanSeconds * Math.sqrt(random.nextDouble())));
+
+                BigDecimal amount = annualIncome(affiliateId)
+                        .multiply(BigDecimal.valueOf(amountRatio.sample(random)))
+                        .max(MIN_AMOUNT).min(MAX_AMOUNT)
+                        .setScale(2, RoundingMode.HALF_UP);
+
+                int term = term(random);
+                Integer score = null;
+                String status = "PENDIENTE";
+                String level = null;
+                boolean reviewRequired = false;
+                if (random.nextDouble() >= pendingRate) {
+                    score = (int) Math.round(Math.max(300, Math.min(850, scores.sample(random))));
+                    RiskDecision decision = rules.decide(score, amount.doubleValue(), term,
+                            annualIncome(affiliateId).doubleValue(),
+                            ChronoUnit.MONTHS.between(registered, applicationDate.toLocalDate()));
+                    status = decision.status().name();
+                    level = decision.riskLevel();
+                    reviewRequired = decision.reviewRequired();
+                }
+                rows.row(applicationId, affiliateId, amount, term, applicationDate, status, score, level,
+                        reviewRequired ? "t" : "f");
+            }
+            rows.finish();
+        }
+    }
+
+    /**
+     * Reconstruye el rollup de cartera y la exposición aprobada desde las solicitudes, cada uno en su transacción.
+     */
+    private void refreshCounters() throws SQLException {
+        try (Connection connection = connect()) {
+            SingleConnectionDataSource dataSource = new SingleConnectionDataSource(connection, true);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            System.out.println("Reconstruyendo el rollup de cartera...");
+            transaction.executeWithoutResult(status -> new PortfolioStatsAdapter(jdbcTemplate).reconcile());
+            System.out.println("Reconstruyendo la exposición aprobada por afiliado...");
+            transaction.executeWithoutResult(status -> new AffiliateExposureAdapter(jdbcTemplate).reconcile());
+        }
+    }
+
+    /**
+     * Crea las particiones mensuales del rango de fechas generado; sin ellas todo caería en la partición por defecto.
+     */
+    private void ensurePartitions(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ensure_credit_application_partition(?)")) {
+            for (LocalDate month = today.minusDays(Math.max(1, years * 365L)).withDayOfMonth(1); !month.isAfter(today);
+                 month = month.plusMonths(1)) {
+                statement.setDate(1, Date.valueOf(month));
+                statement.execute();
+            }
+        }
+    }
+
+    private SplittableRandom profileRandom(long affiliateId) {
+        return new SplittableRandom(seed * 0xBF58476D1CE4E5B9L + affiliateId);
+    }
+
+    private BigDecimal annualIncome(long affiliateId) {
+        SplittableRandom random = profileRandom(affiliateId).split();
+        return BigDecimal.valueOf(Math.max(1_000_000, Math.min(5_000_000_000.0, income.sample(random))))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private LocalDate registrationDate(long affiliateId) {
+        SplittableRandom random = profileRandom(affiliateId).split().split();
+        return today.minusDays(random.nextInt(Math.max(1, years * 365)));
+    }
+
+    private static String email(long affiliateId) {
+        return "sd" + affiliateId + "@synthetic.local";
+    }
+
+    private static int term(SplittableRandom random) {
+        int total = 0;
+        for (int weight : TERM_WEIGHTS) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < TERMS.length; i++) {
+            pick -= TERM_WEIGHTS[i];
+            if (pick < 0) {
+                return TERMS[i];
+            }
+        }
+        return TERMS[TERMS.length - 1];
+    }
+
+    /**
+     * Reparte {@code total} filas en bloques de {@code chunk} entre {@code threads} conexiones e informa el avance.
+     */
+    private void inParallel(String label, long total, RangeWriter writer) throws Exception {
+        if (total <= 0) {
+            return;
+        }
+        long chunk = settings.getLong("chunk");
+        int threads = settings.getInt("threads");
+        AtomicLong done = new AtomicLong();
+        long started = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        ThreadLocal<Connection> connections = new ThreadLocal<>();
+        List<Connection> opened = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (long from = 0; from < total; from += chunk) {
+                long start = from;
+                long end = Math.min(total, from + chunk);
+                futures.add(executor.submit(() -> {
+                    Connection connection = connections.get();
+                    if (connection == null) {
+                        connection = connect();
+                        try (Statement statement = connection.createStatement()) {
+                            // Carga reproducible: se puede repetir si falla, no requiere fsync por bloque
+                            statement.execute("SET synchronous_commit = off");
+                        }
+                        connections.set(connection);
+                        synchronized (opened) {
+                            opened.add(connection);
+                        }
+                    }
+                    writer.write(connection, start, end);
+                    long count = done.addAndGet(end - start);
+                    double seconds = (System.nanoTime() - started) / 1e9;
+                    System.out.printf("%s: %d/%d (%.0f filas/s)%n", label, count, total, count / seconds);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(settings.get("db.url"), settings.get("db.user"), settings.get("db.password"));
+    }
+
+    private static long affiliateRoleId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM role WHERE name = 'ROLE_AFILIADO'")) {
+            if (!rs.next()) {
+                throw new IllegalStateException("Rol ROLE_AFILIADO no encontrado; ¿se aplicaron las migraciones?");
+            }
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Avanza la secuencia de la tabla en {@code count} valores y retorna el primero del bloque reservado.
+     */
+    private static long reserveIds(Connection connection, String table, long count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval(pg_get_serial_sequence(?, 'id'))")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                long first = rs.getLong(1);
+                if (count > 1) {
+                    try (PreparedStatement advance = connection.prepareStatement(
+                            "SELECT setval(pg_get_serial_sequence(?, 'id'), ?)")) {
+                        advance.setString(1, table);
+                        advance.setLong(2, first + count - 1);
+                        advance.execute();
+                    }
+                }
+                return first;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeWriter {
+        void write(Connection connection, long from, long to) throws SQLException;
+    }
+}
@@ -0,0 +1,61 @@
+package com.riwi.coopcredit.loadtest;
+
+import java.math.BigDecimal;
+
+/**
+ * Afiliado simulado por la prueba de carga. El token se renueva con cada login exitoso.
+ */
+public class VirtualAffiliate {
+
+    private final String document;
+    private final String email;
+    private final String name;
+    private final String password;
+    private final BigDecimal annualIncome;
+    private volatile Long affiliateId;
+    private volatile String token;
+
+    public VirtualAffiliate(String document, String email, String name, String password, BigDecimal annualIncome) {
+        this.document = document;
+        this.email = email;
+        this.name = name;
+        this.password = password;
+        this.annualIncome = annualIncome;
+    }
+
+    public String getDocument() {
+        return document;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public BigDecimal getAnnualIncome() {
+        return annualIncome;
+    }
+
+    public Long getAffiliateId() {
+        return affiliateId;
+    }
+
+    public void setAffiliateId(Long affiliateId) {
+        this.affiliateId = affiliateId;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+}
@@ -0,0 +1,117 @@
+package com.riwi.coopcredit.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga con dos modelos:
+ * <ul>
+ *     <li><b>closed</b>: {@code concurrency} usuarios virtuales que envían la siguiente petición al recibir la
+ *     respuesta anterior (más una pausa opcional). El throughput lo define la latencia del sistema.</li>
+ *     <li><b>open</b>: llegadas a una tasa fija ({@code rate}/s, uniformes o Poisson) independientes de las
+ *     respuestas. La latencia se mide desde el instante programado, así la cola se refleja en los percentiles.</li>
+ * </ul>
+ */
+public class WorkloadGenerator {
+
+    private final Scenario scenario;
+    private final LoadReport report;
+    private final LoadTestSettings settings;
+    private volatile boolean running = true;
+
+    public WorkloadGenerator(Scenario scenario, LoadReport report, LoadTestSettings settings) {
+        this.scenario = scenario;
+        this.report = report;
+        this.settings = settings;
+    }
+
+    /**
+     * Ejecuta el calentamiento y la fase medida; retorna al terminar la duración configurada.
+     */
+    public void run() throws InterruptedException {
+        List<Thread> drivers = "open".equals(settings.get("model")) ? startOpen() : startClosed();
+
+        Duration warmup = settings.getDuration("warmup");
+        Duration duration = settings.getDuration("duration");
+        System.out.printf("Calentamiento %d s, medición %d s...%n", warmup.toSeconds(), duration.toSeconds());
+        Thread.sleep(warmup.toMillis());
+        report.startMeasuring();
+        Thread.sleep(duration.toMillis());
+        report.stopMeasuring();
+
+        running = false;
+        for (Thread driver : drivers) {
+            driver.join(TimeUnit.SECONDS.toMillis(35));
+        }
+    }
+
+    private List<Thread> startClosed() {
+        int concurrency = settings.getInt("concurrency");
+        long thinkNanos = settings.getDuration("think").toNanos();
+        List<Thread> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread user = new Thread(() -> {
+                while (running) {
+                    scenario.execute(scenario.nextOperation(), System.nanoTime());
+                    if (thinkNanos > 0) {
+                        LockSupport.parkNanos(thinkNanos);
+                    }
+                }
+            }, "loadtest-user-" + i);
+            user.setDaemon(true);
+            user.start();
+            users.add(user);
+        }
+        return users;
+    }
+
+    private List<Thread> startOpen() {
+        double rate = settings.getDouble("rate");
+        boolean poisson = "poisson".equals(settings.get("arrivals"));
+        int maxInFlight = settings.getInt("max-in-flight");
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService workers = Executors.newFixedThreadPool(maxInFlight, StubRiskServer.daemon("loadtest-worker"));
+        double meanIntervalNanos = 1e9 / rate;
+
+        Thread scheduler = new Thread(() -> {
+            long next = System.nanoTime();
+            while (running) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = next;
+                if (inFlight.tryAcquire()) {
+                    workers.execute(() -> {
+                        try {
+                            scenario.execute(scenario.nextOperation(), intendedStart);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } else {
+                    report.dropped();
+                }
+                next += poisson
+                        ? (long) (-meanIntervalNanos * Math.log(1.0 - ThreadLocalRandom.current().nextDouble()))
+                        : (long) meanIntervalNanos;
+            }
+            workers.shutdown();
+            try {
+                workers.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "loadtest-arrivals");
+        scheduler.setDaemon(true);
+        scheduler.start();
+        return List.of(scheduler);
+    }
+}
@@ -0,0 +1,136 @@
+package com.riwi.coopcredit.application.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV (RFC 4180) registro a registro, sin cargar el archivo en memoria.
+ * <p>
+ * Soporta campos entre comillas con separadores, saltos de línea y comillas escapadas ({@code ""}).
+ * El separador (coma o punto y coma) se detecta en el primer registro, ya que las exportaciones de
+ * Excel en español usan punto y coma.
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private char delimiter;
+    private boolean delimiterDetected;
+    private long line = 1;
+    private long recordLine;
+    private int pending = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    /**
+     * @return los campos del siguiente registro, o {@code null} al final del archivo
+     */
+    public List<String> readRecord() throws IOException {
+        if (!delimiterDetected) {
+            detectDelimiter();
+        }
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Comillas sin cerrar en el registro de la línea " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Línea del archivo (base 1) donde empieza el último registro leído.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private void detectDelimiter() throws IOException {
+        reader.mark(64 * 1024);
+        int commas = 0;
+        int semicolons = 0;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (c == ',') {
+                commas++;
+            } else if (c == ';') {
+                semicolons++;
+            }
+        }
+        reader.reset();
+        delimiter = semicolons > commas ? ';' : ',';
+        delimiterDetected = true;
+        // Omitir BOM de UTF-8 si existe
+        reader.mark(1);
+        if (reader.read() != '﻿') {
+            reader.reset();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,76 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.AmortizationQuote;
+import com.riwi.coopcredit.domain.model.AmortizationRow;
+import com.riwi.coopcredit.domain.model.AnnuityFactors;
+import com.riwi.coopcredit.domain.port.in.AmortizationUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Cuota fija (sistema francés) y plan de amortización. Los montos se redondean al centavo, mitad hacia arriba: los
+ * intereses de cada mes sobre el saldo y la cuota sobre el monto por el factor de anualidad. La última cuota absorbe
+ * la diferencia de redondeo para que el saldo termine exactamente en cero.
+ */
+@Service
+public class AmortizationUseCaseImpl implements AmortizationUseCase {
+
+    private static final int SCALE = 2;
+
+    private final AnnuityFactors factors;
+    private final BigDecimal defaultAnnualRate;
+    private final BigDecimal maxAmount;
+
+    public AmortizationUseCaseImpl(@Value("${amortization.annual-rates:12,18,24}") List<BigDecimal> annualRates,
+                                   @Value("${amortization.max-term-months:120}") int maxTermMonths,
+                                   @Value("${amortization.default-annual-rate:24}") BigDecimal defaultAnnualRate,
+                                   @Value("${amortization.max-amount:500000000}") BigDecimal maxAmount) {
+        this.factors = AnnuityFactors.precompute(annualRates, maxTermMonths);
+        this.defaultAnnualRate = defaultAnnualRate;
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    public AmortizationQuote quote(BigDecimal amount, Integer termMonths, BigDecimal annualRate) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new DomainException("El monto debe ser mayor que cero.");
+        }
+        // Antes de operar: un monto como 1E999999999 o con miles de decimales haría crecer sin límite los enteros
+        // internos de BigDecimal al redondear al centavo
+        if (amount.compareTo(maxAmount) > 0) {
+            throw new DomainException("El monto no puede superar " + maxAmount.toPlainString() + ".");
+        }
+        if (amount.scale() > SCALE) {
+            throw new DomainException("El monto admite como máximo " + SCALE + " decimales.");
+        }
+        if (termMonths == null) {
+            throw new DomainException("El plazo es obligatorio.");
+        }
+        BigDecimal rate = annualRate == null ? defaultAnnualRate : annualRate;
+        BigDecimal payment = amount.multiply(factors.factor(rate, termMonths)).setScale(SCALE, RoundingMode.HALF_UP);
+        return new AmortizationQuote(amount, termMonths, rate, factors.monthlyRateOf(rate), payment);
+    }
+
+    @Override
+    public void schedule(AmortizationQuote quote, Consumer<AmortizationRow> sink) {
+        BigDecimal balance = quote.amount().setScale(SCALE, RoundingMode.HALF_UP);
+        for (int number = 1; number <= quote.termMonths(); number++) {
+            BigDecimal interest = balance.multiply(quote.monthlyRate()).setScale(SCALE, RoundingMode.HALF_UP);
+            BigDecimal principal = quote.payment().subtract(interest);
+            if (number == quote.termMonths() || principal.compareTo(balance) > 0) {
+                principal = balance;
+            }
+            balance = balance.subtract(principal);
+            sink.accept(new AmortizationRow(number, principal.add(interest), interest, principal, balance));
+            if (balance.signum() == 0) {
+                return;
+            }
+        }
+    }
+}
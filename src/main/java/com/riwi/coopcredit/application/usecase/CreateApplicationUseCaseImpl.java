@@ -1,35 +1,68 @@
 package com.riwi.coopcredit.application.usecase;
 
 import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.exception.DuplicateApplicationException;
 import com.riwi.coopcredit.domain.model.Affiliate;
 import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.DuplicateHandling;
+import com.riwi.coopcredit.domain.model.RiskDecision;
 import com.riwi.coopcredit.domain.port.in.CreateApplicationUseCase;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
 import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort; // Necesitas crear este puerto
+import com.riwi.coopcredit.domain.port.out.DecisionRulesPort;
+import com.riwi.coopcredit.domain.port.out.DuplicateApplicationPort;
+import com.riwi.coopcredit.domain.port.out.PendingApplicationPort;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
 import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
-import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
 
+@Slf4j
 @Service
 public class CreateApplicationUseCaseImpl implements CreateApplicationUseCase {
 
     private final AffiliateRepositoryPort repo;
     private final CreditApplicationRepositoryPort applicationRepositoryPort; // <- ¡Nuevo Puerto!
     private final RiskExternalPort riskExternalPort;
+    private final PortfolioStatsPort portfolioStatsPort;
+    private final DuplicateApplicationPort duplicateApplicationPort;
+    private final DecisionRulesPort decisionRulesPort;
+    private final AffiliateExposurePort affiliateExposurePort;
+    private final PendingApplicationPort pendingApplicationPort;
+    private final DuplicateHandling duplicateHandling;
 
-    public CreateApplicationUseCaseImpl(AffiliateRepositoryPort repo, CreditApplicationRepositoryPort applicationRepositoryPort, RiskExternalPort riskExternalPort) {
+    public CreateApplicationUseCaseImpl(AffiliateRepositoryPort repo, CreditApplicationRepositoryPort applicationRepositoryPort, RiskExternalPort riskExternalPort,
+                                        PortfolioStatsPort portfolioStatsPort, DuplicateApplicationPort duplicateApplicationPort,
+                                        DecisionRulesPort decisionRulesPort, AffiliateExposurePort affiliateExposurePort,
+                                        PendingApplicationPort pendingApplicationPort,
+                                        @Value("${applications.duplicates.handling:REJECT}") DuplicateHandling duplicateHandling) {
         this.repo = repo;
         this.applicationRepositoryPort = applicationRepositoryPort;
         this.riskExternalPort = riskExternalPort;
+        this.portfolioStatsPort = portfolioStatsPort;
+        this.duplicateApplicationPort = duplicateApplicationPort;
+        this.decisionRulesPort = decisionRulesPort;
+        this.affiliateExposurePort = affiliateExposurePort;
+        this.pendingApplicationPort = pendingApplicationPort;
+        this.duplicateHandling = Objects.requireNonNullElse(duplicateHandling, DuplicateHandling.REJECT);
     }
 
     @Override
     @Transactional
     public CreditApplication create(Long affiliateId, BigDecimal amount, Integer term) {
 
+        // 0. Un envío idéntico reciente no consume otra consulta de riesgo ni otra fila
+        if (duplicateApplicationPort.isDuplicate(affiliateId, amount, term)) {
+            return handleDuplicate(affiliateId, amount, term);
+        }
+
         // 1. Buscar Afiliado
         Affiliate affiliate = repo.findById(affiliateId)
                 .orElseThrow(() -> new DomainException("Afiliado con ID " + affiliateId + " no encontrado."));
@@ -43,34 +76,65 @@ public class CreateApplicationUseCaseImpl implements CreateApplicationUseCase {
 
         // 4. Llamar al Servicio de Riesgo (Puerto de Salida)
         // Convertimos BigDecimal a Double para la llamada externa (asumiendo que el mock lo pide así)
-        Integer riskScore = riskExternalPort.getRiskScore(
-                affiliate.getDocument(),
-                amount.doubleValue(),
-                term
-        );
-
-        // 5. Evaluar y determinar el estado (Lógica de Negocio de CoopCredit)
-        ApplicationStatus finalStatus;
-        String riskLevel;
-
-        if (riskScore >= 700) {
-            finalStatus = ApplicationStatus.APROBADA;
-            riskLevel = "BAJO RIESGO";
-        } else if (riskScore >= 500) {
-            // Un riesgo medio puede ser aprobado si el monto es bajo, pero por simplicidad:
-            finalStatus = ApplicationStatus.APROBADA;
-            riskLevel = "MEDIO RIESGO";
-        } else {
-            finalStatus = ApplicationStatus.RECHAZADA;
-            riskLevel = "ALTO RIESGO";
+        Integer riskScore;
+        try {
+            riskScore = riskExternalPort.getRiskScore(
+                    affiliate.getDocument(),
+                    amount.doubleValue(),
+                    term
+            );
+        } catch (RuntimeException e) {
+            // 4b. Sin puntaje la solicitud se guarda PENDIENTE con el intento fallido registrado; la decide
+            // PendingApplicationRescoringJob cuando venza la espera. Lanzar aquí revertiría la fila y el job no la vería
+            log.warn("No fue posible puntuar la solicitud {}; queda pendiente de re-puntaje: {}",
+                    savedApplication.getId(), e.getMessage());
+            pendingApplicationPort.scheduleRetry(savedApplication);
+            return record(savedApplication);
         }
 
-        // 6. Actualizar el Modelo de Dominio con los resultados
-        savedApplication.setStatus(finalStatus);
+        // 5. Evaluar y determinar el estado con la tabla de decisión vigente (puntaje, cuota/ingreso, monto, plazo,
+        // antigüedad del afiliado y su deuda ya aprobada sobre el ingreso: una lectura por llave primaria). La
+        // exposición queda bloqueada hasta el commit, después del servicio de riesgo: otra solicitud del mismo
+        // afiliado espera aquí y decide con el monto que esta apruebe
+        RiskDecision decision = decisionRulesPort.current().decide(riskScore, amount, term, affiliate.getAnnualIncome(),
+                affiliate.getRegistrationDate(), LocalDate.now(), affiliateExposurePort.lockApprovedAmount(affiliateId));
+
+        // 6. Actualizar el Modelo de Dominio con los resultados. El riesgo medio queda en la cola de revisión de analistas
+        savedApplication.setStatus(decision.status());
         savedApplication.setRiskScore(riskScore);
-        savedApplication.setRiskLevel(riskLevel);
+        savedApplication.setRiskLevel(decision.riskLevel());
+        savedApplication.setReviewRequired(decision.reviewRequired());
 
         // 7. Persistir la solicitud actualizada
-        return applicationRepositoryPort.save(savedApplication);
+        CreditApplication decided = applicationRepositoryPort.save(savedApplication);
+
+        // 8. Sumar la decisión al rollup de cartera y, si se aprobó, a la exposición del afiliado
+        return record(decided);
+    }
+
+    /**
+     * Misma transacción que la solicitud: si algo falla, no se cuenta. Una solicitud PENDIENTE también entra al
+     * rollup; el re-puntaje la mueve luego a la celda de su decisión.
+     */
+    private CreditApplication record(CreditApplication application) {
+        portfolioStatsPort.record(application);
+        affiliateExposurePort.record(application);
+        duplicateApplicationPort.remember(application);
+        return application;
+    }
+
+    /**
+     * En modo FOLD responde con la solicitud anterior; si no se encuentra (o en modo REJECT) se rechaza.
+     */
+    private CreditApplication handleDuplicate(Long affiliateId, BigDecimal amount, Integer term) {
+        if (duplicateHandling == DuplicateHandling.FOLD) {
+            CreditApplication earlier = duplicateApplicationPort.findRecent(affiliateId, amount, term)
+                    .flatMap(applicationRepositoryPort::findById)
+                    .orElseThrow(() -> new DuplicateApplicationException(affiliateId));
+            // La persistencia no carga la relación; el afiliado suele estar en cache
+            repo.findById(affiliateId).ifPresent(earlier::setAffiliate);
+            return earlier;
+        }
+        throw new DuplicateApplicationException(affiliateId);
     }
 }
\ No newline at end of file
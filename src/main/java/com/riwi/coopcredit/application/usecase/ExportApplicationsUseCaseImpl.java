@@ -0,0 +1,24 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.model.ApplicationExportFilter;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+import com.riwi.coopcredit.domain.port.in.ExportApplicationsUseCase;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationExportPort;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportApplicationsUseCaseImpl implements ExportApplicationsUseCase {
+
+    private final CreditApplicationExportPort exportPort;
+
+    public ExportApplicationsUseCaseImpl(CreditApplicationExportPort exportPort) {
+        this.exportPort = exportPort;
+    }
+
+    @Override
+    public long export(ApplicationExportFilter filter, Consumer<ApplicationExportRow> sink) {
+        return exportPort.stream(filter, sink);
+    }
+}
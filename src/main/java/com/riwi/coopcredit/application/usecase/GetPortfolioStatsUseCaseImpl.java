@@ -0,0 +1,45 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.PortfolioStats;
+import com.riwi.coopcredit.domain.model.PortfolioStatsCell;
+import com.riwi.coopcredit.domain.model.PortfolioTotals;
+import com.riwi.coopcredit.domain.port.in.GetPortfolioStatsUseCase;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class GetPortfolioStatsUseCaseImpl implements GetPortfolioStatsUseCase {
+
+    private final PortfolioStatsPort statsPort;
+
+    public GetPortfolioStatsUseCaseImpl(PortfolioStatsPort statsPort) {
+        this.statsPort = statsPort;
+    }
+
+    @Override
+    public PortfolioStats getStats(YearMonth from, YearMonth to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DomainException("El mes inicial no puede ser posterior al mes final.");
+        }
+
+        // El rollup tiene a lo sumo meses x estados x niveles celdas: el costo no depende del volumen de solicitudes
+        PortfolioTotals total = PortfolioTotals.EMPTY;
+        Map<ApplicationStatus, PortfolioTotals> byStatus = new EnumMap<>(ApplicationStatus.class);
+        Map<String, PortfolioTotals> byRiskLevel = new TreeMap<>();
+        Map<YearMonth, PortfolioTotals> byMonth = new TreeMap<>();
+        for (PortfolioStatsCell cell : statsPort.find(from, to)) {
+            total = total.add(cell);
+            byStatus.merge(cell.status(), PortfolioTotals.EMPTY.add(cell), (current, ignored) -> current.add(cell));
+            byRiskLevel.merge(cell.riskLevel(), PortfolioTotals.EMPTY.add(cell), (current, ignored) -> current.add(cell));
+            byMonth.merge(cell.month(), PortfolioTotals.EMPTY.add(cell), (current, ignored) -> current.add(cell));
+        }
+        return new PortfolioStats(total, byStatus, byRiskLevel, byMonth);
+    }
+}
@@ -0,0 +1,164 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.application.csv.CsvReader;
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.AffiliateImportResult;
+import com.riwi.coopcredit.domain.port.in.ImportAffiliatesUseCase;
+import com.riwi.coopcredit.domain.port.out.AffiliateBulkImportPort;
+import com.riwi.coopcredit.domain.port.out.ImportErrorReportPort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Service
+public class ImportAffiliatesUseCaseImpl implements ImportAffiliatesUseCase {
+
+    static final List<String> REQUIRED_COLUMNS = List.of("document", "first_name", "last_name", "email", "annual_income");
+    static final String REGISTRATION_DATE = "registration_date";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    // Límites de las columnas de la tabla affiliate: una fila que no cabe abortaría la carga completa
+    private static final int MAX_DOCUMENT = 20;
+    private static final int MAX_TEXT = 100;
+    private static final int MAX_INCOME_INTEGER_DIGITS = 13;
+
+    private final AffiliateBulkImportPort bulkImportPort;
+    private final ImportErrorReportPort errorReportPort;
+
+    public ImportAffiliatesUseCaseImpl(AffiliateBulkImportPort bulkImportPort, ImportErrorReportPort errorReportPort) {
+        this.bulkImportPort = bulkImportPort;
+        this.errorReportPort = errorReportPort;
+    }
+
+    /**
+     * Lee el CSV registro a registro: las filas válidas pasan al área temporal de carga y las inválidas al
+     * reporte de errores, así la memoria usada no depende del tamaño del archivo.
+     */
+    @Override
+    public AffiliateImportResult importAffiliates(InputStream csv) {
+        String importId = UUID.randomUUID().toString();
+        long totalRows = 0;
+        long imported;
+        long rejected;
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+             ImportErrorReportPort.ErrorReport errors = errorReportPort.create(importId);
+             AffiliateBulkImportPort.Batch batch = bulkImportPort.begin()) {
+
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new DomainException("El archivo CSV está vacío.");
+            }
+            Map<String, Integer> columns = resolveColumns(header);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue; // Línea vacía
+                }
+                totalRows++;
+                long line = reader.getRecordLine();
+                try {
+                    batch.stage(line, toAffiliate(record, columns));
+                } catch (DomainException e) {
+                    errors.reject(line, field(record, columns, "document"), e.getMessage());
+                }
+            }
+
+            imported = batch.merge(errors::reject);
+            rejected = errors.count();
+        } catch (IOException e) {
+            throw new DomainException("No fue posible leer el archivo CSV: " + e.getMessage());
+        }
+
+        return new AffiliateImportResult(importId, totalRows, imported, rejected);
+    }
+
+    @Override
+    public Optional<InputStream> openErrors(String importId) {
+        return errorReportPort.open(importId);
+    }
+
+    private Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new DomainException("Falta la columna obligatoria '" + required + "'. Columnas esperadas: "
+                        + String.join(",", REQUIRED_COLUMNS) + "[," + REGISTRATION_DATE + "]");
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Valida la fila y construye el afiliado; el constructor aplica las mismas reglas de dominio que el registro.
+     */
+    private Affiliate toAffiliate(List<String> record, Map<String, Integer> columns) {
+        String document = required(record, columns, "document", MAX_DOCUMENT);
+        String firstName = required(record, columns, "first_name", MAX_TEXT);
+        String lastName = required(record, columns, "last_name", MAX_TEXT);
+        String email = required(record, columns, "email", MAX_TEXT);
+        if (!EMAIL.matcher(email).matches()) {
+            throw new DomainException("El formato del email es inválido.");
+        }
+
+        BigDecimal annualIncome;
+        try {
+            annualIncome = new BigDecimal(required(record, columns, "annual_income", MAX_TEXT));
+        } catch (NumberFormatException e) {
+            throw new DomainException("El salario anual no es un número válido.");
+        }
+        if (annualIncome.precision() - annualIncome.scale() > MAX_INCOME_INTEGER_DIGITS) {
+            throw new DomainException("El salario anual excede el valor máximo permitido.");
+        }
+
+        LocalDate registrationDate = LocalDate.now();
+        String rawDate = field(record, columns, REGISTRATION_DATE);
+        if (rawDate != null && !rawDate.isBlank()) {
+            try {
+                registrationDate = LocalDate.parse(rawDate.trim());
+            } catch (DateTimeParseException e) {
+                throw new DomainException("La fecha de registro debe tener formato AAAA-MM-DD.");
+            }
+            if (registrationDate.isAfter(LocalDate.now())) {
+                throw new DomainException("La fecha de registro no puede ser futura.");
+            }
+        }
+
+        return new Affiliate(null, document, firstName, lastName, email, annualIncome.doubleValue(), registrationDate, null);
+    }
+
+    private static String required(List<String> record, Map<String, Integer> columns, String column, int maxLength) {
+        String value = field(record, columns, column);
+        if (value == null || value.isBlank()) {
+            throw new DomainException("El campo " + column + " es obligatorio.");
+        }
+        value = value.trim();
+        if (value.length() > maxLength) {
+            throw new DomainException("El campo " + column + " supera los " + maxLength + " caracteres.");
+        }
+        return value;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= record.size() ? null : record.get(index);
+    }
+}
@@ -0,0 +1,98 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.PreQualification;
+import com.riwi.coopcredit.domain.model.RiskDecision;
+import com.riwi.coopcredit.domain.port.in.PreQualifyUseCase;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.DecisionRulesPort;
+import com.riwi.coopcredit.domain.port.out.RiskEstimatePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Pre-calificación de solo lectura: misma tabla de decisión que {@link CreateApplicationUseCaseImpl}, pero con el
+ * puntaje estimado en proceso y sin escribir nada (ni solicitud, ni rollup, ni registro de duplicados). La exposición
+ * aprobada del afiliado se lee una vez por consulta (una fila por llave primaria) para que la regla de endeudamiento
+ * total coincida con la de la creación; con el afiliado y su perfil de riesgo en cache es la única consulta a la base
+ * y no se llama al servicio externo.
+ */
+@Service
+public class PreQualifyUseCaseImpl implements PreQualifyUseCase {
+
+    private final AffiliateRepositoryPort repo;
+    private final RiskEstimatePort riskEstimatePort;
+    private final DecisionRulesPort decisionRulesPort;
+    private final AffiliateExposurePort affiliateExposurePort;
+    private final long amountStep;
+    private final long maxAmount;
+
+    public PreQualifyUseCaseImpl(AffiliateRepositoryPort repo, RiskEstimatePort riskEstimatePort,
+                                 DecisionRulesPort decisionRulesPort, AffiliateExposurePort affiliateExposurePort,
+                                 @Value("${prequalification.amount-step:100000}") long amountStep,
+                                 @Value("${prequalification.max-amount:500000000}") long maxAmount) {
+        if (amountStep <= 0 || maxAmount < amountStep) {
+            throw new IllegalArgumentException("prequalification.amount-step debe ser positivo y no mayor que max-amount.");
+        }
+        this.repo = repo;
+        this.riskEstimatePort = riskEstimatePort;
+        this.decisionRulesPort = decisionRulesPort;
+        this.affiliateExposurePort = affiliateExposurePort;
+        this.amountStep = amountStep;
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    public PreQualification preQualify(Long affiliateId, BigDecimal amount, Integer term) {
+        Affiliate affiliate = repo.findById(affiliateId)
+                .orElseThrow(() -> new DomainException("Afiliado con ID " + affiliateId + " no encontrado."));
+
+        // Una sola lectura de la tabla vigente, la antigüedad y la exposición para todas las evaluaciones de esta consulta
+        DecisionRules rules = decisionRulesPort.current();
+        String document = affiliate.getDocument();
+        double annualIncome = affiliate.getAnnualIncome() == null ? 0 : affiliate.getAnnualIncome();
+        long seniorityMonths = affiliate.getRegistrationDate() == null
+                ? 0 : ChronoUnit.MONTHS.between(affiliate.getRegistrationDate(), LocalDate.now());
+        BigDecimal approved = affiliateExposurePort.findApprovedAmount(affiliateId);
+        double approvedExposure = approved == null ? 0 : approved.doubleValue();
+
+        int riskScore = riskEstimatePort.estimateRiskScore(document, amount.doubleValue(), term);
+        RiskDecision decision = rules.decide(riskScore, amount.doubleValue(), term, annualIncome, seniorityMonths,
+                approvedExposure);
+
+        return new PreQualification(riskScore, decision.status(), decision.riskLevel(), decision.reviewRequired(),
+                BigDecimal.valueOf(maxApprovableAmount(rules, document, term, annualIncome, seniorityMonths,
+                        approvedExposure)));
+    }
+
+    /**
+     * Mayor múltiplo de {@code amountStep} hasta {@code maxAmount} que quedaría APROBADA (con o sin revisión), o 0.
+     * Supone que subir el monto nunca mejora la decisión (la cuota pesa en contra en el puntaje y en las reglas), así
+     * que una búsqueda binaria basta: unas 12 evaluaciones con los valores por defecto.
+     */
+    private long maxApprovableAmount(DecisionRules rules, String document, int term, double annualIncome,
+                                     long seniorityMonths, double approvedExposure) {
+        long lo = 0; // En pasos: lo siempre es aprobable (0 = nada)
+        long hi = maxAmount / amountStep;
+        while (lo < hi) {
+            long mid = (lo + hi + 1) >>> 1;
+            double candidate = (double) (mid * amountStep);
+            int score = riskEstimatePort.estimateRiskScore(document, candidate, term);
+            if (rules.decide(score, candidate, term, annualIncome, seniorityMonths, approvedExposure).status()
+                    == ApplicationStatus.APROBADA) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo * amountStep;
+    }
+}
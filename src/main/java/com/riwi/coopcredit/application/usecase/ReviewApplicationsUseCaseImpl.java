@@ -0,0 +1,81 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.ReviewBatch;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+import com.riwi.coopcredit.domain.model.ReviewOutcome;
+import com.riwi.coopcredit.domain.port.in.ReviewApplicationsUseCase;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import com.riwi.coopcredit.domain.port.out.ReviewQueuePort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ReviewApplicationsUseCaseImpl implements ReviewApplicationsUseCase {
+
+    private static final int DEFAULT_BATCH_SIZE = 10;
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final int MAX_DECISION_ITEMS = 200;
+
+    private final ReviewQueuePort reviewQueuePort;
+    private final PortfolioStatsPort portfolioStatsPort;
+    private final AffiliateExposurePort affiliateExposurePort;
+
+    public ReviewApplicationsUseCaseImpl(ReviewQueuePort reviewQueuePort, PortfolioStatsPort portfolioStatsPort,
+                                         AffiliateExposurePort affiliateExposurePort) {
+        this.reviewQueuePort = reviewQueuePort;
+        this.portfolioStatsPort = portfolioStatsPort;
+        this.affiliateExposurePort = affiliateExposurePort;
+    }
+
+    @Override
+    public ReviewBatch claim(String reviewer, Integer size) {
+        int batchSize = size == null ? DEFAULT_BATCH_SIZE : size;
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new DomainException("El tamaño del lote debe estar entre 1 y " + MAX_BATCH_SIZE + ".");
+        }
+        return reviewQueuePort.claim(reviewer, batchSize);
+    }
+
+    @Override
+    @Transactional
+    public ReviewOutcome decide(String reviewer, ApplicationStatus decision, List<ReviewItem> items) {
+        if (decision != ApplicationStatus.APROBADA && decision != ApplicationStatus.RECHAZADA) {
+            throw new DomainException("La decisión debe ser APROBADA o RECHAZADA.");
+        }
+        if (items == null || items.isEmpty() || items.size() > MAX_DECISION_ITEMS) {
+            throw new DomainException("Se deben decidir entre 1 y " + MAX_DECISION_ITEMS + " solicitudes a la vez.");
+        }
+        if (items.stream().map(ReviewItem::applicationId).distinct().count() != items.size()) {
+            throw new DomainException("Una solicitud no puede aparecer dos veces en la misma decisión.");
+        }
+
+        // 1. Decidir las solicitudes que el analista mantiene reclamadas con la versión que recibió
+        List<ApplicationStatusChange> changes = reviewQueuePort.decide(reviewer, decision, items);
+
+        // 2. Mover en el rollup y en la exposición de cada afiliado las que cambiaron de estado (misma transacción)
+        List<ApplicationStatusChange> moved = changes.stream()
+                .filter(change -> change.previousStatus() != change.status()
+                        || !Objects.equals(change.previousRiskLevel(), change.riskLevel()))
+                .toList();
+        if (!moved.isEmpty()) {
+            portfolioStatsPort.recordChanges(moved);
+            affiliateExposurePort.recordChanges(moved);
+        }
+
+        Set<Long> decided = changes.stream().map(ApplicationStatusChange::applicationId).collect(Collectors.toSet());
+        Map<Boolean, List<Long>> outcome = items.stream()
+                .map(ReviewItem::applicationId)
+                .collect(Collectors.partitioningBy(decided::contains));
+        return new ReviewOutcome(outcome.get(true), outcome.get(false));
+    }
+}
@@ -0,0 +1,59 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.AffiliateSearchCursor;
+import com.riwi.coopcredit.domain.model.AffiliateSearchHit;
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+import com.riwi.coopcredit.domain.port.in.SearchAffiliatesUseCase;
+import com.riwi.coopcredit.domain.port.out.AffiliateSearchPort;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class SearchAffiliatesUseCaseImpl implements SearchAffiliatesUseCase {
+
+    // Un fragmento de menos de 3 caracteres no produce trigramas y obligaría a recorrer el índice completo
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final int MAX_TERMS = 5;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AffiliateSearchPort searchPort;
+
+    public SearchAffiliatesUseCaseImpl(AffiliateSearchPort searchPort) {
+        this.searchPort = searchPort;
+    }
+
+    @Override
+    public AffiliateSearchPage search(String query, String after, Integer size) {
+        String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ");
+        List<String> terms = Arrays.stream(normalized.split(" "))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            throw new DomainException("La búsqueda requiere al menos un término de " + MIN_TERM_LENGTH + " caracteres.");
+        }
+        if (terms.size() > MAX_TERMS) {
+            throw new DomainException("La búsqueda admite como máximo " + MAX_TERMS + " términos.");
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new DomainException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE + ".");
+        }
+        AffiliateSearchCursor cursor = after == null || after.isBlank() ? null : AffiliateSearchCursor.decode(after);
+
+        // Se pide una fila de más para saber si existe una página siguiente
+        AffiliateSearchPage page = searchPort.search(normalized, terms, cursor, pageSize + 1);
+        List<AffiliateSearchHit> hits = page.hits();
+        if (hits.size() <= pageSize) {
+            return new AffiliateSearchPage(hits, null, page.truncated());
+        }
+        List<AffiliateSearchHit> current = hits.subList(0, pageSize);
+        return new AffiliateSearchPage(List.copyOf(current),
+                AffiliateSearchCursor.of(current.get(pageSize - 1)).encode(), page.truncated());
+    }
+}
@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.domain.exception;
+
+/**
+ * El afiliado ya envió una solicitud con el mismo monto y plazo dentro de la ventana de duplicados.
+ */
+public class DuplicateApplicationException extends DomainException {
+    public DuplicateApplicationException(Long affiliateId) {
+        super("El afiliado " + affiliateId + " ya envió una solicitud idéntica hace poco. Espere antes de repetirla.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.riwi.coopcredit.domain.exception;
+
+/**
+ * La solicitud cambió desde que se leyó (su versión ya no coincide). Quien la actualiza debe volver a leerla y
+ * decidir de nuevo; los procesos automáticos reintentan, las acciones de un usuario se rechazan.
+ */
+public class StaleApplicationException extends DomainException {
+    public StaleApplicationException(Long applicationId) {
+        super("La solicitud " + applicationId + " fue modificada por otro proceso. Consúltela de nuevo.");
+    }
+}
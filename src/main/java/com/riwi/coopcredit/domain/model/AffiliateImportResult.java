@@ -0,0 +1,39 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Resumen de una importación masiva de afiliados.
+ */
+public class AffiliateImportResult {
+
+    private final String importId;
+    private final long totalRows;
+    private final long imported;
+    private final long rejected;
+
+    public AffiliateImportResult(String importId, long totalRows, long imported, long rejected) {
+        this.importId = importId;
+        this.totalRows = totalRows;
+        this.imported = imported;
+        this.rejected = rejected;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public boolean hasRejections() {
+        return rejected > 0;
+    }
+}
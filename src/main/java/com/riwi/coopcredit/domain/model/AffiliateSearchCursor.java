@@ -0,0 +1,33 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posición de la última fila entregada en el orden (rango descendente, id ascendente). Viaja al cliente
+ * como texto opaco y la página siguiente continúa desde ella sin OFFSET.
+ */
+public record AffiliateSearchCursor(float rank, long id) {
+
+    public static AffiliateSearchCursor of(AffiliateSearchHit hit) {
+        return new AffiliateSearchCursor(hit.rank(), hit.id());
+    }
+
+    public String encode() {
+        String raw = Float.toString(rank) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static AffiliateSearchCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            return new AffiliateSearchCursor(Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DomainException("El cursor de búsqueda no es válido.");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Afiliado encontrado por la búsqueda parcial, con la similitud (0 a 1) entre la consulta y su mejor campo.
+ */
+public record AffiliateSearchHit(
+        Long id,
+        String document,
+        String firstName,
+        String lastName,
+        String email,
+        float rank) {
+}
@@ -0,0 +1,13 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resultados de la búsqueda de afiliados.
+ *
+ * @param nextCursor cursor para pedir la página siguiente; {@code null} en la última
+ * @param truncated  la consulta coincidió con más de {@code max-candidates} afiliados y solo se listan los que
+ *                   superan el umbral de similitud
+ */
+public record AffiliateSearchPage(List<AffiliateSearchHit> hits, String nextCursor, boolean truncated) {
+}
@@ -0,0 +1,11 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Cuota fija mensual de un crédito por {@code amount} a {@code termMonths} meses con tasa nominal anual
+ * {@code annualRate} (en porcentaje, mes vencido). La última cuota del plan puede diferir unos centavos por redondeo.
+ */
+public record AmortizationQuote(BigDecimal amount, int termMonths, BigDecimal annualRate, BigDecimal monthlyRate,
+                                BigDecimal payment) {
+}
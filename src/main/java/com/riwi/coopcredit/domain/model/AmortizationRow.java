@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Cuota {@code number} de un plan de amortización: pago, intereses y abono a capital del mes, y saldo tras pagarla.
+ */
+public record AmortizationRow(int number, BigDecimal payment, BigDecimal interest, BigDecimal principal,
+                              BigDecimal balance) {
+}
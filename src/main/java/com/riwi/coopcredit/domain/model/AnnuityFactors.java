@@ -0,0 +1,109 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Factores de anualidad {@code r / (1 - (1 + r)^-n)} por tasa y plazo: la cuota fija es el monto por el factor.
+ * <p>
+ * Los factores de las tasas configuradas se calculan al construir la tabla para todos los plazos hasta
+ * {@code maxTermMonths}, así que cotizar con ellas es una búsqueda y una multiplicación. Otras tasas se calculan en
+ * el momento con la misma fórmula y precisión, por lo que el resultado no depende de si la tasa estaba en la tabla.
+ */
+public final class AnnuityFactors {
+
+    // 34 dígitos para las potencias; se guardan 20, más que suficientes para redondear cuotas al centavo
+    static final MathContext WORK = MathContext.DECIMAL128;
+    private static final MathContext STORED = new MathContext(20, RoundingMode.HALF_EVEN);
+    private static final BigDecimal MONTHS_PERCENT = BigDecimal.valueOf(1200);
+    private static final BigDecimal MAX_ANNUAL_RATE = BigDecimal.valueOf(100);
+
+    private final int maxTermMonths;
+    private final Map<BigDecimal, Rate> byRate;
+
+    private AnnuityFactors(int maxTermMonths, Map<BigDecimal, Rate> byRate) {
+        this.maxTermMonths = maxTermMonths;
+        this.byRate = byRate;
+    }
+
+    public static AnnuityFactors precompute(Collection<BigDecimal> annualRates, int maxTermMonths) {
+        if (maxTermMonths < 1) {
+            throw new DomainException("El plazo máximo de la tabla de factores debe ser al menos 1 mes.");
+        }
+        Map<BigDecimal, Rate> byRate = new HashMap<>();
+        for (BigDecimal annualRate : annualRates) {
+            validateRate(annualRate);
+            BigDecimal[] factors = new BigDecimal[maxTermMonths + 1];
+            for (int term = 1; term <= maxTermMonths; term++) {
+                factors[term] = compute(annualRate, term);
+            }
+            byRate.put(key(annualRate), new Rate(monthlyRate(annualRate), factors));
+        }
+        return new AnnuityFactors(maxTermMonths, byRate);
+    }
+
+    public int maxTermMonths() {
+        return maxTermMonths;
+    }
+
+    public boolean isPrecomputed(BigDecimal annualRate) {
+        return byRate.containsKey(key(annualRate));
+    }
+
+    /**
+     * Factor para la tasa nominal anual (porcentaje) y el plazo; de la tabla si la tasa está precalculada.
+     */
+    public BigDecimal factor(BigDecimal annualRate, int termMonths) {
+        if (termMonths < 1 || termMonths > maxTermMonths) {
+            throw new DomainException("El plazo debe estar entre 1 y " + maxTermMonths + " meses.");
+        }
+        Rate rate = byRate.get(key(annualRate));
+        if (rate != null) {
+            return rate.factors()[termMonths];
+        }
+        validateRate(annualRate);
+        return compute(annualRate, termMonths);
+    }
+
+    /**
+     * Tasa mensual (fracción) equivalente a la tasa nominal anual en porcentaje: {@code annualRate / 1200}. También
+     * sale de la tabla si la tasa está precalculada; dividir con 34 dígitos cuesta más que la cotización entera.
+     */
+    public BigDecimal monthlyRateOf(BigDecimal annualRate) {
+        Rate rate = byRate.get(key(annualRate));
+        return rate != null ? rate.monthlyRate() : monthlyRate(annualRate);
+    }
+
+    static BigDecimal monthlyRate(BigDecimal annualRate) {
+        return annualRate.divide(MONTHS_PERCENT, WORK);
+    }
+
+    static BigDecimal compute(BigDecimal annualRate, int termMonths) {
+        BigDecimal rate = monthlyRate(annualRate);
+        if (rate.signum() == 0) {
+            return BigDecimal.ONE.divide(BigDecimal.valueOf(termMonths), STORED);
+        }
+        BigDecimal growth = BigDecimal.ONE.add(rate).pow(termMonths, WORK);
+        return rate.multiply(growth, WORK).divide(growth.subtract(BigDecimal.ONE), STORED);
+    }
+
+    private static void validateRate(BigDecimal annualRate) {
+        if (annualRate == null || annualRate.signum() < 0 || annualRate.compareTo(MAX_ANNUAL_RATE) > 0) {
+            throw new DomainException("La tasa anual debe estar entre 0 y 100 por ciento.");
+        }
+    }
+
+    private record Rate(BigDecimal monthlyRate, BigDecimal[] factors) {
+    }
+
+    // 24, 24.0 y 24.00 son la misma tasa
+    private static BigDecimal key(BigDecimal annualRate) {
+        return annualRate == null ? null : annualRate.stripTrailingZeros();
+    }
+}
@@ -0,0 +1,45 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Criterios de exportación de solicitudes. Las fechas son inclusivas y opcionales;
+ * sin estados se exportan todos.
+ */
+public class ApplicationExportFilter {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Set<ApplicationStatus> statuses;
+
+    public ApplicationExportFilter(LocalDate from, LocalDate to, Set<ApplicationStatus> statuses) {
+        this.from = from;
+        this.to = to;
+        this.statuses = statuses == null || statuses.isEmpty()
+                ? EnumSet.noneOf(ApplicationStatus.class)
+                : EnumSet.copyOf(statuses);
+        this.validate();
+    }
+
+    private void validate() {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DomainException("La fecha inicial no puede ser posterior a la fecha final.");
+        }
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public Set<ApplicationStatus> getStatuses() {
+        return statuses;
+    }
+}
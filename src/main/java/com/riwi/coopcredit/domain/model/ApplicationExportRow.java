@@ -0,0 +1,25 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Fila plana de la exportación de solicitudes (solicitud + datos del afiliado).
+ */
+public record ApplicationExportRow(
+        Long applicationId,
+        LocalDateTime applicationDate,
+        ApplicationStatus status,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        Integer riskScore,
+        String riskLevel,
+        Long affiliateId,
+        String document,
+        String firstName,
+        String lastName,
+        String email,
+        BigDecimal annualIncome,
+        LocalDate registrationDate) {
+}
@@ -0,0 +1,19 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Cambio de estado y nivel de riesgo de una solicitud ya contada en el rollup de cartera y en la exposición del
+ * afiliado.
+ */
+public record ApplicationStatusChange(
+        Long applicationId,
+        Long affiliateId,
+        LocalDateTime applicationDate,
+        BigDecimal requestedAmount,
+        ApplicationStatus previousStatus,
+        String previousRiskLevel,
+        ApplicationStatus status,
+        String riskLevel) {
+}
@@ -13,6 +13,8 @@ public class CreditApplication {
     private Integer riskScore;
     private String riskLevel;
     private Affiliate affiliate; // Relación con el Afiliado
+    private boolean reviewRequired; // La decisión automática debe confirmarla un analista
+    private Long version; // Versión leída de la persistencia (bloqueo optimista); null si aún no se guardó
 
     public CreditApplication(BigDecimal requestedAmount, Integer termMonths, Affiliate affiliate) {
         this.requestedAmount = requestedAmount;
@@ -89,6 +91,22 @@ public class CreditApplication {
         this.affiliate = affiliate;
     }
 
+    public boolean isReviewRequired() {
+        return reviewRequired;
+    }
+
+    public void setReviewRequired(boolean reviewRequired) {
+        this.reviewRequired = reviewRequired;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     //Verificar si la solicitud está pendiente
     public boolean isPending() {
         return this.status == ApplicationStatus.PENDIENTE;
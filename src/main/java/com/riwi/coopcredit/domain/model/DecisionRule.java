@@ -0,0 +1,28 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Límite sobre una métrica de la solicitud. Fuera de {@code [min, max]} (extremos opcionales, inclusivos) se aplica
+ * {@code outcome} sobre la decisión de la banda de puntaje.
+ *
+ * @param name nombre para los registros y la configuración
+ */
+public record DecisionRule(String name, Metric metric, Double min, Double max, Outcome outcome) {
+
+    public enum Metric {
+        /** Cuota mensual (monto / plazo) sobre el ingreso mensual (ingreso anual / 12). */
+        DEBT_TO_INCOME,
+        AMOUNT,
+        TERM_MONTHS,
+        /** Meses completos desde el registro del afiliado. */
+        SENIORITY_MONTHS,
+        /** Monto ya aprobado al afiliado más el de esta solicitud, sobre el ingreso anual. */
+        EXPOSURE_TO_INCOME
+    }
+
+    public enum Outcome {
+        /** La solicitud se rechaza sin importar el puntaje. */
+        REJECT,
+        /** Una solicitud aprobada queda en la cola de revisión de analistas. */
+        REVIEW
+    }
+}
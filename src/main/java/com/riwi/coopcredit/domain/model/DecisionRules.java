@@ -0,0 +1,191 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Tabla de decisión compilada: bandas de puntaje más límites sobre la solicitud y el afiliado. La aplican la
+ * creación de solicitudes y el re-puntaje de las que quedaron pendientes, de modo que ambos caminos deciden igual.
+ * <p>
+ * Al compilar, los límites de cada métrica se funden en un intervalo por resultado (el más estricto gana) y las
+ * decisiones posibles de cada banda se crean una sola vez, así que decidir es comparar unos cuantos números sin
+ * asignar memoria. Es inmutable: se reemplaza entera cuando cambian las reglas.
+ */
+public final class DecisionRules {
+
+    private static final int DEBT_TO_INCOME = DecisionRule.Metric.DEBT_TO_INCOME.ordinal();
+    private static final int AMOUNT = DecisionRule.Metric.AMOUNT.ordinal();
+    private static final int TERM_MONTHS = DecisionRule.Metric.TERM_MONTHS.ordinal();
+    private static final int SENIORITY_MONTHS = DecisionRule.Metric.SENIORITY_MONTHS.ordinal();
+    private static final int EXPOSURE_TO_INCOME = DecisionRule.Metric.EXPOSURE_TO_INCOME.ordinal();
+    private static final int METRICS = DecisionRule.Metric.values().length;
+
+    // Bandas en orden descendente de puntaje mínimo
+    private final int[] minScores;
+    private final RiskDecision[] approved;
+    private final RiskDecision[] reviewed;
+    private final RiskDecision[] rejected;
+    private final double[] rejectMin;
+    private final double[] rejectMax;
+    private final double[] reviewMin;
+    private final double[] reviewMax;
+
+    private DecisionRules(List<ScoreBand> bands, List<DecisionRule> rules) {
+        int size = bands.size();
+        this.minScores = new int[size];
+        this.approved = new RiskDecision[size];
+        this.reviewed = new RiskDecision[size];
+        this.rejected = new RiskDecision[size];
+        for (int i = 0; i < size; i++) {
+            ScoreBand band = bands.get(i);
+            minScores[i] = band.minScore();
+            approved[i] = new RiskDecision(band.status(), band.riskLevel(), band.reviewRequired());
+            reviewed[i] = band.status() == ApplicationStatus.APROBADA
+                    ? new RiskDecision(ApplicationStatus.APROBADA, band.riskLevel(), true)
+                    : approved[i];
+            rejected[i] = new RiskDecision(ApplicationStatus.RECHAZADA, band.riskLevel(), false);
+        }
+        this.rejectMin = unbounded(Double.NEGATIVE_INFINITY);
+        this.rejectMax = unbounded(Double.POSITIVE_INFINITY);
+        this.reviewMin = unbounded(Double.NEGATIVE_INFINITY);
+        this.reviewMax = unbounded(Double.POSITIVE_INFINITY);
+        for (DecisionRule rule : rules) {
+            boolean reject = rule.outcome() == DecisionRule.Outcome.REJECT;
+            double[] min = reject ? rejectMin : reviewMin;
+            double[] max = reject ? rejectMax : reviewMax;
+            int metric = rule.metric().ordinal();
+            if (rule.min() != null) {
+                min[metric] = Math.max(min[metric], rule.min());
+            }
+            if (rule.max() != null) {
+                max[metric] = Math.min(max[metric], rule.max());
+            }
+        }
+    }
+
+    /**
+     * Valida y compila la tabla. La banda más baja cubre también los puntajes menores a su mínimo.
+     *
+     * @throws DomainException si la tabla está incompleta o es inconsistente
+     */
+    public static DecisionRules compile(List<ScoreBand> bands, List<DecisionRule> rules) {
+        if (bands == null || bands.isEmpty()) {
+            throw new DomainException("La tabla de decisión debe tener al menos una banda de puntaje.");
+        }
+        HashSet<Integer> minScores = new HashSet<>();
+        for (ScoreBand band : bands) {
+            if (band.status() != ApplicationStatus.APROBADA && band.status() != ApplicationStatus.RECHAZADA) {
+                throw new DomainException("La banda desde " + band.minScore() + " debe aprobar o rechazar.");
+            }
+            if (band.riskLevel() == null || band.riskLevel().isBlank()) {
+                throw new DomainException("La banda desde " + band.minScore() + " no tiene nivel de riesgo.");
+            }
+            if (!minScores.add(band.minScore())) {
+                throw new DomainException("Hay dos bandas con el puntaje mínimo " + band.minScore() + ".");
+            }
+        }
+        List<DecisionRule> checkedRules = rules == null ? List.of() : rules;
+        for (DecisionRule rule : checkedRules) {
+            if (rule.metric() == null || rule.outcome() == null) {
+                throw new DomainException("La regla " + rule.name() + " debe indicar métrica y resultado.");
+            }
+            if (rule.min() == null && rule.max() == null) {
+                throw new DomainException("La regla " + rule.name() + " debe tener mínimo o máximo.");
+            }
+            if (rule.min() != null && rule.max() != null && rule.min() > rule.max()) {
+                throw new DomainException("La regla " + rule.name() + " tiene el mínimo mayor que el máximo.");
+            }
+        }
+        List<ScoreBand> sorted = bands.stream()
+                .sorted(Comparator.comparingInt(ScoreBand::minScore).reversed())
+                .toList();
+        return new DecisionRules(sorted, checkedRules);
+    }
+
+    /**
+     * Solo bandas de puntaje: 700 o más aprueba, desde 500 aprueba con revisión de analistas, debajo rechaza.
+     */
+    public static DecisionRules defaults() {
+        return compile(List.of(
+                new ScoreBand(700, ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+                // Un riesgo medio se aprueba y queda en la cola de revisión de analistas
+                new ScoreBand(500, ApplicationStatus.APROBADA, "MEDIO RIESGO", true),
+                new ScoreBand(0, ApplicationStatus.RECHAZADA, "ALTO RIESGO", false)), List.of());
+    }
+
+    /**
+     * Sin deuda aprobada previa: la exposición es solo el monto de esta solicitud.
+     *
+     * @see #decide(int, BigDecimal, int, Double, LocalDate, LocalDate, BigDecimal)
+     */
+    public RiskDecision decide(int riskScore, BigDecimal amount, int termMonths, Double annualIncome,
+                               LocalDate registrationDate, LocalDate today) {
+        return decide(riskScore, amount, termMonths, annualIncome, registrationDate, today, BigDecimal.ZERO);
+    }
+
+    /**
+     * @param annualIncome     sin ingreso conocido las relaciones con el ingreso son infinitas
+     * @param registrationDate sin fecha de registro la antigüedad es cero
+     * @param approvedExposure monto ya aprobado al afiliado, sin contar esta solicitud
+     */
+    public RiskDecision decide(int riskScore, BigDecimal amount, int termMonths, Double annualIncome,
+                               LocalDate registrationDate, LocalDate today, BigDecimal approvedExposure) {
+        long seniorityMonths = registrationDate == null ? 0 : ChronoUnit.MONTHS.between(registrationDate, today);
+        return decide(riskScore, amount.doubleValue(), termMonths, annualIncome == null ? 0 : annualIncome,
+                seniorityMonths, approvedExposure == null ? 0 : approvedExposure.doubleValue());
+    }
+
+    public RiskDecision decide(int riskScore, double amount, int termMonths, double annualIncome,
+                               long seniorityMonths) {
+        return decide(riskScore, amount, termMonths, annualIncome, seniorityMonths, 0);
+    }
+
+    public RiskDecision decide(int riskScore, double amount, int termMonths, double annualIncome,
+                               long seniorityMonths, double approvedExposure) {
+        int band = band(riskScore);
+        double debtToIncome = annualIncome > 0 ? (amount / termMonths) / (annualIncome / 12)
+                : Double.POSITIVE_INFINITY;
+        double exposureToIncome = annualIncome > 0 ? (approvedExposure + amount) / annualIncome
+                : Double.POSITIVE_INFINITY;
+        if (outside(rejectMin, rejectMax, debtToIncome, amount, termMonths, seniorityMonths, exposureToIncome)) {
+            return rejected[band];
+        }
+        if (outside(reviewMin, reviewMax, debtToIncome, amount, termMonths, seniorityMonths, exposureToIncome)) {
+            return reviewed[band];
+        }
+        return approved[band];
+    }
+
+    private int band(int riskScore) {
+        // Pocas bandas: un recorrido lineal es más rápido que una búsqueda binaria
+        int last = minScores.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (riskScore >= minScores[i]) {
+                return i;
+            }
+        }
+        return last;
+    }
+
+    private static boolean outside(double[] min, double[] max, double debtToIncome, double amount,
+                                   double termMonths, double seniorityMonths, double exposureToIncome) {
+        return debtToIncome < min[DEBT_TO_INCOME] || debtToIncome > max[DEBT_TO_INCOME]
+                || amount < min[AMOUNT] || amount > max[AMOUNT]
+                || termMonths < min[TERM_MONTHS] || termMonths > max[TERM_MONTHS]
+                || seniorityMonths < min[SENIORITY_MONTHS] || seniorityMonths > max[SENIORITY_MONTHS]
+                || exposureToIncome < min[EXPOSURE_TO_INCOME] || exposureToIncome > max[EXPOSURE_TO_INCOME];
+    }
+
+    private static double[] unbounded(double value) {
+        double[] bounds = new double[METRICS];
+        Arrays.fill(bounds, value);
+        return bounds;
+    }
+}
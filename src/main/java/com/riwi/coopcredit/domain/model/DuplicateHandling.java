@@ -0,0 +1,12 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Qué hacer con una solicitud idéntica (mismo afiliado, monto y plazo) a otra enviada dentro de la ventana de
+ * duplicados.
+ */
+public enum DuplicateHandling {
+    /** Se rechaza con {@link com.riwi.coopcredit.domain.exception.DuplicateApplicationException}. */
+    REJECT,
+    /** Se responde con la solicitud anterior, sin crear otra ni consultar el servicio de riesgo. */
+    FOLD
+}
@@ -0,0 +1,26 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Solicitud que sigue PENDIENTE sin puntaje, con lo necesario para volver a consultar el servicio de riesgo.
+ *
+ * @param dueAt    momento desde el que se puede intentar: la creación o el vencimiento de la espera tras un fallo
+ * @param annualIncome     y {@code registrationDate}: datos del afiliado que usa la tabla de decisión; su exposición
+ *                         aprobada se lee bloqueada al aplicar la decisión
+ * @param attempts consultas fallidas anteriores; determinan la espera antes del siguiente intento
+ */
+public record PendingApplication(
+        Long id,
+        Long affiliateId,
+        LocalDateTime applicationDate,
+        LocalDateTime dueAt,
+        String document,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        Double annualIncome,
+        LocalDate registrationDate,
+        int attempts) {
+}
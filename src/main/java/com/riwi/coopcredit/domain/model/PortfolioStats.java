@@ -0,0 +1,14 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Indicadores de cartera calculados a partir del rollup.
+ */
+public record PortfolioStats(
+        PortfolioTotals total,
+        Map<ApplicationStatus, PortfolioTotals> byStatus,
+        Map<String, PortfolioTotals> byRiskLevel,
+        Map<YearMonth, PortfolioTotals> byMonth) {
+}
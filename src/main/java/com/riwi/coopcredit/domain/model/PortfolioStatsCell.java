@@ -0,0 +1,15 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Celda del rollup de cartera: cantidad y monto solicitado por mes, estado y nivel de riesgo.
+ */
+public record PortfolioStatsCell(
+        YearMonth month,
+        ApplicationStatus status,
+        String riskLevel,
+        long applications,
+        BigDecimal requestedAmount) {
+}
@@ -0,0 +1,36 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Acumulado de solicitudes de un grupo (total, estado, nivel de riesgo o mes).
+ */
+public record PortfolioTotals(long applications, long approved, long rejected, long pending, BigDecimal requestedAmount) {
+
+    public static final PortfolioTotals EMPTY = new PortfolioTotals(0, 0, 0, 0, BigDecimal.ZERO);
+
+    public PortfolioTotals add(PortfolioStatsCell cell) {
+        long count = cell.applications();
+        return new PortfolioTotals(
+                applications + count,
+                approved + (cell.status() == ApplicationStatus.APROBADA ? count : 0),
+                rejected + (cell.status() == ApplicationStatus.RECHAZADA ? count : 0),
+                pending + (cell.status() == ApplicationStatus.PENDIENTE ? count : 0),
+                requestedAmount.add(cell.requestedAmount()));
+    }
+
+    /**
+     * Aprobadas sobre decididas (las pendientes no cuentan); 0 si no hay decisiones.
+     */
+    public double approvalRate() {
+        long decided = approved + rejected;
+        return decided == 0 ? 0.0 : (double) approved / decided;
+    }
+
+    public BigDecimal averageRequestedAmount() {
+        return applications == 0
+                ? BigDecimal.ZERO
+                : requestedAmount.divide(BigDecimal.valueOf(applications), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,11 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado indicativo de una pre-calificación: la decisión que tendría la solicitud con el puntaje estimado y el
+ * mayor monto que se aprobaría con el mismo plazo. No se guarda ni compromete la decisión final.
+ */
+public record PreQualification(int riskScore, ApplicationStatus status, String riskLevel, boolean reviewRequired,
+                               BigDecimal maxApprovableAmount) {
+}
@@ -0,0 +1,9 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puntaje obtenido para una solicitud pendiente y la decisión que corresponde.
+ */
+public record RescoredApplication(Long id, LocalDateTime applicationDate, int riskScore, RiskDecision decision) {
+}
@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lote reclamado por un analista. Hasta {@code leaseUntil} ningún otro revisor lo recibe; después vuelve a la cola.
+ */
+public record ReviewBatch(List<CreditApplication> applications, LocalDateTime leaseUntil) {
+}
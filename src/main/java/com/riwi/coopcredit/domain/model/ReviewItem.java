@@ -0,0 +1,7 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Solicitud a decidir en revisión, con la versión que el analista recibió al reclamarla.
+ */
+public record ReviewItem(Long applicationId, Long version) {
+}
@@ -0,0 +1,12 @@
+package com.riwi.coopcredit.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado de una decisión en lote.
+ *
+ * @param decided   solicitudes actualizadas
+ * @param conflicts solicitudes no actualizadas: versión distinta, reclamo vencido o tomado por otro revisor
+ */
+public record ReviewOutcome(List<Long> decided, List<Long> conflicts) {
+}
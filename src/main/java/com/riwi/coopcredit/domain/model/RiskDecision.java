@@ -0,0 +1,7 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Decisión automática sobre una solicitud, según la tabla de decisión vigente ({@link DecisionRules}).
+ */
+public record RiskDecision(ApplicationStatus status, String riskLevel, boolean reviewRequired) {
+}
@@ -0,0 +1,7 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Datos del afiliado que usa el puntaje local: ingreso e historial de solicitudes decididas (activas y archivadas).
+ */
+public record RiskProfile(double annualIncome, int approvedApplications, int rejectedApplications) {
+}
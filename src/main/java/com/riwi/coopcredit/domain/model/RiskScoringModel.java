@@ -0,0 +1,57 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+
+/**
+ * Modelo lineal de puntaje de riesgo calculado en proceso, en la misma escala que el servicio externo:
+ * <pre>
+ * intercept
+ *   + logMonthlyIncome * ln(ingreso mensual / incomeReference)
+ *   + debtToIncome     * (monto / plazo) / ingreso mensual
+ *   + termYears        * plazo / 12
+ *   + approvals        * min(aprobadas, historyCap)
+ *   + rejections       * min(rechazadas, historyCap)
+ * </pre>
+ * acotado a {@code [minScore, maxScore]}. Sin ingreso conocido el puntaje es {@code minScore}. Solo opera con
+ * primitivos: calcular un puntaje no asigna memoria.
+ */
+public record RiskScoringModel(
+        double intercept,
+        double logMonthlyIncome,
+        double incomeReference,
+        double debtToIncome,
+        double termYears,
+        double approvals,
+        double rejections,
+        int historyCap,
+        int minScore,
+        int maxScore) {
+
+    public RiskScoringModel {
+        if (minScore > maxScore) {
+            throw new DomainException("El puntaje mínimo del modelo local no puede superar al máximo.");
+        }
+        if (incomeReference <= 0) {
+            throw new DomainException("El ingreso de referencia del modelo local debe ser positivo.");
+        }
+    }
+
+    public int score(RiskProfile profile, double amount, int termMonths) {
+        return score(profile.annualIncome(), amount, termMonths, profile.approvedApplications(),
+                profile.rejectedApplications());
+    }
+
+    public int score(double annualIncome, double amount, int termMonths, int approved, int rejected) {
+        if (annualIncome <= 0 || termMonths <= 0) {
+            return minScore;
+        }
+        double monthlyIncome = annualIncome / 12;
+        double score = intercept
+                + logMonthlyIncome * Math.log(monthlyIncome / incomeReference)
+                + debtToIncome * (amount / termMonths) / monthlyIncome
+                + termYears * termMonths / 12.0
+                + approvals * Math.min(approved, historyCap)
+                + rejections * Math.min(rejected, historyCap);
+        return (int) Math.max(minScore, Math.min(maxScore, Math.round(score)));
+    }
+}
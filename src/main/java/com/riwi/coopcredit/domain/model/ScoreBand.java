@@ -0,0 +1,7 @@
+package com.riwi.coopcredit.domain.model;
+
+/**
+ * Fila de la tabla de decisión por puntaje: desde {@code minScore} (inclusivo) hasta la banda siguiente.
+ */
+public record ScoreBand(int minScore, ApplicationStatus status, String riskLevel, boolean reviewRequired) {
+}
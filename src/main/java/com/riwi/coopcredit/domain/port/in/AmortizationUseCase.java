@@ -0,0 +1,20 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.AmortizationQuote;
+import com.riwi.coopcredit.domain.model.AmortizationRow;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+public interface AmortizationUseCase {
+
+    /**
+     * Cuota fija mensual; sin {@code annualRate} se usa la tasa por defecto.
+     */
+    AmortizationQuote quote(BigDecimal amount, Integer termMonths, BigDecimal annualRate);
+
+    /**
+     * Entrega las cuotas del plan una a una, sin acumularlas en memoria.
+     */
+    void schedule(AmortizationQuote quote, Consumer<AmortizationRow> sink);
+}
@@ -0,0 +1,16 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.ApplicationExportFilter;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+
+import java.util.function.Consumer;
+
+public interface ExportApplicationsUseCase {
+
+    /**
+     * Entrega las solicitudes que cumplen el filtro una a una, sin acumularlas en memoria.
+     *
+     * @return cantidad de filas exportadas
+     */
+    long export(ApplicationExportFilter filter, Consumer<ApplicationExportRow> sink);
+}
@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.PortfolioStats;
+
+import java.time.YearMonth;
+
+public interface GetPortfolioStatsUseCase {
+
+    PortfolioStats getStats(YearMonth from, YearMonth to);
+}
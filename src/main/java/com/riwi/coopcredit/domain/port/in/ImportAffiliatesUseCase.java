@@ -0,0 +1,17 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.AffiliateImportResult;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface ImportAffiliatesUseCase {
+
+    /**
+     * Importa afiliados desde un CSV con encabezado. Las filas inválidas o duplicadas no detienen la
+     * importación: se registran en el archivo de errores asociado al ID retornado.
+     */
+    AffiliateImportResult importAffiliates(InputStream csv);
+
+    Optional<InputStream> openErrors(String importId);
+}
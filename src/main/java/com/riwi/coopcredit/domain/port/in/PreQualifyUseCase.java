@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.PreQualification;
+
+import java.math.BigDecimal;
+
+public interface PreQualifyUseCase {
+
+    PreQualification preQualify(Long affiliateId, BigDecimal amount, Integer term);
+}
@@ -0,0 +1,15 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ReviewBatch;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+import com.riwi.coopcredit.domain.model.ReviewOutcome;
+
+import java.util.List;
+
+public interface ReviewApplicationsUseCase {
+
+    ReviewBatch claim(String reviewer, Integer size);
+
+    ReviewOutcome decide(String reviewer, ApplicationStatus decision, List<ReviewItem> items);
+}
@@ -0,0 +1,8 @@
+package com.riwi.coopcredit.domain.port.in;
+
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+
+public interface SearchAffiliatesUseCase {
+
+    AffiliateSearchPage search(String query, String after, Integer size);
+}
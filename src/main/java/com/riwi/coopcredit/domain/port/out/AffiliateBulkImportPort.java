@@ -0,0 +1,34 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+
+/**
+ * Carga masiva de afiliados: las filas se acumulan en un área temporal y se incorporan en una sola operación.
+ */
+public interface AffiliateBulkImportPort {
+
+    Batch begin();
+
+    interface Batch extends AutoCloseable {
+
+        void stage(long lineNumber, Affiliate affiliate);
+
+        /**
+         * Incorpora las filas acumuladas que no estén duplicadas (en el archivo o contra afiliados existentes).
+         *
+         * @return cantidad de afiliados creados
+         */
+        long merge(RejectionHandler rejections);
+
+        /**
+         * Descarta lo acumulado si no se llamó a {@link #merge}.
+         */
+        @Override
+        void close();
+    }
+
+    @FunctionalInterface
+    interface RejectionHandler {
+        void reject(long lineNumber, String document, String reason);
+    }
+}
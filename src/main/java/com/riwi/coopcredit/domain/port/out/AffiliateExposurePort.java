@@ -0,0 +1,50 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface AffiliateExposurePort {
+
+    /**
+     * Suma de los montos aprobados al afiliado (solicitudes activas y archivadas); cero si no tiene ninguno.
+     */
+    BigDecimal findApprovedAmount(Long affiliateId);
+
+    /**
+     * Igual que {@link #findApprovedAmount(Long)}, pero bloquea la exposición del afiliado hasta el fin de la
+     * transacción: dos solicitudes concurrentes del mismo afiliado se deciden una después de la otra y la segunda ve
+     * el monto que aprobó la primera.
+     */
+    BigDecimal lockApprovedAmount(Long affiliateId);
+
+    /**
+     * {@link #lockApprovedAmount(Long)} para varios afiliados en una sentencia, bloqueando en orden de afiliado para no
+     * interbloquearse con otro lote.
+     *
+     * @return exposición aprobada de cada afiliado pedido
+     */
+    Map<Long, BigDecimal> lockApprovedAmounts(Collection<Long> affiliateIds);
+
+    /**
+     * Suma el monto de una solicitud recién aprobada; las demás no cambian la exposición. Misma transacción que la
+     * solicitud.
+     */
+    void record(CreditApplication application);
+
+    /**
+     * Suma las solicitudes que pasan a APROBADA y resta las que dejan de estarlo. Misma transacción que el cambio.
+     */
+    void recordChanges(List<ApplicationStatusChange> changes);
+
+    /**
+     * Recalcula la exposición desde las solicitudes aprobadas (activas y archivadas).
+     *
+     * @return afiliados cuya exposición estaba desfasada
+     */
+    int reconcile();
+}
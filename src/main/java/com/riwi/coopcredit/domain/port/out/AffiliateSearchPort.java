@@ -0,0 +1,21 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.AffiliateSearchCursor;
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+
+import java.util.List;
+
+public interface AffiliateSearchPort {
+
+    /**
+     * Afiliados cuyo documento, nombre o correo contiene cada uno de los términos, ordenados por similitud
+     * con la consulta completa.
+     *
+     * @param query consulta tal como la escribió el usuario, usada para ordenar
+     * @param terms fragmentos que deben aparecer (al menos 3 caracteres cada uno)
+     * @param after última fila de la página anterior; {@code null} para la primera
+     * @param limit filas máximas a retornar
+     * @return página sin cursor siguiente; lo calcula el caso de uso
+     */
+    AffiliateSearchPage search(String query, List<String> terms, AffiliateSearchCursor after, int limit);
+}
@@ -0,0 +1,11 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.ApplicationExportFilter;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+
+import java.util.function.Consumer;
+
+public interface CreditApplicationExportPort {
+
+    long stream(ApplicationExportFilter filter, Consumer<ApplicationExportRow> sink);
+}
@@ -0,0 +1,12 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.DecisionRules;
+
+public interface DecisionRulesPort {
+
+    /**
+     * Tabla de decisión vigente. Puede cambiar entre llamadas; quien decide varias solicitudes juntas toma una vez
+     * la tabla para que todas se decidan con la misma.
+     */
+    DecisionRules current();
+}
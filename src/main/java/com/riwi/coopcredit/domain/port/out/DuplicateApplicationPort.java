@@ -0,0 +1,32 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.CreditApplication;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Detección de solicitudes repetidas: mismo afiliado, monto y plazo dentro de la ventana configurada, en cualquier
+ * instancia.
+ */
+public interface DuplicateApplicationPort {
+
+    /**
+     * Comprueba si hay un envío idéntico dentro de la ventana y, si no lo hay, registra este en la transacción
+     * actual: un envío idéntico concurrente espera a que esta termine.
+     *
+     * @return true si es un duplicado (no se registra nada)
+     */
+    boolean isDuplicate(Long affiliateId, BigDecimal amount, Integer term);
+
+    /**
+     * ID de la solicitud idéntica más reciente dentro de la ventana.
+     */
+    Optional<Long> findRecent(Long affiliateId, BigDecimal amount, Integer term);
+
+    /**
+     * Recuerda la solicitud creada para responder sin consultar la base a los duplicados que lleguen a esta
+     * instancia; se aplica al confirmar la transacción.
+     */
+    void remember(CreditApplication application);
+}
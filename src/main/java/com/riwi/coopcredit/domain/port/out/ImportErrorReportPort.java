@@ -0,0 +1,24 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Almacén de los reportes de filas rechazadas en importaciones masivas.
+ */
+public interface ImportErrorReportPort {
+
+    ErrorReport create(String importId);
+
+    Optional<InputStream> open(String importId);
+
+    interface ErrorReport extends AutoCloseable {
+
+        void reject(long lineNumber, String document, String reason);
+
+        long count();
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.PendingApplication;
+import com.riwi.coopcredit.domain.model.RescoredApplication;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PendingApplicationPort {
+
+    /**
+     * Solicitudes PENDIENTE creadas antes de {@code createdBefore} cuyo siguiente intento ya venció y que ningún
+     * analista tiene reclamadas, en orden de cola.
+     *
+     * @param after última solicitud de la página anterior; {@code null} para la primera
+     */
+    List<PendingApplication> findDue(LocalDateTime createdBefore, PendingApplication after, int limit);
+
+    /**
+     * Solicitudes PENDIENTE creadas antes de {@code createdBefore}, se puedan reintentar ya o no.
+     */
+    long countBacklog(LocalDateTime createdBefore);
+
+    /**
+     * Aplica las decisiones en lote a las solicitudes que siguen PENDIENTE y sin reclamo vigente; las que cambiaron
+     * entretanto no se tocan.
+     *
+     * @return cambios aplicados
+     */
+    List<ApplicationStatusChange> applyDecisions(List<RescoredApplication> decisions);
+
+    /**
+     * Registra un intento fallido y pospone el siguiente con espera exponencial.
+     */
+    void scheduleRetry(List<PendingApplication> failed);
+
+    /**
+     * Registra el intento fallido de una solicitud recién creada que no se pudo puntuar; queda en la cola del job
+     * con la misma espera que tras su primer fallo allí.
+     */
+    void scheduleRetry(CreditApplication failed);
+}
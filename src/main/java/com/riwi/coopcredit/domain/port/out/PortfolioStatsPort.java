@@ -0,0 +1,33 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.PortfolioStatsCell;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface PortfolioStatsPort {
+
+    /**
+     * Suma una solicitud decidida a su celda del rollup. Debe ejecutarse en la misma transacción que la solicitud.
+     */
+    void record(CreditApplication application);
+
+    /**
+     * Mueve solicitudes ya contadas de la celda de su estado anterior a la del nuevo. Misma transacción que el cambio.
+     */
+    void recordChanges(List<ApplicationStatusChange> changes);
+
+    /**
+     * Celdas del rollup entre dos meses inclusivos; {@code null} deja el extremo abierto.
+     */
+    List<PortfolioStatsCell> find(YearMonth from, YearMonth to);
+
+    /**
+     * Recalcula el rollup desde las solicitudes (activas y archivadas).
+     *
+     * @return celdas que estaban desfasadas
+     */
+    int reconcile();
+}
@@ -0,0 +1,26 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.ReviewBatch;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+
+import java.util.List;
+
+public interface ReviewQueuePort {
+
+    /**
+     * Reclama hasta {@code limit} solicitudes accionables (PENDIENTE o marcadas para revisión), las más antiguas
+     * primero. Omite las que otro revisor tiene reclamadas con el plazo vigente y las que otra transacción está
+     * reclamando en este momento; las del mismo revisor se le vuelven a entregar con el plazo renovado.
+     */
+    ReviewBatch claim(String reviewer, int limit);
+
+    /**
+     * Aplica la decisión a las solicitudes que {@code reviewer} mantiene reclamadas y cuya versión coincide;
+     * libera el reclamo y quita la marca de revisión. Las demás no se modifican.
+     *
+     * @return cambios aplicados
+     */
+    List<ApplicationStatusChange> decide(String reviewer, ApplicationStatus decision, List<ReviewItem> items);
+}
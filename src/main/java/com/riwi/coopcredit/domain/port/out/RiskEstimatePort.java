@@ -0,0 +1,10 @@
+package com.riwi.coopcredit.domain.port.out;
+
+public interface RiskEstimatePort {
+
+    /**
+     * Puntaje estimado en proceso, sin llamar al servicio externo. Puede usar datos en cache con algunos minutos de
+     * atraso; lanza {@link com.riwi.coopcredit.domain.exception.DomainException} si no hay datos para el documento.
+     */
+    int estimateRiskScore(String document, double amount, int termMonths);
+}
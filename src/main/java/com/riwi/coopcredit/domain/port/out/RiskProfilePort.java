@@ -0,0 +1,13 @@
+package com.riwi.coopcredit.domain.port.out;
+
+import com.riwi.coopcredit.domain.model.RiskProfile;
+
+import java.util.Optional;
+
+public interface RiskProfilePort {
+
+    /**
+     * Perfil de riesgo del afiliado con este documento. Puede venir de una cache con algunos minutos de atraso.
+     */
+    Optional<RiskProfile> findByDocument(String document);
+}
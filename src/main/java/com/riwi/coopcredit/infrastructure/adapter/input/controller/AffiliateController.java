@@ -1,9 +1,13 @@
 package com.riwi.coopcredit.infrastructure.adapter.input.controller;
 
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+import com.riwi.coopcredit.domain.port.in.SearchAffiliatesUseCase;
 import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.coopcredit.infrastructure.adapter.input.dto.AffiliateResponse;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.AffiliateSearchResponse;
 import com.riwi.coopcredit.infrastructure.adapter.input.mapper.AffiliateRestMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -26,6 +30,7 @@ public class AffiliateController {
 
     private final AffiliateRepositoryPort affiliateRepositoryPort;
     private final AffiliateRestMapper mapper;
+    private final SearchAffiliatesUseCase searchAffiliatesUseCase;
 
     @GetMapping
     @Operation(
@@ -59,4 +64,49 @@ public class AffiliateController {
 
         return ResponseEntity.ok(responses);
     }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Buscar afiliados",
+            description = "Búsqueda parcial por documento, nombre o correo, sin distinguir mayúsculas ni tildes. " +
+                    "Cada término (mínimo 3 caracteres) debe aparecer en alguno de los campos; los resultados se " +
+                    "ordenan por similitud y se paginan con el cursor \"nextCursor\". " +
+                    "Requiere rol ROLE_ANALISTA o ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de resultados",
+                    content = @Content(schema = @Schema(implementation = AffiliateSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Consulta o cursor inválidos, o acceso denegado: se requiere rol ROLE_ANALISTA o ROLE_ADMIN"
+            )
+    })
+    public ResponseEntity<AffiliateSearchResponse> searchAffiliates(
+            @Parameter(description = "Texto a buscar, p. ej. \"ramirez 1023\"")
+            @RequestParam String q,
+            @Parameter(description = "Cursor \"nextCursor\" de la página anterior")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Resultados por página (1 a 100, por defecto 20)")
+            @RequestParam(required = false) Integer size) {
+
+        AffiliateSearchPage page = searchAffiliatesUseCase.search(q, after, size);
+        AffiliateSearchResponse response = AffiliateSearchResponse.builder()
+                .items(page.hits().stream()
+                        .map(hit -> AffiliateSearchResponse.Item.builder()
+                                .id(hit.id())
+                                .document(hit.document())
+                                .firstName(hit.firstName())
+                                .lastName(hit.lastName())
+                                .email(hit.email())
+                                .rank(hit.rank())
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextCursor(page.nextCursor())
+                .truncated(page.truncated())
+                .build();
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
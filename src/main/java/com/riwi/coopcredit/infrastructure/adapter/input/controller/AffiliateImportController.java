@@ -0,0 +1,94 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.riwi.coopcredit.domain.model.AffiliateImportResult;
+import com.riwi.coopcredit.domain.port.in.ImportAffiliatesUseCase;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.AffiliateImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/admin/affiliates/import")
+@RequiredArgsConstructor
+@Tag(name = "Administración", description = "Operaciones administrativas masivas")
+@SecurityRequirement(name = "BearerAuth")
+public class AffiliateImportController {
+
+    private final ImportAffiliatesUseCase importAffiliatesUseCase;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Importar afiliados desde CSV",
+            description = "Carga masiva de afiliados migrados de otras cooperativas. El CSV debe tener encabezado con las " +
+                    "columnas document, first_name, last_name, email, annual_income y opcionalmente registration_date " +
+                    "(AAAA-MM-DD), separadas por coma o punto y coma. Las filas inválidas o duplicadas no detienen la " +
+                    "importación y quedan en un archivo de errores descargable. Requiere rol ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importación procesada",
+                    content = @Content(schema = @Schema(implementation = AffiliateImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acceso denegado: se requiere rol ROLE_ADMIN"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Archivo ilegible o sin las columnas obligatorias"
+            )
+    })
+    public ResponseEntity<AffiliateImportResponse> importAffiliates(@RequestParam("file") MultipartFile file) throws IOException {
+        // El archivo lo guarda el contenedor en disco; se procesa como flujo sin cargarlo en memoria
+        AffiliateImportResult result;
+        try (InputStream csv = file.getInputStream()) {
+            result = importAffiliatesUseCase.importAffiliates(csv);
+        }
+
+        AffiliateImportResponse response = AffiliateImportResponse.builder()
+                .importId(result.getImportId())
+                .totalRows(result.getTotalRows())
+                .imported(result.getImported())
+                .rejected(result.getRejected())
+                .errorsUrl(result.hasRejections()
+                        ? "/api/v1/admin/affiliates/import/" + result.getImportId() + "/errors"
+                        : null)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{importId}/errors")
+    @Operation(
+            summary = "Descargar errores de una importación",
+            description = "Retorna el CSV con las filas rechazadas (linea, documento, motivo), desde cualquier instancia " +
+                    "y durante import.affiliates.errors.retention (7 días por defecto). Requiere rol ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archivo de errores"),
+            @ApiResponse(responseCode = "404", description = "Importación no encontrada, sin filas rechazadas o vencida")
+    })
+    public ResponseEntity<InputStreamResource> downloadErrors(@PathVariable String importId) {
+        return importAffiliatesUseCase.openErrors(importId)
+                .map(errors -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"afiliados-" + importId + "-errores.csv\"")
+                        .contentType(new MediaType("text", "csv"))
+                        .body(new InputStreamResource(errors)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
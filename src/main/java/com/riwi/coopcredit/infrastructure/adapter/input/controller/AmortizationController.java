@@ -0,0 +1,125 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.coopcredit.domain.model.AmortizationQuote;
+import com.riwi.coopcredit.domain.model.AmortizationRow;
+import com.riwi.coopcredit.domain.port.in.AmortizationUseCase;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.AmortizationQuoteResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/api/v1/amortization")
+@RequiredArgsConstructor
+@Tag(name = "Amortización", description = "Cuota fija mensual y plan de pagos para cotizaciones")
+@SecurityRequirement(name = "BearerAuth")
+public class AmortizationController {
+
+    private final AmortizationUseCase amortizationUseCase;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/quote")
+    @Operation(
+            summary = "Cotizar la cuota mensual",
+            description = "Cuota fija mensual (sistema francés) redondeada al centavo. Las tasas de amortization.annual-rates " +
+                    "tienen sus factores precalculados para todos los plazos; otras tasas se calculan en el momento."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cuota mensual",
+                    content = @Content(schema = @Schema(implementation = AmortizationQuoteResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Monto, plazo o tasa fuera de rango"
+            )
+    })
+    public ResponseEntity<AmortizationQuoteResponse> quote(
+            @Parameter(description = "Monto del crédito, hasta amortization.max-amount y con máximo dos decimales") @RequestParam BigDecimal amount,
+            @Parameter(description = "Plazo en meses") @RequestParam Integer termMonths,
+            @Parameter(description = "Tasa nominal anual en porcentaje, mes vencido; sin valor se usa amortization.default-annual-rate")
+            @RequestParam(required = false) BigDecimal annualRate) {
+
+        AmortizationQuote quote = amortizationUseCase.quote(amount, termMonths, annualRate);
+        return ResponseEntity.ok(AmortizationQuoteResponse.builder()
+                .amount(quote.amount())
+                .termMonths(quote.termMonths())
+                .annualRate(quote.annualRate())
+                .monthlyPayment(quote.payment())
+                .build());
+    }
+
+    @GetMapping("/schedule")
+    @Operation(
+            summary = "Plan de amortización",
+            description = "Cuota mensual y plan completo (pago, intereses, abono a capital y saldo de cada mes). Las cuotas " +
+                    "se escriben a medida que se calculan, sin armar el plan completo en memoria."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cuota mensual y plan de pagos"),
+            @ApiResponse(responseCode = "403", description = "Monto, plazo o tasa fuera de rango")
+    })
+    public ResponseEntity<StreamingResponseBody> schedule(
+            @Parameter(description = "Monto del crédito, hasta amortization.max-amount y con máximo dos decimales") @RequestParam BigDecimal amount,
+            @Parameter(description = "Plazo en meses") @RequestParam Integer termMonths,
+            @Parameter(description = "Tasa nominal anual en porcentaje, mes vencido; sin valor se usa amortization.default-annual-rate")
+            @RequestParam(required = false) BigDecimal annualRate) {
+
+        // Se valida antes de empezar a escribir: después ya no es posible cambiar el código de estado
+        AmortizationQuote quote = amortizationUseCase.quote(amount, termMonths, annualRate);
+
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(output)) {
+                json.writeStartObject();
+                json.writeFieldName("amount");
+                json.writeNumber(quote.amount().toPlainString());
+                json.writeNumberField("termMonths", quote.termMonths());
+                json.writeFieldName("annualRate");
+                json.writeNumber(quote.annualRate().toPlainString());
+                json.writeFieldName("monthlyPayment");
+                json.writeNumber(quote.payment().toPlainString());
+                json.writeArrayFieldStart("schedule");
+                amortizationUseCase.schedule(quote, row -> write(json, row));
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static void write(JsonGenerator json, AmortizationRow row) {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("number", row.number());
+            json.writeFieldName("payment");
+            json.writeNumber(row.payment().toPlainString());
+            json.writeFieldName("interest");
+            json.writeNumber(row.interest().toPlainString());
+            json.writeFieldName("principal");
+            json.writeNumber(row.principal().toPlainString());
+            json.writeFieldName("balance");
+            json.writeNumber(row.balance().toPlainString());
+            json.writeEndObject();
+        } catch (IOException e) {
+            // Normalmente el cliente cerró la conexión
+            throw new UncheckedIOException(e);
+        }
+    }
+}
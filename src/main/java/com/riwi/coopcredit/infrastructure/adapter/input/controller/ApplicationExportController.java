@@ -0,0 +1,81 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.riwi.coopcredit.domain.model.ApplicationExportFilter;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.port.in.ExportApplicationsUseCase;
+import com.riwi.coopcredit.infrastructure.adapter.input.export.ApplicationExportWriter;
+import com.riwi.coopcredit.infrastructure.adapter.input.export.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+@Tag(name = "Exportaciones", description = "Descarga masiva de información para analistas y entes de control")
+@SecurityRequirement(name = "BearerAuth")
+public class ApplicationExportController {
+
+    private final ExportApplicationsUseCase exportApplicationsUseCase;
+
+    @GetMapping("/applications")
+    @Operation(
+            summary = "Exportar solicitudes de crédito",
+            description = "Descarga el historial de solicitudes, activas y archivadas, con los datos del afiliado en CSV o NDJSON, " +
+                    "ordenado por fecha. " +
+                    "Las filas se escriben a medida que se leen de la base, por lo que el tamaño del resultado no está limitado. " +
+                    "Requiere rol ROLE_ANALISTA o ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archivo de exportación"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado: se requiere rol ROLE_ANALISTA o ROLE_ADMIN")
+    })
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @Parameter(description = "csv o ndjson") @RequestParam(name = "format", defaultValue = "csv") String formatValue,
+            @Parameter(description = "Fecha inicial inclusiva (AAAA-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Fecha final inclusiva (AAAA-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Estados a incluir; sin valor se exportan todos")
+            @RequestParam(name = "status", required = false) List<ApplicationStatus> statuses,
+            @Parameter(description = "Comprimir la descarga con gzip")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        // Se valida antes de empezar a escribir: después ya no es posible cambiar el código de estado
+        ExportFormat format = ExportFormat.fromValue(formatValue);
+        ApplicationExportFilter filter = new ApplicationExportFilter(from, to,
+                statuses == null || statuses.isEmpty() ? EnumSet.noneOf(ApplicationStatus.class) : EnumSet.copyOf(statuses));
+
+        StreamingResponseBody body = output -> {
+            OutputStream target = gzip ? new GZIPOutputStream(output, 64 * 1024) : output;
+            try (ApplicationExportWriter writer = ApplicationExportWriter.of(format, target)) {
+                long rows = exportApplicationsUseCase.export(filter, writer);
+                log.info("Exportación de solicitudes: {} filas ({}, gzip={})", rows, format, gzip);
+            }
+        };
+
+        String filename = "solicitudes." + format.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+}
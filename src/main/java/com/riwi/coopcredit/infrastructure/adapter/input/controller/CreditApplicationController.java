@@ -1,23 +1,34 @@
 package com.riwi.coopcredit.infrastructure.adapter.input.controller;
 
 import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.PreQualification;
 import com.riwi.coopcredit.domain.port.in.CreateApplicationUseCase;
+import com.riwi.coopcredit.domain.port.in.PreQualifyUseCase;
 import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationRequest;
 import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationResponse;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.PreQualificationResponse;
 import com.riwi.coopcredit.infrastructure.adapter.input.mapper.ApplicationRestMapper;
+import com.riwi.coopcredit.infrastructure.idempotency.IdempotentRequestExecutor;
+import com.riwi.coopcredit.infrastructure.ratelimit.VelocityLimiter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/v1/applications")
 @RequiredArgsConstructor
@@ -26,7 +37,10 @@ import org.springframework.web.bind.annotation.*;
 public class CreditApplicationController {
 
     private final CreateApplicationUseCase createApplicationUseCase;
+    private final PreQualifyUseCase preQualifyUseCase;
     private final ApplicationRestMapper mapper;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
+    private final VelocityLimiter velocityLimiter;
 
     @PostMapping
     @Operation(
@@ -34,7 +48,12 @@ public class CreditApplicationController {
             description = "Crea una nueva solicitud de crédito para un afiliado. " +
                     "La solicitud inicia en estado PENDIENTE y será evaluada automáticamente. " +
                     "Requiere rol ROLE_AFILIADO o ROLE_ADMIN. " +
-                    "El afiliado debe estar ACTIVO y cumplir con los requisitos de antigüedad (mínimo 6 meses)."
+                    "El afiliado debe estar ACTIVO y cumplir con los requisitos de antigüedad (mínimo 6 meses). " +
+                    "Con la cabecera Idempotency-Key, los reintentos con la misma llave y el mismo cuerpo reciben la " +
+                    "respuesta original (cabecera Idempotent-Replayed) sin crear otra solicitud; si la ejecución original " +
+                    "falló, el reintento se ejecuta de nuevo. " +
+                    "Los envíos por afiliado, usuario e IP tienen un límite por ventana de tiempo (velocity.applications); " +
+                    "el reintento que recibe una respuesta guardada no cuenta para ese límite."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -52,18 +71,106 @@ public class CreditApplicationController {
             ),
             @ApiResponse(
                     responseCode = "403",
-                    description = "Acceso denegado: se requiere rol ROLE_AFILIADO o ROLE_ADMIN"
+                    description = "Acceso denegado: se requiere rol ROLE_AFILIADO o ROLE_ADMIN; también cuando la " +
+                            "llave de idempotencia ya se usó con otro cuerpo o su primera ejecución sigue en curso"
             ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Afiliado no encontrado"
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Demasiadas solicitudes en la ventana; la cabecera Retry-After indica los segundos de espera"
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Error interno del servidor o falla en la evaluación de riesgo"
             )
     })
-    public ResponseEntity<ApplicationResponse> createApplication(@Valid @RequestBody ApplicationRequest request) {
+    public ResponseEntity<ApplicationResponse> createApplication(
+            @Valid @RequestBody ApplicationRequest request,
+            @Parameter(description = "Llave única del intento (máximo 255 caracteres), por usuario; vigente durante idempotency.retention (24 h por defecto)")
+            @RequestHeader(name = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
+
+        // Un reintento de una llave ya completada recibe su respuesta sin consumir el presupuesto de velocidad
+        String operation = "POST /api/v1/applications";
+        if (idempotencyKey != null) {
+            Optional<ResponseEntity<ApplicationResponse>> replay = idempotentRequestExecutor.findReplay(
+                    authentication.getName(), idempotencyKey, operation, request, ApplicationResponse.class);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+        }
+
+        // El filtro JWT ya leyó el usuario; un envío nuevo sobre el límite no llega a la idempotencia, a la
+        // solicitud ni al servicio de riesgo
+        Optional<VelocityLimiter.Rejection> rejection = velocityLimiter.tryAcquire(
+                request.getAffiliateId(), authentication.getName(), httpRequest.getRemoteAddr());
+        if (rejection.isPresent()) {
+            long seconds = Math.max(1, (rejection.get().retryAfter().toMillis() + 999) / 1000);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                    .build();
+        }
+
+        if (idempotencyKey == null) {
+            return create(request);
+        }
+        return idempotentRequestExecutor.execute(authentication.getName(), idempotencyKey, operation, request,
+                ApplicationResponse.class, () -> create(request));
+    }
+
+    @PostMapping("/prequalification")
+    @Operation(
+            summary = "Pre-calificar una solicitud de crédito",
+            description = "Responde si la solicitud se aprobaría y el mayor monto aprobable con el mismo plazo, sin " +
+                    "crear ni guardar nada. El puntaje se estima en proceso con el perfil de riesgo en cache (no se " +
+                    "consulta el servicio externo), así que el resultado es indicativo. La exposición ya aprobada del " +
+                    "afiliado cuenta igual que al crear la solicitud. No cuenta para el límite de " +
+                    "envíos (velocity.applications) ni admite Idempotency-Key: repetirla no tiene efectos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultado indicativo de la pre-calificación",
+                    content = @Content(schema = @Schema(implementation = PreQualificationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validación fallida: monto inválido o plazo fuera de rango"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "No autorizado: token JWT inválido o expirado"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Afiliado no encontrado o sin perfil de riesgo"
+            )
+    })
+    public ResponseEntity<PreQualificationResponse> preQualify(@Valid @RequestBody ApplicationRequest request) {
+        PreQualification result = preQualifyUseCase.preQualify(
+                request.getAffiliateId(),
+                request.getRequestedAmount(),
+                request.getTermMonths()
+        );
+
+        PreQualificationResponse response = PreQualificationResponse.builder()
+                .affiliateId(request.getAffiliateId())
+                .requestedAmount(request.getRequestedAmount())
+                .termMonths(request.getTermMonths())
+                .status(result.status().name())
+                .riskScore(result.riskScore())
+                .riskLevel(result.riskLevel())
+                .reviewRequired(result.reviewRequired())
+                .maxApprovableAmount(result.maxApprovableAmount())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<ApplicationResponse> create(ApplicationRequest request) {
 
         // 1. Llamar al Caso de Uso (Lógica de Negocio)
         CreditApplication createdApplication = createApplicationUseCase.create(
@@ -0,0 +1,89 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.riwi.coopcredit.domain.model.PortfolioStats;
+import com.riwi.coopcredit.domain.model.PortfolioTotals;
+import com.riwi.coopcredit.domain.port.in.GetPortfolioStatsUseCase;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.PortfolioStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+@Tag(name = "Estadísticas", description = "Indicadores de la cartera de créditos")
+@SecurityRequirement(name = "BearerAuth")
+public class PortfolioStatsController {
+
+    private final GetPortfolioStatsUseCase getPortfolioStatsUseCase;
+
+    @GetMapping
+    @Operation(
+            summary = "Indicadores de cartera",
+            description = "Tasa de aprobación, monto promedio y totales por estado, nivel de riesgo y mes. Se responde " +
+                    "desde un rollup mantenido en cada decisión, sin recorrer las solicitudes. " +
+                    "Requiere rol ROLE_ANALISTA o ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Indicadores calculados",
+                    content = @Content(schema = @Schema(implementation = PortfolioStatsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acceso denegado: se requiere rol ROLE_ANALISTA o ROLE_ADMIN"
+            )
+    })
+    public ResponseEntity<PortfolioStatsResponse> getStats(
+            @Parameter(description = "Mes inicial inclusivo (AAAA-MM)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Mes final inclusivo (AAAA-MM)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+
+        PortfolioStats stats = getPortfolioStatsUseCase.getStats(from, to);
+        PortfolioStatsResponse response = PortfolioStatsResponse.builder()
+                .total(toResponse(stats.total()))
+                .byStatus(toResponse(stats.byStatus(), Enum::name))
+                .byRiskLevel(toResponse(stats.byRiskLevel(), Function.identity()))
+                .byMonth(toResponse(stats.byMonth(), YearMonth::toString))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    private static <K> Map<String, PortfolioStatsResponse.Totals> toResponse(Map<K, PortfolioTotals> groups,
+                                                                             Function<K, String> key) {
+        Map<String, PortfolioStatsResponse.Totals> response = new LinkedHashMap<>();
+        groups.forEach((group, totals) -> response.put(key.apply(group), toResponse(totals)));
+        return response;
+    }
+
+    private static PortfolioStatsResponse.Totals toResponse(PortfolioTotals totals) {
+        return PortfolioStatsResponse.Totals.builder()
+                .applications(totals.applications())
+                .approved(totals.approved())
+                .rejected(totals.rejected())
+                .pending(totals.pending())
+                .approvalRate(totals.approvalRate())
+                .totalRequestedAmount(totals.requestedAmount())
+                .averageRequestedAmount(totals.averageRequestedAmount())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ReviewBatch;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+import com.riwi.coopcredit.domain.model.ReviewOutcome;
+import com.riwi.coopcredit.domain.port.in.ReviewApplicationsUseCase;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ReviewBatchResponse;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ReviewDecisionRequest;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ReviewDecisionResponse;
+import com.riwi.coopcredit.infrastructure.adapter.input.mapper.ApplicationRestMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/reviews")
+@RequiredArgsConstructor
+@Tag(name = "Revisión de Solicitudes", description = "Cola de trabajo de los analistas para solicitudes pendientes o marcadas")
+@SecurityRequirement(name = "BearerAuth")
+public class ReviewController {
+
+    private final ReviewApplicationsUseCase reviewApplicationsUseCase;
+    private final ApplicationRestMapper mapper;
+
+    @PostMapping("/claims")
+    @Operation(
+            summary = "Reclamar un lote de solicitudes",
+            description = "Entrega las solicitudes PENDIENTE o marcadas para revisión más antiguas que ningún otro " +
+                    "analista tenga reclamadas, y las reserva hasta \"leaseUntil\". Volver a reclamar antes del " +
+                    "vencimiento entrega de nuevo las propias con el plazo renovado. " +
+                    "Requiere rol ROLE_ANALISTA o ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote reclamado (vacío si no hay solicitudes por revisar)",
+                    content = @Content(schema = @Schema(implementation = ReviewBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Tamaño de lote inválido, o acceso denegado: se requiere rol ROLE_ANALISTA o ROLE_ADMIN"
+            )
+    })
+    public ResponseEntity<ReviewBatchResponse> claim(
+            @Parameter(description = "Solicitudes a reclamar (1 a 50, por defecto 10)")
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+
+        ReviewBatch batch = reviewApplicationsUseCase.claim(authentication.getName(), size);
+        ReviewBatchResponse response = ReviewBatchResponse.builder()
+                .leaseUntil(batch.leaseUntil())
+                .applications(batch.applications().stream().map(mapper::toResponse).collect(Collectors.toList()))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/decisions")
+    @Operation(
+            summary = "Aprobar o rechazar solicitudes en lote",
+            description = "Aplica la decisión a las solicitudes indicadas que el analista mantiene reclamadas y cuya " +
+                    "versión coincide con la recibida. Las demás se devuelven en \"conflicts\" sin modificarse. " +
+                    "Requiere rol ROLE_ANALISTA o ROLE_ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Decisión aplicada",
+                    content = @Content(schema = @Schema(implementation = ReviewDecisionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validación fallida: decisión desconocida o lista vacía"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acceso denegado: se requiere rol ROLE_ANALISTA o ROLE_ADMIN"
+            )
+    })
+    public ResponseEntity<ReviewDecisionResponse> decide(@Valid @RequestBody ReviewDecisionRequest request,
+                                                         Authentication authentication) {
+
+        List<ReviewItem> items = request.getItems().stream()
+                .map(item -> new ReviewItem(item.getApplicationId(), item.getVersion()))
+                .toList();
+        ReviewOutcome outcome = reviewApplicationsUseCase.decide(authentication.getName(),
+                ApplicationStatus.valueOf(request.getDecision()), items);
+        ReviewDecisionResponse response = ReviewDecisionResponse.builder()
+                .decided(outcome.decided())
+                .conflicts(outcome.conflicts())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,14 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AffiliateImportResponse {
+    private String importId;
+    private long totalRows;
+    private long imported;
+    private long rejected;
+    private String errorsUrl; // Solo si hubo filas rechazadas
+}
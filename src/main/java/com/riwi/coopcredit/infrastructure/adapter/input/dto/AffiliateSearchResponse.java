@@ -0,0 +1,25 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AffiliateSearchResponse {
+    private List<Item> items;
+    private String nextCursor; // Valor de "after" para la página siguiente; null en la última
+    private boolean truncated; // Demasiadas coincidencias: solo se listan las más parecidas a la consulta, conviene afinarla
+
+    @Data
+    @Builder
+    public static class Item {
+        private Long id;
+        private String document;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private float rank; // Similitud con la consulta, de 0 a 1
+    }
+}
@@ -0,0 +1,15 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class AmortizationQuoteResponse {
+    private BigDecimal amount;
+    private Integer termMonths;
+    private BigDecimal annualRate; // Nominal anual en porcentaje, mes vencido
+    private BigDecimal monthlyPayment;
+}
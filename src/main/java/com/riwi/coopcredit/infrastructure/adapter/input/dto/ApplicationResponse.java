@@ -1,12 +1,16 @@
 package com.riwi.coopcredit.infrastructure.adapter.input.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor // Las respuestas guardadas por llave de idempotencia se vuelven a leer desde JSON
 public class ApplicationResponse {
     private Long id;
     private Long affiliateId; // Mostrar solo el ID del afiliado
@@ -16,4 +20,6 @@ public class ApplicationResponse {
     private String status; // Ej: APROBADA, RECHAZADA
     private Integer riskScore;
     private String riskLevel;
+    private boolean reviewRequired; // Aprobada automáticamente, a la espera de la revisión de un analista
+    private Long version; // Versión vigente; las actualizaciones posteriores la usan para detectar cambios concurrentes
 }
\ No newline at end of file
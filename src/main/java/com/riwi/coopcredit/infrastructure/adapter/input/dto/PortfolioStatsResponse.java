@@ -0,0 +1,28 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+public class PortfolioStatsResponse {
+    private Totals total;
+    private Map<String, Totals> byStatus;
+    private Map<String, Totals> byRiskLevel;
+    private Map<String, Totals> byMonth; // Llave AAAA-MM
+
+    @Data
+    @Builder
+    public static class Totals {
+        private long applications;
+        private long approved;
+        private long rejected;
+        private long pending;
+        private double approvalRate; // Aprobadas / (aprobadas + rechazadas)
+        private BigDecimal totalRequestedAmount;
+        private BigDecimal averageRequestedAmount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class PreQualificationResponse {
+    private Long affiliateId;
+    private BigDecimal requestedAmount;
+    private Integer termMonths;
+    private String status; // Indicativo: APROBADA o RECHAZADA con el puntaje estimado
+    private Integer riskScore; // Estimado en proceso; la solicitud real puede consultar el servicio externo
+    private String riskLevel;
+    private boolean reviewRequired;
+    private BigDecimal maxApprovableAmount; // Mayor monto aprobable con el mismo plazo (0 si ninguno)
+}
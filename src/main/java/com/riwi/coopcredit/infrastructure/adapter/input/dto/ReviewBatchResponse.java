@@ -0,0 +1,14 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class ReviewBatchResponse {
+    private LocalDateTime leaseUntil; // Hasta cuándo el lote es exclusivo del analista; null si la cola está vacía
+    private List<ApplicationResponse> applications;
+}
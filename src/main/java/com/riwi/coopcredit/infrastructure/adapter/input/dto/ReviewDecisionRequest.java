@@ -0,0 +1,32 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReviewDecisionRequest {
+
+    @NotNull(message = "La decisión es obligatoria")
+    @Pattern(regexp = "APROBADA|RECHAZADA", message = "La decisión debe ser APROBADA o RECHAZADA")
+    private String decision;
+
+    @NotEmpty(message = "Se debe indicar al menos una solicitud")
+    @Size(max = 200, message = "Se pueden decidir como máximo 200 solicitudes a la vez")
+    private List<@Valid Item> items;
+
+    @Data
+    public static class Item {
+
+        @NotNull(message = "El ID de la solicitud es obligatorio")
+        private Long applicationId;
+
+        @NotNull(message = "La versión de la solicitud es obligatoria")
+        private Long version; // La recibida al reclamar el lote
+    }
+}
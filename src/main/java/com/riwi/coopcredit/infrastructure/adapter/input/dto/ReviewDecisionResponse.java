@@ -0,0 +1,13 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ReviewDecisionResponse {
+    private List<Long> decided;
+    private List<Long> conflicts; // Cambiadas por otro proceso, con el reclamo vencido o reclamadas por otro analista
+}
@@ -0,0 +1,167 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Serializa filas de exportación directamente sobre el flujo de salida, sin construir documentos en memoria.
+ */
+public abstract class ApplicationExportWriter implements Consumer<ApplicationExportRow>, AutoCloseable {
+
+    static final String[] COLUMNS = {
+            "application_id", "application_date", "status", "requested_amount", "term_months", "risk_score",
+            "risk_level", "affiliate_id", "document", "first_name", "last_name", "email", "annual_income",
+            "registration_date"};
+
+    public static ApplicationExportWriter of(ExportFormat format, OutputStream out) throws IOException {
+        return format == ExportFormat.NDJSON ? new NdjsonWriter(out) : new CsvWriter(out);
+    }
+
+    @Override
+    public void accept(ApplicationExportRow row) {
+        try {
+            write(row);
+        } catch (IOException e) {
+            // Normalmente el cliente cerró la conexión: se propaga para abortar la consulta
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void write(ApplicationExportRow row) throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    private static final class CsvWriter extends ApplicationExportWriter {
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        protected void write(ApplicationExportRow row) throws IOException {
+            writer.write(Long.toString(row.applicationId()));
+            field(row.applicationDate());
+            field(row.status());
+            field(plain(row.requestedAmount()));
+            field(row.termMonths());
+            field(row.riskScore());
+            text(row.riskLevel());
+            field(row.affiliateId());
+            text(row.document());
+            text(row.firstName());
+            text(row.lastName());
+            text(row.email());
+            field(plain(row.annualIncome()));
+            field(row.registrationDate());
+            writer.write('\n');
+        }
+
+        private void field(Object value) throws IOException {
+            writer.write(',');
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        private void text(String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static final class NdjsonWriter extends ApplicationExportWriter {
+
+        private final JsonGenerator json;
+        private boolean empty = true;
+
+        private NdjsonWriter(OutputStream out) throws IOException {
+            this.json = new JsonFactory().createGenerator(out);
+            // Un objeto por línea
+            this.json.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        protected void write(ApplicationExportRow row) throws IOException {
+            json.writeStartObject();
+            json.writeNumberField(COLUMNS[0], row.applicationId());
+            stringField(COLUMNS[1], row.applicationDate());
+            stringField(COLUMNS[2], row.status());
+            numberField(COLUMNS[3], row.requestedAmount());
+            json.writeNumberField(COLUMNS[4], row.termMonths());
+            if (row.riskScore() == null) {
+                json.writeNullField(COLUMNS[5]);
+            } else {
+                json.writeNumberField(COLUMNS[5], row.riskScore());
+            }
+            stringField(COLUMNS[6], row.riskLevel());
+            json.writeNumberField(COLUMNS[7], row.affiliateId());
+            stringField(COLUMNS[8], row.document());
+            stringField(COLUMNS[9], row.firstName());
+            stringField(COLUMNS[10], row.lastName());
+            stringField(COLUMNS[11], row.email());
+            numberField(COLUMNS[12], row.annualIncome());
+            stringField(COLUMNS[13], row.registrationDate());
+            json.writeEndObject();
+            empty = false;
+        }
+
+        private void stringField(String name, Object value) throws IOException {
+            if (value == null) {
+                json.writeNullField(name);
+            } else {
+                json.writeStringField(name, value.toString());
+            }
+        }
+
+        private void numberField(String name, BigDecimal value) throws IOException {
+            if (value == null) {
+                json.writeNullField(name);
+            } else {
+                json.writeNumberField(name, value);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!empty) {
+                json.writeRaw('\n');
+            }
+            json.close();
+        }
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+}
@@ -16,6 +16,8 @@ public interface ApplicationRestMapper {
     @Mapping(target = "riskScore", ignore = true)
     @Mapping(target = "riskLevel", ignore = true)
     @Mapping(target = "affiliate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "reviewRequired", ignore = true)
     // El caso de uso maneja la creación final y el mapeo del ID del afiliado.
     CreditApplication toDomain(ApplicationRequest request);
 
@@ -0,0 +1,101 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.coopcredit.domain.model.DecisionRule;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.ScoreBand;
+import com.riwi.coopcredit.domain.port.out.DecisionRulesPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Lee la tabla de decisión de un JSON ({@code decision.rules.location}) y la vuelve a leer cuando cambia la fecha
+ * de modificación del archivo, sin reiniciar. La tabla nueva se compila aparte y reemplaza a la anterior de una
+ * vez: quien decide nunca espera ni ve una tabla a medio cargar. Si el archivo nuevo no es válido se conserva la
+ * tabla anterior. Recargas en {@code coopcredit.decision.rules.reloads}.
+ */
+@Slf4j
+@Service
+public class DecisionRulesFileAdapter implements DecisionRulesPort {
+
+    private final Resource resource;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private volatile DecisionRules current;
+    private volatile long lastModified;
+
+    public DecisionRulesFileAdapter(ResourceLoader resourceLoader, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                    @Value("${decision.rules.location:classpath:decision-rules.json}") String location) {
+        this.resource = resourceLoader.getResource(location);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        // Sin una tabla válida al arrancar no hay con qué decidir: la aplicación no inicia
+        this.lastModified = lastModified();
+        this.current = load();
+        log.info("Tabla de decisión cargada desde {}", resource.getDescription());
+    }
+
+    @Override
+    public DecisionRules current() {
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${decision.rules.reload-interval:30s}",
+            initialDelayString = "${decision.rules.reload-interval:30s}")
+    public void reloadIfModified() {
+        long modified = lastModified();
+        if (modified != lastModified) {
+            // Se toma la fecha antes de leer: un cambio durante la lectura se detecta en la siguiente revisión
+            lastModified = modified;
+            reload();
+        }
+    }
+
+    /**
+     * @return true si la tabla se reemplazó
+     */
+    public boolean reload() {
+        try {
+            current = load();
+            meterRegistry.counter("coopcredit.decision.rules.reloads", "result", "success").increment();
+            log.info("Tabla de decisión recargada desde {}", resource.getDescription());
+            return true;
+        } catch (RuntimeException e) {
+            meterRegistry.counter("coopcredit.decision.rules.reloads", "result", "failure").increment();
+            log.warn("Tabla de decisión inválida en {}; se conserva la anterior: {}", resource.getDescription(),
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private DecisionRules load() {
+        try (InputStream input = resource.getInputStream()) {
+            RulesFile file = objectMapper.readValue(input, RulesFile.class);
+            return DecisionRules.compile(file.scoreBands(), file.rules());
+        } catch (IOException e) {
+            throw new IllegalStateException("No fue posible leer la tabla de decisión " + resource.getDescription()
+                    + ": " + e.getMessage(), e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // Recurso sin fecha (p. ej. dentro del jar): no cambia mientras la aplicación corre
+            return -1;
+        }
+    }
+
+    private record RulesFile(List<ScoreBand> scoreBands, List<DecisionRule> rules) {
+    }
+}
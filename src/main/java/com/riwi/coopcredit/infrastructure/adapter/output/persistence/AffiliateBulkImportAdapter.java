@@ -0,0 +1,193 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.port.out.AffiliateBulkImportPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Importación masiva sobre PostgreSQL: COPY a una tabla temporal y merge en SQL por conjuntos.
+ * <p>
+ * Toda la importación corre en una transacción propia; la tabla temporal se elimina al confirmar.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AffiliateBulkImportAdapter implements AffiliateBulkImportPort {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE affiliate_import_staging (
+                line_number BIGINT NOT NULL,
+                document VARCHAR(20) NOT NULL,
+                first_name VARCHAR(100) NOT NULL,
+                last_name VARCHAR(100) NOT NULL,
+                email VARCHAR(100) NOT NULL,
+                annual_income NUMERIC(15, 2) NOT NULL,
+                registration_date DATE NOT NULL,
+                reject_reason VARCHAR(200)
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = "COPY affiliate_import_staging "
+            + "(line_number, document, first_name, last_name, email, annual_income, registration_date) FROM STDIN";
+
+    // Se conserva la primera aparición de cada documento/email; las siguientes se rechazan
+    private static final String REJECT_FILE_DUPLICATES = """
+            UPDATE affiliate_import_staging s SET reject_reason = ?
+            FROM (
+                SELECT line_number, row_number() OVER (PARTITION BY %s ORDER BY line_number) AS occurrence
+                FROM affiliate_import_staging
+            ) d
+            WHERE s.line_number = d.line_number AND d.occurrence > 1 AND s.reject_reason IS NULL
+            """;
+
+    private static final String REJECT_EXISTING = """
+            UPDATE affiliate_import_staging s SET reject_reason = ?
+            WHERE s.reject_reason IS NULL
+              AND EXISTS (SELECT 1 FROM affiliate a WHERE a.%1$s = s.%1$s)
+            """;
+
+    // ON CONFLICT cubre registros concurrentes creados después de las validaciones anteriores
+    private static final String MERGE = """
+            WITH inserted AS (
+                INSERT INTO affiliate (document, first_name, last_name, email, annual_income, registration_date)
+                SELECT document, first_name, last_name, email, annual_income, registration_date
+                FROM affiliate_import_staging
+                WHERE reject_reason IS NULL
+                ORDER BY line_number
+                ON CONFLICT DO NOTHING
+                RETURNING document
+            )
+            UPDATE affiliate_import_staging s
+            SET reject_reason = 'El documento o email fue registrado durante la importación.'
+            WHERE s.reject_reason IS NULL
+              AND NOT EXISTS (SELECT 1 FROM inserted i WHERE i.document = s.document)
+            """;
+
+    private static final String SELECT_REJECTED = """
+            SELECT line_number, document, reject_reason FROM affiliate_import_staging
+            WHERE reject_reason IS NOT NULL ORDER BY line_number
+            """;
+
+    private final DataSource dataSource;
+
+    @Override
+    public Batch begin() {
+        try {
+            return new PgBatch(dataSource.getConnection());
+        } catch (SQLException e) {
+            throw new DomainException("No fue posible iniciar la importación: " + e.getMessage());
+        }
+    }
+
+    private static final class PgBatch implements Batch {
+
+        private final Connection connection;
+        private final PgCopyWriter copy;
+        private boolean committed;
+
+        private PgBatch(Connection connection) throws SQLException {
+            this.connection = connection;
+            try {
+                connection.setAutoCommit(false);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING);
+                }
+                this.copy = new PgCopyWriter(connection, COPY_STAGING);
+            } catch (SQLException e) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+                connection.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void stage(long lineNumber, Affiliate affiliate) {
+            try {
+                copy.row(lineNumber,
+                        affiliate.getDocument(),
+                        affiliate.getFirstName(),
+                        affiliate.getLastName(),
+                        affiliate.getEmail(),
+                        BigDecimal.valueOf(affiliate.getAnnualIncome()),
+                        affiliate.getRegistrationDate());
+            } catch (SQLException e) {
+                throw new DomainException("Error cargando la fila " + lineNumber + " al área temporal: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public long merge(RejectionHandler rejections) {
+            try {
+                long staged = copy.finish();
+                try (Statement statement = connection.createStatement()) {
+                    // Las tablas temporales no las analiza autovacuum; sin estadísticas los joins se planifican mal
+                    statement.execute("ANALYZE affiliate_import_staging");
+                }
+                update(REJECT_FILE_DUPLICATES.formatted("document"), "Documento duplicado en el archivo.");
+                update(REJECT_FILE_DUPLICATES.formatted("email"), "Email duplicado en el archivo.");
+                update(REJECT_EXISTING.formatted("document"), "El documento ya se encuentra registrado.");
+                update(REJECT_EXISTING.formatted("email"), "El email ya se encuentra registrado.");
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(MERGE);
+                }
+
+                long rejected = 0;
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_REJECTED)) {
+                    statement.setFetchSize(1000);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            rejections.reject(rs.getLong(1), rs.getString(2), rs.getString(3));
+                            rejected++;
+                        }
+                    }
+                }
+
+                connection.commit();
+                committed = true;
+                log.info("Importación de afiliados: {} filas en staging, {} creadas, {} rechazadas",
+                        staged, staged - rejected, rejected);
+                return staged - rejected;
+            } catch (SQLException e) {
+                throw new DomainException("Error incorporando los afiliados importados: " + e.getMessage());
+            }
+        }
+
+        private void update(String sql, String reason) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, reason);
+                statement.executeUpdate();
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                copy.close();
+                if (!committed) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("Error cerrando la importación de afiliados: {}", e.getMessage());
+            } finally {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.warn("Error liberando la conexión de importación: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposición aprobada por afiliado en {@code affiliate_exposure} (migración V14). Se ajusta con un incremento en la
+ * base, nunca leyendo y reescribiendo el total, así que dos transacciones sobre el mismo afiliado no pierden montos.
+ * Quien decide con la exposición y luego la ajusta la lee con {@link #lockApprovedAmount(Long)}.
+ */
+@Service
+@RequiredArgsConstructor
+public class AffiliateExposureAdapter implements AffiliateExposurePort {
+
+    private static final String FIND = "SELECT approved_amount FROM affiliate_exposure WHERE affiliate_id = ?";
+
+    private static final String UPSERT = """
+            INSERT INTO affiliate_exposure (affiliate_id, approved_amount)
+            VALUES (?, ?)
+            ON CONFLICT (affiliate_id) DO UPDATE
+            SET approved_amount = affiliate_exposure.approved_amount + EXCLUDED.approved_amount,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    // Crea la fila en cero si no existe y la bloquea en la misma sentencia; RETURNING da el total ya confirmado
+    private static final String LOCK = """
+            INSERT INTO affiliate_exposure (affiliate_id, approved_amount)
+            VALUES (?, 0)
+            ON CONFLICT (affiliate_id) DO UPDATE
+            SET approved_amount = affiliate_exposure.approved_amount
+            RETURNING approved_amount
+            """;
+
+    // Las filas se insertan, y por tanto se bloquean, en el orden del SELECT
+    private static final String LOCK_ALL = """
+            INSERT INTO affiliate_exposure (affiliate_id, approved_amount)
+            SELECT affiliate_id, 0 FROM unnest(?::bigint[]) AS ids(affiliate_id) ORDER BY affiliate_id
+            ON CONFLICT (affiliate_id) DO UPDATE
+            SET approved_amount = affiliate_exposure.approved_amount
+            RETURNING affiliate_id, approved_amount
+            """;
+
+    private static final String AGGREGATE = """
+            CREATE TEMP TABLE affiliate_exposure_actual ON COMMIT DROP AS
+            SELECT affiliate_id, sum(requested_amount) AS approved_amount
+            FROM (
+                SELECT affiliate_id, requested_amount FROM credit_application WHERE status = 'APROBADA'
+                UNION ALL
+                SELECT affiliate_id, requested_amount FROM credit_application_archive WHERE status = 'APROBADA'
+            ) approved
+            GROUP BY affiliate_id
+            """;
+
+    // Una fila en cero (creada al bloquear) equivale a no tener fila
+    private static final String COUNT_DRIFT = """
+            SELECT count(*)
+            FROM affiliate_exposure_actual a
+            FULL JOIN affiliate_exposure e ON e.affiliate_id = a.affiliate_id
+            WHERE COALESCE(a.approved_amount, 0) <> COALESCE(e.approved_amount, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public BigDecimal findApprovedAmount(Long affiliateId) {
+        List<BigDecimal> amounts = jdbcTemplate.queryForList(FIND, BigDecimal.class, affiliateId);
+        return amounts.isEmpty() ? BigDecimal.ZERO : amounts.get(0);
+    }
+
+    @Override
+    public BigDecimal lockApprovedAmount(Long affiliateId) {
+        return jdbcTemplate.queryForObject(LOCK, BigDecimal.class, affiliateId);
+    }
+
+    @Override
+    public Map<Long, BigDecimal> lockApprovedAmounts(Collection<Long> affiliateIds) {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        if (affiliateIds.isEmpty()) {
+            return amounts;
+        }
+        jdbcTemplate.query(LOCK_ALL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", affiliateIds.stream().distinct().toArray())),
+                (rs, rowNum) -> Map.entry(rs.getLong("affiliate_id"), rs.getBigDecimal("approved_amount")))
+                .forEach(amount -> amounts.put(amount.getKey(), amount.getValue()));
+        return amounts;
+    }
+
+    @Override
+    public void record(CreditApplication application) {
+        if (application.getStatus() == ApplicationStatus.APROBADA) {
+            jdbcTemplate.update(UPSERT, application.getAffiliate().getId(), application.getRequestedAmount());
+        }
+    }
+
+    /**
+     * Un ajuste por afiliado con la suma de sus cambios, enviados en orden de afiliado: dos lotes concurrentes
+     * bloquean las filas en el mismo orden y no se interbloquean.
+     */
+    @Override
+    public void recordChanges(List<ApplicationStatusChange> changes) {
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        for (ApplicationStatusChange change : changes) {
+            boolean wasApproved = change.previousStatus() == ApplicationStatus.APROBADA;
+            boolean isApproved = change.status() == ApplicationStatus.APROBADA;
+            if (wasApproved != isApproved) {
+                BigDecimal delta = isApproved ? change.requestedAmount() : change.requestedAmount().negate();
+                deltas.merge(change.affiliateId(), delta, BigDecimal::add);
+            }
+        }
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((affiliateId, delta) -> {
+            if (delta.signum() != 0) {
+                rows.add(new Object[]{affiliateId, delta});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        }
+    }
+
+    /**
+     * Mismo esquema que la reconciliación del rollup de cartera: el bloqueo EXCLUSIVE espera a las transacciones que
+     * ya ajustaron la exposición y detiene las nuevas hasta el commit, así el agregado y la tabla reemplazada
+     * corresponden al mismo conjunto de solicitudes.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reconcile() {
+        jdbcTemplate.execute("LOCK TABLE affiliate_exposure IN EXCLUSIVE MODE");
+        jdbcTemplate.execute(AGGREGATE);
+        Integer drift = jdbcTemplate.queryForObject(COUNT_DRIFT, Integer.class);
+        if (drift != null && drift > 0) {
+            jdbcTemplate.update("DELETE FROM affiliate_exposure");
+            jdbcTemplate.update("""
+                    INSERT INTO affiliate_exposure (affiliate_id, approved_amount)
+                    SELECT affiliate_id, approved_amount FROM affiliate_exposure_actual
+                    """);
+        }
+        return drift == null ? 0 : drift;
+    }
+}
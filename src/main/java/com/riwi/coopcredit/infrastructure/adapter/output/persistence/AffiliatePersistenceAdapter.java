@@ -5,8 +5,10 @@ import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.AffiliateEntity;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper.AffiliateMapper;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.repository.AffiliateJpaRepository;
+import com.riwi.coopcredit.infrastructure.cache.CacheInvalidationBus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,11 +18,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AffiliatePersistenceAdapter implements AffiliateRepositoryPort {
 
+    // Llaves publicadas en el bus de invalidación para las caches de afiliados
+    public static final String CACHE = "affiliates";
+    public static final String ID_KEY = "id:";
+    public static final String DOCUMENT_KEY = "document:";
+
     private final AffiliateJpaRepository affiliateJpaRepository;
     private final AffiliateMapper affiliateMapper;
+    private final CacheInvalidationBus invalidationBus;
 
     @Override
+    @Transactional
     public Affiliate save(Affiliate affiliate) {
+        // 1. Al modificar un afiliado existente, invalidarlo en todas las instancias (ID y documento nuevo; el
+        // documento anterior cae junto con el ID). Un alta no invalida nada: las caches no guardan búsquedas vacías
+        if (affiliate.getId() != null) {
+            invalidationBus.publish(CACHE, ID_KEY + affiliate.getId());
+            invalidationBus.publish(CACHE, DOCUMENT_KEY + affiliate.getDocument());
+        }
         AffiliateEntity entityToSave = affiliateMapper.toEntity(affiliate);
         // 2. Guardar la Entidad JPA
         AffiliateEntity savedEntity = affiliateJpaRepository.save(entityToSave);
@@ -41,6 +56,7 @@ public class AffiliatePersistenceAdapter implements AffiliateRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Affiliate> findAll() {
         return affiliateJpaRepository.findAll().stream()
                 .map(affiliateMapper::toDomain)
@@ -0,0 +1,120 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.AffiliateSearchCursor;
+import com.riwi.coopcredit.domain.model.AffiliateSearchHit;
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+import com.riwi.coopcredit.domain.port.out.AffiliateSearchPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Búsqueda parcial sobre las columnas normalizadas e indexadas con trigramas de {@code affiliate} (migración V8).
+ * <p>
+ * Cada término se busca con {@code LIKE '%término%'} en documento, nombre y correo; los índices GIN resuelven
+ * esas condiciones y su intersección sin recorrer la tabla. Las coincidencias se ordenan por similitud de palabra
+ * con la consulta completa y el cursor (rango, id) se aplica dentro de la misma consulta, así que las páginas
+ * siguientes llegan a todas ellas.
+ * <p>
+ * Cuando un término común coincide con más de {@code max-candidates} afiliados, solo se ordenan los que además
+ * superan el umbral de similitud de pg_trgm ({@code q <% columna}, también resuelto por los índices GIN) y la
+ * página se marca como truncada: el costo del ordenamiento depende de cuántos afiliados se parecen a la consulta,
+ * no de cuántos comparten un fragmento.
+ */
+@Service
+public class AffiliateSearchAdapter implements AffiliateSearchPort {
+
+    private static final String RANK = "GREATEST(word_similarity(s.q, a.search_document), "
+            + "word_similarity(s.q, a.search_name), word_similarity(s.q, a.search_email))";
+
+    private static final String RELEVANT = "(s.q <% a.search_document OR s.q <% a.search_name OR s.q <% a.search_email)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+
+    public AffiliateSearchAdapter(JdbcTemplate jdbcTemplate,
+                                  @Value("${search.affiliates.max-candidates:500}") int maxCandidates) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AffiliateSearchPage search(String query, List<String> terms, AffiliateSearchCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+
+        // NOT MATERIALIZED: la consulta normalizada queda como expresión y los índices pueden usarla con <%
+        StringBuilder sql = new StringBuilder("""
+                WITH search AS NOT MATERIALIZED (
+                    SELECT affiliate_search_text(?) AS q
+                ), broad AS (
+                    SELECT count(*) > ? AS truncated
+                    FROM (SELECT 1 FROM affiliate a WHERE\s""");
+        args.add(maxCandidates);
+        appendTerms(sql, args, terms);
+        sql.append(" LIMIT ?) m\n), candidates AS (\n");
+        args.add(maxCandidates + 1);
+
+        // Dos ramas excluyentes: la condición sobre broad se evalúa una vez y solo se ejecuta una de ellas
+        appendBranch(sql, args, terms, after, "NOT (SELECT truncated FROM broad)");
+        sql.append("\n    UNION ALL\n");
+        appendBranch(sql, args, terms, after, "(SELECT truncated FROM broad) AND " + RELEVANT);
+        sql.append("""
+
+                )
+                SELECT id, document, first_name, last_name, email, rank, (SELECT truncated FROM broad) AS truncated
+                FROM candidates
+                ORDER BY rank DESC, id
+                LIMIT ?""");
+        args.add(limit);
+
+        boolean[] truncated = {false};
+        List<AffiliateSearchHit> hits = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            truncated[0] = rs.getBoolean("truncated");
+            return new AffiliateSearchHit(
+                    rs.getLong("id"),
+                    rs.getString("document"),
+                    rs.getString("first_name"),
+                    rs.getString("last_name"),
+                    rs.getString("email"),
+                    rs.getFloat("rank"));
+        }, args.toArray());
+        return new AffiliateSearchPage(hits, null, truncated[0]);
+    }
+
+    private static void appendBranch(StringBuilder sql, List<Object> args, List<String> terms,
+                                     AffiliateSearchCursor after, String condition) {
+        sql.append("    SELECT a.id, a.document, a.first_name, a.last_name, a.email, ").append(RANK).append(" AS rank\n")
+                .append("    FROM affiliate a, search s\n")
+                .append("    WHERE ").append(condition).append(" AND ");
+        appendTerms(sql, args, terms);
+        if (after != null) {
+            sql.append(" AND (").append(RANK).append(" < ? OR (").append(RANK).append(" = ? AND a.id > ?))");
+            args.add(after.rank());
+            args.add(after.rank());
+            args.add(after.id());
+        }
+    }
+
+    // El término se normaliza con la misma función que llena las columnas de búsqueda
+    private static void appendTerms(StringBuilder sql, List<Object> args, List<String> terms) {
+        String match = "a.search_document LIKE pattern OR a.search_name LIKE pattern OR a.search_email LIKE pattern"
+                .replace("pattern", "'%' || affiliate_search_text(?) || '%'");
+        for (int i = 0; i < terms.size(); i++) {
+            sql.append(i == 0 ? "(" : " AND (").append(match).append(")");
+            String pattern = likePattern(terms.get(i));
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+    }
+
+    private static String likePattern(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,107 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.infrastructure.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache de afiliados por ID y por documento delante de {@link AffiliatePersistenceAdapter}.
+ * <p>
+ * Guarda una copia inmutable de los campos escalares (sin la relación con solicitudes) con tamaño máximo y TTL;
+ * en un acierto no hay consulta. Las búsquedas sin resultado no se guardan, así un afiliado recién creado se
+ * encuentra de inmediato. Las escrituras publican las llaves {@code id:<id>} y {@code document:<documento>} en
+ * {@link CacheInvalidationBus}, que las descarta aquí y en las demás instancias.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "cache.affiliates.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingAffiliateRepositoryAdapter implements AffiliateRepositoryPort {
+
+    private final AffiliatePersistenceAdapter delegate;
+    private final Cache<Long, AffiliateSnapshot> byId;
+    private final Cache<String, AffiliateSnapshot> byDocument;
+
+    public CachingAffiliateRepositoryAdapter(AffiliatePersistenceAdapter delegate, CacheInvalidationBus invalidationBus,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.affiliates.maximum-size:10000}") long maximumSize,
+                                             @Value("${cache.affiliates.ttl:5m}") Duration ttl) {
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        this.byDocument = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "affiliates.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byDocument, "affiliates.by-document");
+        invalidationBus.subscribe(AffiliatePersistenceAdapter.CACHE, this::evict, () -> {
+            byId.invalidateAll();
+            byDocument.invalidateAll();
+        });
+    }
+
+    @Override
+    public Affiliate save(Affiliate affiliate) {
+        // La invalidación la publica el adaptador JPA, también cuando se usa sin esta cache
+        return delegate.save(affiliate);
+    }
+
+    @Override
+    public Optional<Affiliate> findById(Long id) {
+        // El cargador retorna null cuando no existe: Caffeine no guarda la entrada
+        AffiliateSnapshot snapshot = byId.get(id, key -> delegate.findById(key).map(AffiliateSnapshot::of).orElse(null));
+        return Optional.ofNullable(snapshot).map(AffiliateSnapshot::toDomain);
+    }
+
+    @Override
+    public Optional<Affiliate> findByDocument(String document) {
+        AffiliateSnapshot snapshot = byDocument.get(document,
+                key -> delegate.findByDocument(key).map(AffiliateSnapshot::of).orElse(null));
+        return Optional.ofNullable(snapshot).map(AffiliateSnapshot::toDomain);
+    }
+
+    @Override
+    public List<Affiliate> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * Descarta la entrada de una llave publicada; al invalidar por ID también cae la del documento que tenía.
+     */
+    private void evict(String key) {
+        if (key.startsWith(AffiliatePersistenceAdapter.ID_KEY)) {
+            Long id = Long.valueOf(key.substring(AffiliatePersistenceAdapter.ID_KEY.length()));
+            AffiliateSnapshot previous = byId.getIfPresent(id);
+            if (previous != null) {
+                byDocument.invalidate(previous.document());
+            }
+            byId.invalidate(id);
+        } else if (key.startsWith(AffiliatePersistenceAdapter.DOCUMENT_KEY)) {
+            byDocument.invalidate(key.substring(AffiliatePersistenceAdapter.DOCUMENT_KEY.length()));
+        }
+    }
+
+    private record AffiliateSnapshot(Long id, String document, String firstName, String lastName, String email,
+                                     Double annualIncome, LocalDate registrationDate) {
+
+        static AffiliateSnapshot of(Affiliate affiliate) {
+            return new AffiliateSnapshot(affiliate.getId(), affiliate.getDocument(), affiliate.getFirstName(),
+                    affiliate.getLastName(), affiliate.getEmail(), affiliate.getAnnualIncome(),
+                    affiliate.getRegistrationDate());
+        }
+
+        // Cada acierto entrega una instancia nueva: el modelo de dominio es mutable
+        Affiliate toDomain() {
+            return new Affiliate(id, document, firstName, lastName, email, annualIncome, registrationDate, null);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mueve las solicitudes APROBADA/RECHAZADA más antiguas que {@code min-age-days} (y sus evaluaciones de riesgo)
+ * a las tablas de archivo (migración V6); las que esperan la revisión de un analista se quedan. Cada lote es una sola sentencia en su propia transacción, y entre
+ * lotes se espera lo necesario para no superar {@code rows-per-second}: los bloqueos son cortos y el job no
+ * compite con el tráfico transaccional.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "archive.applications.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditApplicationArchiveJob {
+
+    // SKIP LOCKED: las filas que otra transacción está modificando se dejan para la siguiente ejecución.
+    // El rango de fechas del lote en el DELETE permite descartar particiones al ejecutar; sin él se recorren todas.
+    private static final String ARCHIVE_CHUNK = """
+            WITH batch AS (
+                SELECT id, application_date
+                FROM credit_application
+                WHERE status IN ('APROBADA', 'RECHAZADA') AND NOT review_required AND application_date < ?
+                ORDER BY application_date, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved_evaluations AS (
+                DELETE FROM risk_evaluation r
+                USING batch b
+                WHERE r.application_id = b.id AND r.application_date = b.application_date
+                RETURNING r.id, r.application_id, r.score, r.risk_level, r.reason, r.evaluation_date, r.application_date
+            ), archived_evaluations AS (
+                INSERT INTO risk_evaluation_archive (id, application_id, score, risk_level, reason, evaluation_date,
+                                                     application_date)
+                SELECT * FROM moved_evaluations
+            ), moved AS (
+                DELETE FROM credit_application c
+                USING batch b
+                WHERE c.id = b.id AND c.application_date = b.application_date
+                  AND c.application_date BETWEEN (SELECT min(application_date) FROM batch)
+                                             AND (SELECT max(application_date) FROM batch)
+                RETURNING c.id, c.affiliate_id, c.requested_amount, c.term_months, c.application_date, c.status,
+                          c.risk_score, c.risk_level
+            ), archived AS (
+                INSERT INTO credit_application_archive (id, affiliate_id, requested_amount, term_months,
+                                                        application_date, status, risk_score, risk_level)
+                SELECT * FROM moved
+                RETURNING 1
+            )
+            SELECT count(*) FROM archived
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${archive.applications.min-age-days:365}")
+    private int minAgeDays;
+
+    @Value("${archive.applications.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${archive.applications.rows-per-second:2000}")
+    private int rowsPerSecond;
+
+    @Scheduled(cron = "${archive.applications.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        archive();
+    }
+
+    /**
+     * Archiva lotes hasta que no queden solicitudes elegibles.
+     *
+     * @return filas de solicitudes movidas al archivo
+     */
+    public long archive() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("El archivado de solicitudes ya está en ejecución");
+            return 0;
+        }
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDate.now().minusDays(minAgeDays).atStartOfDay());
+            long started = System.nanoTime();
+            long total = 0;
+            int moved;
+            long chunkStarted;
+            do {
+                chunkStarted = System.nanoTime();
+                moved = jdbcTemplate.queryForObject(ARCHIVE_CHUNK, Integer.class, cutoff, chunkSize);
+                total += moved;
+                meterRegistry.counter("coopcredit.archive.applications").increment(moved);
+            } while (moved == chunkSize && throttle(moved, chunkStarted));
+
+            if (total > 0) {
+                log.info("Archivado de solicitudes: {} filas anteriores a {} en {} ms", total, cutoff,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Espera lo que falte para que el lote tome al menos {@code moved / rows-per-second} segundos.
+     *
+     * @return false si el hilo fue interrumpido y el job debe detenerse
+     */
+    private boolean throttle(int moved, long chunkStarted) {
+        long targetNanos = TimeUnit.SECONDS.toNanos(moved) / rowsPerSecond;
+        long remainingNanos = targetNanos - (System.nanoTime() - chunkStarted);
+        if (remainingNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.ApplicationExportFilter;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationExportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Exportación de solicitudes con JDBC directo: sin entidades ni contexto de persistencia, el costo en
+ * memoria es el de un lote de {@code fetch-size} filas. Incluye las solicitudes archivadas
+ * ({@code credit_application_archive}): el historial exportado no depende de cuándo corrió el archivado.
+ */
+@Service
+@RequiredArgsConstructor
+public class CreditApplicationExportAdapter implements CreditApplicationExportPort {
+
+    private static final String SELECT = """
+            SELECT c.id, c.application_date, c.status, c.requested_amount, c.term_months, c.risk_score, c.risk_level,
+                   a.id, a.document, a.first_name, a.last_name, a.email, a.annual_income, a.registration_date
+            FROM (
+            """;
+
+    private static final String COLUMNS =
+            "SELECT id, affiliate_id, application_date, status, requested_amount, term_months, risk_score, risk_level\n";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${export.applications.fetch-size:5000}")
+    private int fetchSize;
+
+    /**
+     * PostgreSQL solo usa un cursor (y respeta el fetch size) con autocommit desactivado,
+     * por eso la lectura corre dentro de una transacción de solo lectura.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long stream(ApplicationExportFilter filter, Consumer<ApplicationExportRow> sink) {
+        List<Object> branchParams = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (filter.getFrom() != null) {
+            conditions.add("application_date >= ?");
+            branchParams.add(Timestamp.valueOf(filter.getFrom().atStartOfDay()));
+        }
+        if (filter.getTo() != null) {
+            conditions.add("application_date < ?");
+            branchParams.add(Timestamp.valueOf(filter.getTo().plusDays(1).atStartOfDay()));
+        }
+        if (!filter.getStatuses().isEmpty()) {
+            conditions.add("status = ANY (?)");
+            branchParams.add(filter.getStatuses().stream().map(Enum::name).toArray(String[]::new));
+        }
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n";
+
+        // Los filtros van dentro de cada rama: la tabla activa sigue descartando particiones por fecha
+        StringBuilder sql = new StringBuilder(SELECT)
+                .append(COLUMNS).append("FROM credit_application\n").append(where)
+                .append("UNION ALL\n")
+                .append(COLUMNS).append("FROM credit_application_archive\n").append(where)
+                .append(") c\nJOIN affiliate a ON a.id = c.affiliate_id\nORDER BY c.application_date, c.id");
+        List<Object> params = new ArrayList<>(branchParams);
+        params.addAll(branchParams);
+
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                Object param = params.get(i);
+                if (param instanceof String[] values) {
+                    statement.setArray(i + 1, connection.createArrayOf("varchar", values));
+                } else {
+                    statement.setObject(i + 1, param);
+                }
+            }
+            return statement;
+        }, rs -> {
+            Timestamp applicationDate = rs.getTimestamp(2);
+            Date registrationDate = rs.getDate(14);
+            sink.accept(new ApplicationExportRow(
+                    rs.getLong(1),
+                    applicationDate == null ? null : applicationDate.toLocalDateTime(),
+                    ApplicationStatus.valueOf(rs.getString(3)),
+                    rs.getBigDecimal(4),
+                    rs.getInt(5),
+                    (Integer) rs.getObject(6),
+                    rs.getString(7),
+                    rs.getLong(8),
+                    rs.getString(9),
+                    rs.getString(10),
+                    rs.getString(11),
+                    rs.getString(12),
+                    rs.getBigDecimal(13),
+                    registrationDate == null ? null : registrationDate.toLocalDate()));
+            count[0]++;
+        });
+        return count[0];
+    }
+}
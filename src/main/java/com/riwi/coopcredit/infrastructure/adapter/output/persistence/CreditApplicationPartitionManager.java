@@ -0,0 +1,102 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Mantiene las particiones mensuales de {@code credit_application} (migración V5): crea por adelantado
+ * las de los próximos meses, saca de la partición por defecto las filas que hayan caído allí y, si se
+ * configura una retención, desprende las particiones antiguas de la tabla activa.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "partitioning.credit-application.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditApplicationPartitionManager {
+
+    private static final String PARTITION_PREFIX = "credit_application_";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${partitioning.credit-application.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${partitioning.credit-application.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${partitioning.credit-application.cron:0 0 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            ensure(current.plusMonths(i));
+        }
+
+        // Solo tiene filas si el job estuvo detenido o llegaron fechas fuera del rango previsto
+        List<Date> strayMonths = jdbcTemplate.queryForList(
+                "SELECT DISTINCT date_trunc('month', application_date)::date FROM credit_application_default", Date.class);
+        for (Date month : strayMonths) {
+            ensure(YearMonth.from(month.toLocalDate()));
+        }
+
+        if (retentionMonths > 0) {
+            detachOlderThan(current.minusMonths(retentionMonths));
+        }
+    }
+
+    private void ensure(YearMonth month) {
+        String created = jdbcTemplate.queryForObject("SELECT ensure_credit_application_partition(?)",
+                String.class, Date.valueOf(month.atDay(1)));
+        if (created != null) {
+            log.info("Partición {} creada", created);
+        }
+    }
+
+    private void detachOlderThan(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'credit_application'::regclass
+                  AND c.relname ~ '^credit_application_[0-9]{4}_[0-9]{2}$'
+                ORDER BY c.relname
+                """, String.class);
+
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            try {
+                // Ambas sentencias viajan juntas y se ejecutan en una sola transacción implícita
+                jdbcTemplate.execute("ALTER TABLE credit_application DETACH PARTITION " + partition
+                        + "; ALTER TABLE " + partition + " RENAME TO " + partition + "_detached");
+                log.info("Partición {} desprendida de credit_application como {}_detached", partition, partition);
+            } catch (DataAccessException e) {
+                // Típicamente una evaluación de riesgo aún referencia filas del mes: se reintenta en la próxima ejecución
+                log.warn("No fue posible desprender la partición {}: {}", partition, e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private static YearMonth monthOf(String partition) {
+        String suffix = partition.substring(PARTITION_PREFIX.length());
+        return YearMonth.of(Integer.parseInt(suffix.substring(0, 4)), Integer.parseInt(suffix.substring(5, 7)));
+    }
+}
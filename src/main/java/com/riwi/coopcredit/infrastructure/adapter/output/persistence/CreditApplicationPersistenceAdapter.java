@@ -1,11 +1,15 @@
 package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
 
+import com.riwi.coopcredit.domain.exception.StaleApplicationException;
 import com.riwi.coopcredit.domain.model.CreditApplication;
 import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper.CreditApplicationMapper;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.repository.AffiliateJpaRepository;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.repository.CreditApplicationArchiveJpaRepository;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.repository.CreditApplicationJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,19 +21,39 @@ import java.util.stream.Collectors;
 public class CreditApplicationPersistenceAdapter implements CreditApplicationRepositoryPort {
 
     private final CreditApplicationJpaRepository applicationJpaRepository;
+    private final AffiliateJpaRepository affiliateJpaRepository;
+    private final CreditApplicationArchiveJpaRepository archiveJpaRepository;
     private final CreditApplicationMapper applicationMapper;
 
     @Override
     public CreditApplication save(CreditApplication application) {
         CreditApplicationEntity entityToSave = applicationMapper.toEntity(application);
-        CreditApplicationEntity savedEntity = applicationJpaRepository.save(entityToSave);
-        return applicationMapper.toDomain(savedEntity);
+        // La relación se establece con una referencia (proxy) al afiliado: no requiere un SELECT adicional.
+        // Una solicitud leída por ID no trae el afiliado; al actualizarla la columna no se toca
+        if (application.getAffiliate() != null) {
+            entityToSave.setAffiliate(affiliateJpaRepository.getReferenceById(application.getAffiliate().getId()));
+        }
+        CreditApplicationEntity savedEntity;
+        try {
+            // Una actualización se envía de inmediato: el conflicto de versión se detecta aquí y la versión
+            // retornada ya es la incrementada
+            savedEntity = application.getId() == null
+                    ? applicationJpaRepository.save(entityToSave)
+                    : applicationJpaRepository.saveAndFlush(entityToSave);
+        } catch (OptimisticLockingFailureException e) {
+            throw new StaleApplicationException(application.getId());
+        }
+        CreditApplication saved = applicationMapper.toDomain(savedEntity);
+        saved.setAffiliate(application.getAffiliate());
+        return saved;
     }
 
     @Override
     public Optional<CreditApplication> findById(Long id) {
+        // Las solicitudes cerradas antiguas viven en el archivo: solo se consulta si no está en la tabla activa
         return applicationJpaRepository.findById(id)
-                .map(applicationMapper::toDomain);
+                .map(applicationMapper::toDomain)
+                .or(() -> archiveJpaRepository.findById(id).map(applicationMapper::toDomain));
     }
 
     @Override
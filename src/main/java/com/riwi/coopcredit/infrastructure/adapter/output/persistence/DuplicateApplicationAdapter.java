@@ -0,0 +1,114 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.out.DuplicateApplicationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Duplicados en dos niveles: una ventana en memoria con las solicitudes creadas en esta instancia, que responde
+ * sin consultar la base, y la tabla {@code credit_application_dedup} (migración V13), que da la respuesta correcta
+ * entre instancias. Los duplicados detectados se cuentan en {@code coopcredit.applications.duplicates}.
+ */
+@Service
+public class DuplicateApplicationAdapter implements DuplicateApplicationPort {
+
+    // Solo se actualiza (y cuenta como fila afectada) si el envío anterior ya salió de la ventana
+    private static final String CLAIM = """
+            INSERT INTO credit_application_dedup (affiliate_id, requested_amount, term_months, submitted_at)
+            VALUES (?, ?, ?, LOCALTIMESTAMP)
+            ON CONFLICT (affiliate_id, requested_amount, term_months) DO UPDATE
+                SET submitted_at = EXCLUDED.submitted_at
+                WHERE credit_application_dedup.submitted_at <= EXCLUDED.submitted_at - make_interval(secs => ?)
+            """;
+
+    // idx_credit_app_affiliate_id; el límite de fecha descarta particiones
+    private static final String FIND_RECENT = """
+            SELECT id FROM credit_application
+            WHERE affiliate_id = ? AND requested_amount = ? AND term_months = ? AND application_date >= ?
+            ORDER BY application_date DESC, id DESC
+            LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final RecentSubmissionWindow<SubmissionKey> recent;
+
+    public DuplicateApplicationAdapter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                       @Value("${applications.duplicates.window:60s}") Duration window,
+                                       @Value("${applications.duplicates.buckets:6}") int buckets,
+                                       @Value("${applications.duplicates.max-entries:100000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.recent = new RecentSubmissionWindow<>(window, buckets, maxEntries);
+    }
+
+    @Override
+    public boolean isDuplicate(Long affiliateId, BigDecimal amount, Integer term) {
+        if (recent.find(SubmissionKey.of(affiliateId, amount, term), System.currentTimeMillis()).isPresent()) {
+            meterRegistry.counter("coopcredit.applications.duplicates", "source", "memory").increment();
+            return true;
+        }
+        boolean duplicate = jdbcTemplate.update(CLAIM, affiliateId, amount, term, window.toSeconds()) == 0;
+        if (duplicate) {
+            meterRegistry.counter("coopcredit.applications.duplicates", "source", "database").increment();
+        }
+        return duplicate;
+    }
+
+    @Override
+    public Optional<Long> findRecent(Long affiliateId, BigDecimal amount, Integer term) {
+        Optional<RecentSubmissionWindow.Submission> local =
+                recent.find(SubmissionKey.of(affiliateId, amount, term), System.currentTimeMillis());
+        if (local.isPresent()) {
+            return local.map(RecentSubmissionWindow.Submission::applicationId);
+        }
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minus(window));
+        return jdbcTemplate.queryForList(FIND_RECENT, Long.class, affiliateId, amount, term, since)
+                .stream().findFirst();
+    }
+
+    @Override
+    public void remember(CreditApplication application) {
+        SubmissionKey key = SubmissionKey.of(application.getAffiliate().getId(), application.getRequestedAmount(),
+                application.getTermMonths());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(key, application.getId());
+            return;
+        }
+        // Si la transacción se revierte, el reintento del cliente no debe verse como duplicado
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(key, application.getId());
+            }
+        });
+    }
+
+    private void record(SubmissionKey key, Long applicationId) {
+        if (!recent.record(key, applicationId, System.currentTimeMillis())) {
+            meterRegistry.counter("coopcredit.applications.duplicates.window-full").increment();
+        }
+    }
+
+    /**
+     * El monto se normaliza: 5000000 y 5000000.00 son el mismo envío, como en la columna NUMERIC.
+     */
+    private record SubmissionKey(long affiliateId, BigDecimal amount, int term) {
+        static SubmissionKey of(Long affiliateId, BigDecimal amount, Integer term) {
+            return new SubmissionKey(affiliateId, amount.stripTrailingZeros(), term);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Borra de {@code credit_application_dedup} los envíos que ya salieron de la ventana de duplicados. Una fila
+ * vencida no bloquea nada (el siguiente envío la reutiliza), así que el job solo controla el tamaño de la tabla.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "applications.duplicates.cleanup-enabled", havingValue = "true", matchIfMissing = true)
+public class DuplicateApplicationCleanupJob {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // SKIP LOCKED: una fila que un envío está reutilizando se deja en paz
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM credit_application_dedup
+            WHERE (affiliate_id, requested_amount, term_months) IN (
+                SELECT affiliate_id, requested_amount, term_months
+                FROM credit_application_dedup
+                WHERE submitted_at <= LOCALTIMESTAMP - make_interval(secs => ?)
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${applications.duplicates.window:60s}")
+    private Duration window;
+
+    @Scheduled(fixedDelayString = "${applications.duplicates.cleanup-interval:10m}",
+            initialDelayString = "${applications.duplicates.cleanup-interval:10m}")
+    public void scheduledCleanup() {
+        cleanup();
+    }
+
+    /**
+     * @return filas borradas
+     */
+    public long cleanup() {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, window.toSeconds(), CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == CHUNK_SIZE && !Thread.currentThread().isInterrupted());
+        return total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Borra en lotes cortos, cada uno en su propia transacción, las filas rechazadas de importaciones más antiguas que
+ * {@code import.affiliates.errors.retention}. Después de ese plazo la descarga del reporte responde 404.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "import.affiliates.errors.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class ImportErrorCleanupJob {
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM affiliate_import_error
+            WHERE (import_id, line_number) IN (
+                SELECT import_id, line_number
+                FROM affiliate_import_error
+                WHERE created_at <= LOCALTIMESTAMP - make_interval(secs => ?)
+                LIMIT ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${import.affiliates.errors.retention:7d}")
+    private Duration retention;
+
+    @Value("${import.affiliates.errors.cleanup.chunk-size:5000}")
+    private int chunkSize;
+
+    @Scheduled(fixedDelayString = "${import.affiliates.errors.cleanup.interval:1h}",
+            initialDelayString = "${import.affiliates.errors.cleanup.interval:1h}")
+    public void scheduledCleanup() {
+        cleanup();
+    }
+
+    /**
+     * @return filas borradas
+     */
+    public long cleanup() {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, retention.toSeconds(), chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize && !Thread.currentThread().isInterrupted());
+
+        meterRegistry.counter("coopcredit.import.errors.expired").increment(total);
+        if (total > 0) {
+            log.info("Filas rechazadas de importaciones vencidas borradas: {}", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,158 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.port.out.ImportErrorReportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Reportes de filas rechazadas en {@code affiliate_import_error} (migración V16), legibles desde cualquier nodo. Se
+ * escriben por lotes fuera de la transacción de la importación y se descargan como CSV ({@code linea,documento,motivo})
+ * leyendo la tabla por páginas, así ni la escritura ni la descarga dependen del tamaño del reporte. Los reportes
+ * vencidos los borra {@link ImportErrorCleanupJob}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportErrorReportAdapter implements ImportErrorReportPort {
+
+    static final String HEADER = "linea,documento,motivo\n";
+    private static final int BATCH_SIZE = 1000;
+    private static final Pattern IMPORT_ID = Pattern.compile("^[0-9a-fA-F-]{36}$");
+
+    private static final String INSERT = """
+            INSERT INTO affiliate_import_error (import_id, line_number, document, reason)
+            VALUES (?::uuid, ?, ?, ?)
+            """;
+
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM affiliate_import_error WHERE import_id = ?::uuid)";
+
+    private static final String PAGE = """
+            SELECT line_number, document, reason
+            FROM affiliate_import_error
+            WHERE import_id = ?::uuid AND line_number > ?
+            ORDER BY line_number
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ErrorReport create(String importId) {
+        return new TableErrorReport(importId);
+    }
+
+    /**
+     * @return vacío si el ID no es válido o la importación no rechazó filas
+     */
+    @Override
+    public Optional<InputStream> open(String importId) {
+        // El ID llega por la URL: un valor que no es UUID no llega a la consulta
+        if (!IMPORT_ID.matcher(importId).matches()
+                || !Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS, Boolean.class, importId))) {
+            return Optional.empty();
+        }
+        return Optional.of(new CsvPageStream(importId));
+    }
+
+    private final class TableErrorReport implements ErrorReport {
+
+        private final String importId;
+        private final List<Object[]> pending = new ArrayList<>(BATCH_SIZE);
+        private long count;
+
+        private TableErrorReport(String importId) {
+            this.importId = importId;
+        }
+
+        @Override
+        public void reject(long lineNumber, String document, String reason) {
+            pending.add(new Object[]{importId, lineNumber, document, reason});
+            count++;
+            if (pending.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+        private void flush() {
+            if (!pending.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, pending);
+                pending.clear();
+            }
+        }
+    }
+
+    /**
+     * CSV del reporte generado por páginas de {@link #BATCH_SIZE} filas a medida que se lee.
+     */
+    private final class CsvPageStream extends InputStream {
+
+        private final String importId;
+        private byte[] buffer = HEADER.getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private long lastLine;
+        private boolean exhausted;
+
+        private CsvPageStream(String importId) {
+            this.importId = importId;
+        }
+
+        @Override
+        public int read() {
+            return fill() ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.length - position);
+            System.arraycopy(buffer, position, target, offset, read);
+            position += read;
+            return read;
+        }
+
+        private boolean fill() {
+            while (position >= buffer.length) {
+                if (exhausted) {
+                    return false;
+                }
+                List<String> lines = jdbcTemplate.query(PAGE, (rs, rowNum) -> {
+                    lastLine = rs.getLong("line_number");
+                    return lastLine + "," + quote(rs.getString("document")) + "," + quote(rs.getString("reason")) + "\n";
+                }, importId, lastLine, BATCH_SIZE);
+                exhausted = lines.size() < BATCH_SIZE;
+                buffer = String.join("", lines).getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return true;
+        }
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
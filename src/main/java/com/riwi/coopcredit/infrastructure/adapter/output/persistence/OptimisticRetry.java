@@ -0,0 +1,76 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.exception.StaleApplicationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Política de reintento para las actualizaciones automáticas de solicitudes (jobs y procesos del sistema).
+ * <p>
+ * Cada intento corre en una transacción nueva y debe volver a leer la solicitud, de modo que tras un conflicto de
+ * versión la decisión se toma otra vez sobre el estado vigente. Las acciones de un analista no se reintentan: el
+ * conflicto se le informa para que revise el cambio ajeno.
+ */
+@Slf4j
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                           @Value("${applications.optimistic-retry.max-attempts:3}") int maxAttempts,
+                           @Value("${applications.optimistic-retry.backoff-ms:20}") long backoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    /**
+     * Ejecuta {@code attempt} hasta que termine sin conflicto de versión o se agoten los intentos.
+     *
+     * @throws StaleApplicationException si el último intento también encontró la solicitud modificada
+     */
+    public <T> T execute(Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return transactionTemplate.execute(status -> attempt.get());
+            } catch (StaleApplicationException | OptimisticLockingFailureException e) {
+                if (attemptNumber >= maxAttempts) {
+                    meterRegistry.counter("coopcredit.applications.optimistic.exhausted").increment();
+                    throw e;
+                }
+                meterRegistry.counter("coopcredit.applications.optimistic.retries").increment();
+                log.debug("Conflicto de versión (intento {} de {}): {}", attemptNumber, maxAttempts, e.getMessage());
+                backoff(attemptNumber, e);
+            }
+        }
+    }
+
+    /**
+     * Espera creciente con jitter: los procesos que chocaron no vuelven a coincidir en el mismo instante.
+     */
+    private void backoff(int attemptNumber, RuntimeException conflict) {
+        long delayMs = backoffMs * attemptNumber + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.PendingApplication;
+import com.riwi.coopcredit.domain.model.RescoredApplication;
+import com.riwi.coopcredit.domain.port.out.PendingApplicationPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solicitudes pendientes de puntaje para el job de re-puntaje (migración V11).
+ */
+@Service
+public class PendingApplicationAdapter implements PendingApplicationPort {
+
+    // Recorre el índice idx_credit_application_rescore_due (V11): solo se leen filas que ya vencieron
+    private static final String FIND_DUE = """
+            SELECT c.id, c.affiliate_id, c.application_date, COALESCE(c.rescore_next_at, c.application_date) AS due_at,
+                   a.document, c.requested_amount, c.term_months, a.annual_income, a.registration_date,
+                   c.rescore_attempts
+            FROM credit_application c
+            JOIN affiliate a ON a.id = c.affiliate_id
+            WHERE c.status = 'PENDIENTE'
+              AND COALESCE(c.rescore_next_at, c.application_date) <= LOCALTIMESTAMP
+              AND c.application_date < ?
+              AND (c.review_lease_until IS NULL OR c.review_lease_until < LOCALTIMESTAMP)
+            """;
+
+    // Comparar y asignar sobre el estado: una solicitud que un analista decidió o reclamó entretanto no se toca
+    private static final String APPLY_DECISIONS = """
+            WITH decided AS (
+                SELECT c.id, c.application_date, c.risk_level AS previous_risk_level,
+                       d.score, d.status, d.risk_level, d.review_required
+                FROM credit_application c
+                JOIN unnest(?::bigint[], ?::timestamp[], ?::int[], ?::text[], ?::text[], ?::boolean[])
+                    AS d(id, application_date, score, status, risk_level, review_required)
+                    ON c.id = d.id AND c.application_date = d.application_date
+                WHERE c.status = 'PENDIENTE'
+                  AND (c.review_lease_until IS NULL OR c.review_lease_until < LOCALTIMESTAMP)
+                FOR UPDATE OF c
+            )
+            UPDATE credit_application c
+            SET status = d.status,
+                risk_score = d.score,
+                risk_level = d.risk_level,
+                review_required = d.review_required,
+                rescore_next_at = NULL,
+                version = c.version + 1
+            FROM decided d
+            WHERE c.id = d.id AND c.application_date = d.application_date
+            RETURNING c.id, c.affiliate_id, c.application_date, c.requested_amount, d.previous_risk_level, c.risk_level, c.status
+            """;
+
+    // Espera = base * 2^intentos, con ±25 % de jitter y un tope; no incrementa la versión (no es una decisión)
+    private static final String RETRY_SET = """
+            SET rescore_attempts = c.rescore_attempts + 1,
+                rescore_next_at = LOCALTIMESTAMP + make_interval(secs => least(
+                        ? * power(2, least(c.rescore_attempts, 30)) * (0.75 + random() * 0.5), ?))
+            """;
+
+    private static final String SCHEDULE_RETRY = "UPDATE credit_application c\n" + RETRY_SET + """
+            FROM unnest(?::bigint[], ?::timestamp[]) AS d(id, application_date)
+            WHERE c.id = d.id AND c.application_date = d.application_date AND c.status = 'PENDIENTE'
+            """;
+
+    // La fecha en memoria puede diferir de la guardada en la fracción de microsegundo: se busca solo por id
+    private static final String SCHEDULE_FIRST_RETRY = "UPDATE credit_application c\n" + RETRY_SET + """
+            WHERE c.id = ? AND c.status = 'PENDIENTE'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    public PendingApplicationAdapter(JdbcTemplate jdbcTemplate,
+                                     @Value("${rescoring.applications.base-backoff:5m}") Duration baseBackoff,
+                                     @Value("${rescoring.applications.max-backoff:6h}") Duration maxBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    public List<PendingApplication> findDue(LocalDateTime createdBefore, PendingApplication after, int limit) {
+        StringBuilder sql = new StringBuilder(FIND_DUE);
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(createdBefore));
+        if (after != null) {
+            sql.append("  AND (COALESCE(c.rescore_next_at, c.application_date), c.id) > (?, ?)\n");
+            params.add(Timestamp.valueOf(after.dueAt()));
+            params.add(after.id());
+        }
+        sql.append("ORDER BY COALESCE(c.rescore_next_at, c.application_date), c.id\nLIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new PendingApplication(
+                rs.getLong("id"),
+                rs.getLong("affiliate_id"),
+                rs.getTimestamp("application_date").toLocalDateTime(),
+                rs.getTimestamp("due_at").toLocalDateTime(),
+                rs.getString("document"),
+                rs.getBigDecimal("requested_amount"),
+                rs.getInt("term_months"),
+                rs.getBigDecimal("annual_income").doubleValue(),
+                rs.getObject("registration_date", LocalDate.class),
+                rs.getInt("rescore_attempts")), params.toArray());
+    }
+
+    @Override
+    public long countBacklog(LocalDateTime createdBefore) {
+        Long backlog = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM credit_application WHERE status = 'PENDIENTE' AND application_date < ?",
+                Long.class, Timestamp.valueOf(createdBefore));
+        return backlog == null ? 0 : backlog;
+    }
+
+    @Override
+    public List<ApplicationStatusChange> applyDecisions(List<RescoredApplication> decisions) {
+        return jdbcTemplate.query(APPLY_DECISIONS, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", decisions.stream().map(RescoredApplication::id).toArray()));
+            ps.setArray(2, connection.createArrayOf("timestamp", decisions.stream()
+                    .map(decision -> Timestamp.valueOf(decision.applicationDate())).toArray()));
+            ps.setArray(3, connection.createArrayOf("int", decisions.stream().map(RescoredApplication::riskScore).toArray()));
+            ps.setArray(4, connection.createArrayOf("text", decisions.stream()
+                    .map(decision -> decision.decision().status().name()).toArray()));
+            ps.setArray(5, connection.createArrayOf("text", decisions.stream()
+                    .map(decision -> decision.decision().riskLevel()).toArray()));
+            ps.setArray(6, connection.createArrayOf("boolean", decisions.stream()
+                    .map(decision -> decision.decision().reviewRequired()).toArray()));
+        }, (rs, rowNum) -> new ApplicationStatusChange(
+                rs.getLong("id"),
+                rs.getLong("affiliate_id"),
+                rs.getTimestamp("application_date").toLocalDateTime(),
+                rs.getBigDecimal("requested_amount"),
+                ApplicationStatus.PENDIENTE,
+                rs.getString("previous_risk_level"),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getString("risk_level")));
+    }
+
+    @Override
+    public void scheduleRetry(List<PendingApplication> failed) {
+        jdbcTemplate.update(SCHEDULE_RETRY, ps -> {
+            ps.setDouble(1, baseBackoff.toSeconds());
+            ps.setDouble(2, maxBackoff.toSeconds());
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", failed.stream().map(PendingApplication::id).toArray()));
+            ps.setArray(4, ps.getConnection().createArrayOf("timestamp", failed.stream()
+                    .map(application -> Timestamp.valueOf(application.applicationDate())).toArray()));
+        });
+    }
+
+    @Override
+    public void scheduleRetry(CreditApplication failed) {
+        jdbcTemplate.update(SCHEDULE_FIRST_RETRY, (double) baseBackoff.toSeconds(), (double) maxBackoff.toSeconds(),
+                failed.getId());
+    }
+}
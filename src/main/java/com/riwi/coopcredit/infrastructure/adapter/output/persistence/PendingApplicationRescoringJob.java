@@ -0,0 +1,230 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.PendingApplication;
+import com.riwi.coopcredit.domain.model.RescoredApplication;
+import com.riwi.coopcredit.domain.model.RiskDecision;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import com.riwi.coopcredit.domain.port.out.DecisionRulesPort;
+import com.riwi.coopcredit.domain.port.out.PendingApplicationPort;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Vuelve a puntuar las solicitudes que quedaron PENDIENTE más de {@code min-age} (servicio de riesgo caído,
+ * cargas históricas). Recorre la cola por páginas con keyset, consulta el servicio de riesgo con a lo sumo
+ * {@code concurrency} llamadas simultáneas y aplica las decisiones de cada página en una sola sentencia.
+ * <p>
+ * La decisión se toma dentro de la transacción que la aplica, con la exposición de los afiliados de la página
+ * bloqueada (igual que al crear una solicitud) y sumando lo que la misma página ya aprobó a cada afiliado: dos
+ * pendientes del mismo afiliado no pasan juntas el límite de endeudamiento total.
+ * <p>
+ * Una solicitud cuya consulta falla se pospone con espera exponencial, de modo que un documento que el servicio
+ * rechaza siempre no consume una llamada en cada ejecución. Métricas: {@code coopcredit.rescoring.backlog}
+ * (pendientes por re-puntuar), {@code coopcredit.rescoring.decided} y {@code coopcredit.rescoring.failed}
+ * (su tasa es el ritmo de drenaje).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rescoring.applications.enabled", havingValue = "true", matchIfMissing = true)
+public class PendingApplicationRescoringJob implements DisposableBean {
+
+    private final PendingApplicationPort pendingApplicationPort;
+    private final RiskExternalPort riskExternalPort;
+    private final PortfolioStatsPort portfolioStatsPort;
+    private final AffiliateExposurePort affiliateExposurePort;
+    private final DecisionRulesPort decisionRulesPort;
+    private final OptimisticRetry optimisticRetry;
+    private final Duration minAge;
+    private final int pageSize;
+    private final ExecutorService scoringExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter decidedCounter;
+    private final Counter failedCounter;
+
+    public PendingApplicationRescoringJob(PendingApplicationPort pendingApplicationPort,
+                                          RiskExternalPort riskExternalPort,
+                                          PortfolioStatsPort portfolioStatsPort,
+                                          AffiliateExposurePort affiliateExposurePort,
+                                          DecisionRulesPort decisionRulesPort,
+                                          OptimisticRetry optimisticRetry,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${rescoring.applications.min-age:10m}") Duration minAge,
+                                          @Value("${rescoring.applications.page-size:100}") int pageSize,
+                                          @Value("${rescoring.applications.concurrency:4}") int concurrency) {
+        this.pendingApplicationPort = pendingApplicationPort;
+        this.riskExternalPort = riskExternalPort;
+        this.portfolioStatsPort = portfolioStatsPort;
+        this.affiliateExposurePort = affiliateExposurePort;
+        this.decisionRulesPort = decisionRulesPort;
+        this.optimisticRetry = optimisticRetry;
+        this.minAge = minAge;
+        this.pageSize = pageSize;
+        AtomicInteger threads = new AtomicInteger();
+        this.scoringExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "rescoring-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("coopcredit.rescoring.backlog", backlog);
+        this.decidedCounter = meterRegistry.counter("coopcredit.rescoring.decided");
+        this.failedCounter = meterRegistry.counter("coopcredit.rescoring.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${rescoring.applications.interval:5m}",
+            initialDelayString = "${rescoring.applications.interval:5m}")
+    public void scheduledRescore() {
+        rescore();
+    }
+
+    /**
+     * Recorre una vez la cola de pendientes.
+     *
+     * @return solicitudes decididas
+     */
+    public long rescore() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("El re-puntaje de solicitudes pendientes ya está en ejecución");
+            return 0;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+            long started = System.nanoTime();
+            long decided = 0;
+            long failed = 0;
+            PendingApplication after = null;
+            List<PendingApplication> page;
+            do {
+                page = pendingApplicationPort.findDue(cutoff, after, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                after = page.get(page.size() - 1);
+
+                List<Scored> scored = new ArrayList<>();
+                List<PendingApplication> unscored = new ArrayList<>();
+                score(page, scored, unscored);
+
+                if (!scored.isEmpty()) {
+                    decided += apply(scored);
+                }
+                if (!unscored.isEmpty()) {
+                    pendingApplicationPort.scheduleRetry(unscored);
+                    failed += unscored.size();
+                    failedCounter.increment(unscored.size());
+                }
+            } while (page.size() == pageSize && !Thread.currentThread().isInterrupted());
+
+            backlog.set(pendingApplicationPort.countBacklog(cutoff));
+            if (decided + failed > 0) {
+                double seconds = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), 1) / 1000.0;
+                log.info("Re-puntaje: {} decididas, {} pospuestas en {} s ({} decisiones/s); quedan {} pendientes",
+                        decided, failed, seconds, Math.round(decided / seconds), backlog.get());
+            }
+            return decided;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Consulta el servicio de riesgo para toda la página; el pool fijo limita las llamadas simultáneas.
+     */
+    private void score(List<PendingApplication> page, List<Scored> scored, List<PendingApplication> unscored) {
+        List<CompletableFuture<Integer>> scores = page.stream()
+                .map(application -> CompletableFuture.supplyAsync(() -> riskExternalPort.getRiskScore(
+                        application.document(),
+                        application.requestedAmount().doubleValue(),
+                        application.termMonths()), scoringExecutor))
+                .toList();
+        for (int i = 0; i < page.size(); i++) {
+            PendingApplication application = page.get(i);
+            try {
+                scored.add(new Scored(application, scores.get(i).join()));
+            } catch (RuntimeException e) {
+                log.debug("No fue posible puntuar la solicitud {} (intento {}): {}", application.id(),
+                        application.attempts() + 1, e.getMessage());
+                unscored.add(application);
+            }
+        }
+    }
+
+    /**
+     * Las decisiones de la página y su efecto en el rollup van en una transacción propia. Toda la página se decide
+     * con la misma tabla aunque se recargue entretanto.
+     */
+    private int apply(List<Scored> scored) {
+        DecisionRules rules = decisionRulesPort.current();
+        LocalDate today = LocalDate.now();
+        List<ApplicationStatusChange> changes = optimisticRetry.execute(() -> {
+            List<ApplicationStatusChange> applied = pendingApplicationPort.applyDecisions(decide(scored, rules, today));
+            if (!applied.isEmpty()) {
+                portfolioStatsPort.recordChanges(applied);
+                affiliateExposurePort.recordChanges(applied);
+            }
+            return applied;
+        });
+        decidedCounter.increment(changes.size());
+        return changes.size();
+    }
+
+    /**
+     * Bloquea la exposición de los afiliados de la página y decide en orden de página, sumando cada aprobación al
+     * total de su afiliado. Una aprobación que luego no se aplica (un analista tomó la solicitud) solo hace más
+     * estricta la decisión de las siguientes del mismo afiliado en esta página.
+     */
+    private List<RescoredApplication> decide(List<Scored> scored, DecisionRules rules, LocalDate today) {
+        Map<Long, BigDecimal> exposure = affiliateExposurePort.lockApprovedAmounts(scored.stream()
+                .map(item -> item.application().affiliateId())
+                .collect(Collectors.toCollection(TreeSet::new)));
+        List<RescoredApplication> decisions = new ArrayList<>(scored.size());
+        for (Scored item : scored) {
+            PendingApplication application = item.application();
+            RiskDecision decision = rules.decide(item.riskScore(), application.requestedAmount(),
+                    application.termMonths(), application.annualIncome(), application.registrationDate(), today,
+                    exposure.getOrDefault(application.affiliateId(), BigDecimal.ZERO));
+            if (decision.status() == ApplicationStatus.APROBADA) {
+                exposure.merge(application.affiliateId(), application.requestedAmount(), BigDecimal::add);
+            }
+            decisions.add(new RescoredApplication(application.id(), application.applicationDate(), item.riskScore(),
+                    decision));
+        }
+        return decisions;
+    }
+
+    private record Scored(PendingApplication application, int riskScore) {
+    }
+
+    @Override
+    public void destroy() {
+        scoringExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,152 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.PortfolioStatsCell;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rollup de cartera en {@code portfolio_stats} (migración V7).
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioStatsAdapter implements PortfolioStatsPort {
+
+    // Solicitudes sin decisión (p. ej. cargas históricas) no tienen nivel de riesgo
+    private static final String UNRATED = "SIN EVALUAR";
+
+    private static final int SLOTS = 8;
+
+    private static final String UPSERT = """
+            INSERT INTO portfolio_stats (month, status, risk_level, slot, applications, requested_amount)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (month, status, risk_level, slot) DO UPDATE
+            SET applications = portfolio_stats.applications + EXCLUDED.applications,
+                requested_amount = portfolio_stats.requested_amount + EXCLUDED.requested_amount,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String AGGREGATE = """
+            CREATE TEMP TABLE portfolio_stats_actual ON COMMIT DROP AS
+            SELECT date_trunc('month', application_date)::date AS month, status,
+                   COALESCE(risk_level, 'SIN EVALUAR') AS risk_level,
+                   count(*) AS applications, sum(requested_amount) AS requested_amount
+            FROM (
+                SELECT application_date, status, risk_level, requested_amount FROM credit_application
+                UNION ALL
+                SELECT application_date, status, risk_level, requested_amount FROM credit_application_archive
+            ) applications
+            GROUP BY 1, 2, 3
+            """;
+
+    private static final String COUNT_DRIFT = """
+            SELECT count(*)
+            FROM portfolio_stats_actual a
+            FULL JOIN (
+                SELECT month, status, risk_level, sum(applications) AS applications, sum(requested_amount) AS requested_amount
+                FROM portfolio_stats
+                GROUP BY 1, 2, 3
+            ) s ON s.month = a.month AND s.status = a.status AND s.risk_level = a.risk_level
+            WHERE a.applications IS DISTINCT FROM s.applications OR a.requested_amount IS DISTINCT FROM s.requested_amount
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void record(CreditApplication application) {
+        jdbcTemplate.update(UPSERT, cell(application.getId(), application.getApplicationDate(), application.getStatus(),
+                application.getRiskLevel(), 1, application.getRequestedAmount()));
+    }
+
+    /**
+     * Cada cambio resta de la celda anterior y suma a la nueva en el mismo slot. Un slot puede quedar en negativo
+     * (la reconciliación agrupa todo en el slot 0), pero la suma por celda que leen las consultas es exacta. Las filas
+     * se envían ordenadas por llave: dos lotes concurrentes bloquean las celdas en el mismo orden y no se interbloquean.
+     */
+    @Override
+    public void recordChanges(List<ApplicationStatusChange> changes) {
+        List<Object[]> cells = new ArrayList<>();
+        for (ApplicationStatusChange change : changes) {
+            cells.add(cell(change.applicationId(), change.applicationDate(), change.previousStatus(),
+                    change.previousRiskLevel(), -1, change.requestedAmount().negate()));
+            cells.add(cell(change.applicationId(), change.applicationDate(), change.status(),
+                    change.riskLevel(), 1, change.requestedAmount()));
+        }
+        cells.sort(Comparator.comparing((Object[] cell) -> (Date) cell[0])
+                .thenComparing(cell -> (String) cell[1])
+                .thenComparing(cell -> (String) cell[2])
+                .thenComparingInt(cell -> (Integer) cell[3]));
+        jdbcTemplate.batchUpdate(UPSERT, cells);
+    }
+
+    private static Object[] cell(Long applicationId, LocalDateTime applicationDate, ApplicationStatus status,
+                                 String riskLevel, int applications, BigDecimal requestedAmount) {
+        return new Object[]{
+                Date.valueOf(applicationDate.toLocalDate().withDayOfMonth(1)),
+                status.name(),
+                riskLevel == null ? UNRATED : riskLevel,
+                Math.floorMod(applicationId, SLOTS),
+                applications,
+                requestedAmount};
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortfolioStatsCell> find(YearMonth from, YearMonth to) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT month, status, risk_level, sum(applications), sum(requested_amount)
+                FROM portfolio_stats
+                """);
+        List<Object> params = new ArrayList<>();
+        if (from != null) {
+            sql.append(params.isEmpty() ? "WHERE " : "AND ").append("month >= ?\n");
+            params.add(Date.valueOf(from.atDay(1)));
+        }
+        if (to != null) {
+            sql.append(params.isEmpty() ? "WHERE " : "AND ").append("month <= ?\n");
+            params.add(Date.valueOf(to.atDay(1)));
+        }
+        sql.append("GROUP BY month, status, risk_level");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new PortfolioStatsCell(
+                YearMonth.from(rs.getDate(1).toLocalDate()),
+                ApplicationStatus.valueOf(rs.getString(2)),
+                rs.getString(3),
+                rs.getLong(4),
+                rs.getBigDecimal(5)), params.toArray());
+    }
+
+    /**
+     * El bloqueo EXCLUSIVE espera a las transacciones que ya sumaron al rollup y detiene las nuevas hasta el
+     * commit; así el agregado y el rollup reemplazado corresponden al mismo conjunto de solicitudes.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reconcile() {
+        jdbcTemplate.execute("LOCK TABLE portfolio_stats IN EXCLUSIVE MODE");
+        jdbcTemplate.execute(AGGREGATE);
+        Integer drift = jdbcTemplate.queryForObject(COUNT_DRIFT, Integer.class);
+        if (drift != null && drift > 0) {
+            jdbcTemplate.update("DELETE FROM portfolio_stats");
+            jdbcTemplate.update("""
+                    INSERT INTO portfolio_stats (month, status, risk_level, applications, requested_amount)
+                    SELECT month, status, risk_level, applications, requested_amount FROM portfolio_stats_actual
+                    """);
+        }
+        return drift == null ? 0 : drift;
+    }
+}
@@ -0,0 +1,82 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Envíos recientes por llave dentro de una ventana deslizante, en memoria y con tamaño acotado.
+ * <p>
+ * La ventana se divide en cubetas de tiempo que se reciclan en un anillo: una cubeta vencida se reemplaza entera
+ * cuando le vuelve a tocar, sin recorrer sus entradas, y cada cubeta admite como máximo {@code maxEntries /
+ * buckets} envíos. Si una cubeta se llena, los envíos siguientes no se recuerdan; quien consulta debe tener otra
+ * fuente (la base) para esos casos.
+ */
+final class RecentSubmissionWindow<K> {
+
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final int maxEntriesPerBucket;
+    // Una cubeta más que las que cubren la ventana: la más antigua puede seguir parcialmente vigente
+    private final AtomicReferenceArray<Bucket<K>> ring;
+
+    RecentSubmissionWindow(Duration window, int buckets, int maxEntries) {
+        this.windowMillis = window.toMillis();
+        this.bucketMillis = Math.max(windowMillis / buckets, 1);
+        this.maxEntriesPerBucket = Math.max(maxEntries / buckets, 1);
+        this.ring = new AtomicReferenceArray<>(buckets + 1);
+    }
+
+    /**
+     * Envío más reciente de la llave dentro de la ventana.
+     */
+    Optional<Submission> find(K key, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        for (long e = epoch; e > epoch - ring.length(); e--) {
+            Bucket<K> bucket = ring.get(slot(e));
+            if (bucket == null || bucket.epoch() != e) {
+                continue;
+            }
+            Submission submission = bucket.entries().get(key);
+            if (submission != null && nowMillis - submission.submittedAtMillis() < windowMillis) {
+                return Optional.of(submission);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return false si la cubeta actual está llena y el envío no se recordó
+     */
+    boolean record(K key, long applicationId, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = slot(epoch);
+        Bucket<K> bucket = ring.get(slot);
+        while (bucket == null || bucket.epoch() < epoch) {
+            Bucket<K> fresh = new Bucket<>(epoch, new ConcurrentHashMap<>());
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = ring.get(slot);
+            }
+        }
+        // Un reloj que retrocede no escribe en una cubeta más nueva que la que le corresponde
+        if (bucket.epoch() != epoch || bucket.entries().size() >= maxEntriesPerBucket) {
+            return false;
+        }
+        bucket.entries().put(key, new Submission(applicationId, nowMillis));
+        return true;
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) ring.length());
+    }
+
+    record Submission(long applicationId, long submittedAtMillis) {
+    }
+
+    private record Bucket<K>(long epoch, Map<K, Submission> entries) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.ReviewBatch;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+import com.riwi.coopcredit.domain.port.out.ReviewQueuePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Cola de revisión de analistas sobre {@code credit_application} (migración V10).
+ * <p>
+ * Reclamar es una sola sentencia: selecciona con {@code FOR UPDATE SKIP LOCKED} (dos revisores que reclaman a la vez
+ * reciben filas distintas sin esperarse) y marca el lote con el revisor y el vencimiento del plazo, que es lo que
+ * impide que otro lo reciba después del commit. Los vencimientos se calculan con el reloj de la base, común a todas
+ * las instancias. Reclamar y decidir incrementan la versión de la fila (bloqueo optimista, migración V9).
+ */
+@Service
+public class ReviewQueueAdapter implements ReviewQueuePort {
+
+    // El OR coincide con el predicado del índice parcial idx_credit_application_review_queue
+    private static final String CLAIM = """
+            WITH claimable AS (
+                SELECT id, application_date
+                FROM credit_application
+                WHERE (status = 'PENDIENTE' OR review_required)
+                  AND (review_lease_until IS NULL OR review_lease_until < LOCALTIMESTAMP OR review_claimed_by = ?)
+                ORDER BY application_date, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE credit_application c
+            SET review_claimed_by = ?,
+                review_lease_until = LOCALTIMESTAMP + make_interval(secs => ?),
+                version = c.version + 1
+            FROM claimable q
+            WHERE c.id = q.id AND c.application_date = q.application_date
+            RETURNING c.id, c.affiliate_id, c.requested_amount, c.term_months, c.application_date, c.status,
+                      c.risk_score, c.risk_level, c.review_required, c.version, c.review_lease_until
+            """;
+
+    // FOR UPDATE vuelve a evaluar versión y reclamo sobre la fila vigente si otra transacción la cambió entretanto
+    private static final String DECIDE = """
+            WITH decided AS (
+                SELECT c.id, c.application_date, c.status AS previous_status
+                FROM credit_application c
+                JOIN unnest(?::bigint[], ?::bigint[]) AS d(id, version) ON c.id = d.id AND c.version = d.version
+                WHERE (c.status = 'PENDIENTE' OR c.review_required)
+                  AND c.review_claimed_by = ? AND c.review_lease_until >= LOCALTIMESTAMP
+                FOR UPDATE OF c
+            )
+            UPDATE credit_application c
+            SET status = ?,
+                review_required = FALSE,
+                review_claimed_by = NULL,
+                review_lease_until = NULL,
+                version = c.version + 1
+            FROM decided d
+            WHERE c.id = d.id AND c.application_date = d.application_date
+            RETURNING c.id, c.affiliate_id, c.application_date, c.requested_amount, d.previous_status, c.risk_level, c.status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lease;
+
+    public ReviewQueueAdapter(JdbcTemplate jdbcTemplate, @Value("${review.queue.lease:15m}") Duration lease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lease = lease;
+    }
+
+    @Override
+    public ReviewBatch claim(String reviewer, int limit) {
+        List<CreditApplication> applications = new ArrayList<>();
+        List<LocalDateTime> leaseUntil = new ArrayList<>(1);
+        jdbcTemplate.query(CLAIM, rs -> {
+            applications.add(toApplication(rs));
+            if (leaseUntil.isEmpty()) {
+                leaseUntil.add(rs.getTimestamp("review_lease_until").toLocalDateTime());
+            }
+        }, reviewer, limit, reviewer, lease.toSeconds());
+        // RETURNING no conserva el orden de la cola
+        applications.sort(Comparator.comparing(CreditApplication::getApplicationDate).thenComparing(CreditApplication::getId));
+        return new ReviewBatch(applications, leaseUntil.isEmpty() ? null : leaseUntil.get(0));
+    }
+
+    @Override
+    public List<ApplicationStatusChange> decide(String reviewer, ApplicationStatus decision, List<ReviewItem> items) {
+        Long[] ids = items.stream().map(ReviewItem::applicationId).toArray(Long[]::new);
+        Long[] versions = items.stream().map(ReviewItem::version).toArray(Long[]::new);
+        return jdbcTemplate.query(DECIDE, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", versions));
+            ps.setString(3, reviewer);
+            ps.setString(4, decision.name());
+        }, (rs, rowNum) -> new ApplicationStatusChange(
+                rs.getLong("id"),
+                rs.getLong("affiliate_id"),
+                rs.getTimestamp("application_date").toLocalDateTime(),
+                rs.getBigDecimal("requested_amount"),
+                ApplicationStatus.valueOf(rs.getString("previous_status")),
+                rs.getString("risk_level"),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getString("risk_level")));
+    }
+
+    private static CreditApplication toApplication(ResultSet rs) throws SQLException {
+        Affiliate affiliate = new Affiliate();
+        affiliate.setId(rs.getLong("affiliate_id"));
+
+        CreditApplication application = new CreditApplication();
+        application.setId(rs.getLong("id"));
+        application.setAffiliate(affiliate);
+        application.setRequestedAmount(rs.getBigDecimal("requested_amount"));
+        application.setTermMonths(rs.getInt("term_months"));
+        application.setApplicationDate(rs.getTimestamp("application_date").toLocalDateTime());
+        application.setStatus(ApplicationStatus.valueOf(rs.getString("status")));
+        application.setRiskScore((Integer) rs.getObject("risk_score"));
+        application.setRiskLevel(rs.getString("risk_level"));
+        application.setReviewRequired(rs.getBoolean("review_required"));
+        application.setVersion(rs.getLong("version"));
+        return application;
+    }
+}
@@ -0,0 +1,67 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riwi.coopcredit.domain.model.RiskProfile;
+import com.riwi.coopcredit.domain.port.out.RiskProfilePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Perfiles de riesgo por documento con una cache delante (tamaño máximo y TTL). La cache guarda el
+ * {@link Optional} ya construido, así que un acierto no asigna memoria; los documentos inexistentes no se guardan.
+ * El historial se cuenta en la tabla activa y en el archivo.
+ */
+@Service
+public class RiskProfileAdapter implements RiskProfilePort {
+
+    // Un solo afiliado: las dos ramas usan su índice por affiliate_id
+    private static final String FIND_BY_DOCUMENT = """
+            SELECT a.annual_income,
+                   count(*) FILTER (WHERE h.status = 'APROBADA') AS approved,
+                   count(*) FILTER (WHERE h.status = 'RECHAZADA') AS rejected
+            FROM affiliate a
+            LEFT JOIN (
+                SELECT affiliate_id, status FROM credit_application
+                UNION ALL
+                SELECT affiliate_id, status FROM credit_application_archive
+            ) h ON h.affiliate_id = a.id
+            WHERE a.document = ?
+            GROUP BY a.id, a.annual_income
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Optional<RiskProfile>> profiles;
+    private final Function<String, Optional<RiskProfile>> loader = this::load;
+
+    public RiskProfileAdapter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                              @Value("${risk.scoring.profiles.maximum-size:10000}") long maximumSize,
+                              @Value("${risk.scoring.profiles.ttl:10m}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.profiles = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "risk.profiles");
+    }
+
+    @Override
+    public Optional<RiskProfile> findByDocument(String document) {
+        Optional<RiskProfile> profile = profiles.get(document, loader);
+        return profile == null ? Optional.empty() : profile;
+    }
+
+    private Optional<RiskProfile> load(String document) {
+        List<RiskProfile> found = jdbcTemplate.query(FIND_BY_DOCUMENT, (rs, rowNum) -> new RiskProfile(
+                rs.getBigDecimal("annual_income").doubleValue(),
+                rs.getInt("approved"),
+                rs.getInt("rejected")), document);
+        // null: Caffeine no guarda la entrada y un afiliado recién creado se encuentra de inmediato
+        return found.isEmpty() ? null : Optional.of(found.get(0));
+    }
+}
@@ -0,0 +1,49 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity;
+
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity.CreditApplicationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Solicitud cerrada movida al almacenamiento frío por el job de archivado. Solo lectura.
+ */
+@Entity
+@Immutable
+@Table(name = "credit_application_archive")
+@Getter
+@NoArgsConstructor
+public class CreditApplicationArchiveEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "requested_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal requestedAmount;
+
+    @Column(name = "term_months", nullable = false)
+    private Integer termMonths;
+
+    @Column(name = "application_date", nullable = false)
+    private LocalDateTime applicationDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private CreditApplicationStatus status;
+
+    @Column(name = "risk_score")
+    private Integer riskScore;
+
+    @Column(name = "risk_level", length = 50)
+    private String riskLevel;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "affiliate_id", nullable = false)
+    private AffiliateEntity affiliate;
+}
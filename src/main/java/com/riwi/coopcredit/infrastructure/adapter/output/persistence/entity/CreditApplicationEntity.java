@@ -2,11 +2,14 @@ package com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// Solo las columnas modificadas entran en el UPDATE: dos procesos que cambian campos distintos no se pisan los valores
 @Entity
+@DynamicUpdate
 @Table(name = "credit_application")
 @Getter
 @Setter
@@ -25,7 +28,8 @@ public class CreditApplicationEntity {
     @Column(name = "term_months", nullable = false)
     private Integer termMonths;
 
-    @Column(name = "application_date", nullable = false)
+    // Llave de partición de la tabla: una actualización no debe mover la fila de partición
+    @Column(name = "application_date", nullable = false, updatable = false)
     private LocalDateTime applicationDate;
 
     @Enumerated(EnumType.STRING)
@@ -38,11 +42,19 @@ public class CreditApplicationEntity {
     @Column(name = "risk_level", length = 50)
     private String riskLevel;
 
-    // Relación Muchos-1 con AffiliateEntity
+    // Decisión automática pendiente de confirmar por un analista (cola de revisión, migración V10)
+    @Column(name = "review_required", nullable = false)
+    private boolean reviewRequired;
+
+    // Relación Muchos-1 con AffiliateEntity. Una solicitud no cambia de afiliado: las actualizaciones no la incluyen
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "affiliate_id", nullable = false)
+    @JoinColumn(name = "affiliate_id", nullable = false, updatable = false)
     private AffiliateEntity affiliate;
 
+    // Bloqueo optimista: el UPDATE incluye "AND version = ?" y falla si otro proceso modificó la fila antes
+    @Version
+    private Long version;
+
     // Enum auxiliar para la persistencia
     public enum CreditApplicationStatus {
         PENDIENTE, APROBADA, RECHAZADA
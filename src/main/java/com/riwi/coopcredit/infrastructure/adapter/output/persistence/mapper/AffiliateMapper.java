@@ -9,7 +9,9 @@ import org.mapstruct.Mapping;
 public interface AffiliateMapper {
 
     // Mapeo de Entidad a Dominio
+    // Las solicitudes no se mapean: recorrer la colección LAZY dispara una consulta por afiliado (N+1)
     @Mapping(target = "annualIncome", source = "annualIncome")
+    @Mapping(target = "applications", ignore = true)
     Affiliate toDomain(AffiliateEntity entity);
 
     // Mapeo de Dominio a Entidad
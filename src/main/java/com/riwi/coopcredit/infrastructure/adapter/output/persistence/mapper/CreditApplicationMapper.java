@@ -2,6 +2,7 @@ package com.riwi.coopcredit.infrastructure.adapter.output.persistence.mapper;
 
 import com.riwi.coopcredit.domain.model.ApplicationStatus;
 import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationArchiveEntity;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity;
 import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationEntity.CreditApplicationStatus;
 import org.mapstruct.Mapper;
@@ -21,6 +22,13 @@ public interface CreditApplicationMapper {
     @Mapping(target = "affiliate", ignore = true) // Ignoramos el afiliado para evitar recursión
     CreditApplication toDomain(CreditApplicationEntity entity);
 
+    // Mapeo de una solicitud archivada a Dominio
+    @Mapping(target = "status", source = "status")
+    @Mapping(target = "affiliate", ignore = true)
+    @Mapping(target = "version", ignore = true) // Archivada = cerrada: ya no se actualiza
+    @Mapping(target = "reviewRequired", ignore = true)
+    CreditApplication toDomain(CreditApplicationArchiveEntity entity);
+
     // Mapeo de Dominio a Entidad
     @Mapping(target = "status", source = "status")
     @Mapping(target = "affiliate", ignore = true) // La relación se establece manualmente en el servicio
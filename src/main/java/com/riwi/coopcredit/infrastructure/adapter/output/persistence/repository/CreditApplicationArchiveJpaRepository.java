@@ -0,0 +1,7 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence.repository;
+
+import com.riwi.coopcredit.infrastructure.adapter.output.persistence.entity.CreditApplicationArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CreditApplicationArchiveJpaRepository extends JpaRepository<CreditApplicationArchiveEntity, Long> {
+}
@@ -0,0 +1,68 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.scoring;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.RiskProfile;
+import com.riwi.coopcredit.domain.model.RiskScoringModel;
+import com.riwi.coopcredit.domain.port.out.RiskEstimatePort;
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import com.riwi.coopcredit.domain.port.out.RiskProfilePort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Puntaje de riesgo calculado en proceso con {@link RiskScoringModel}, sin llamar al servicio externo. Los pesos se
+ * leen de {@code risk.scoring.local} al arrancar.
+ * <p>
+ * Con el perfil en cache no asigna memoria: el modelo opera con primitivos y los puntajes posibles se guardan ya
+ * convertidos a {@link Integer}. La pre-calificación lo usa directamente como {@link RiskEstimatePort}, sea cual sea
+ * {@code risk.scoring.mode}.
+ */
+@Service
+public class LocalRiskScoringAdapter implements RiskExternalPort, RiskEstimatePort {
+
+    private final RiskProfilePort riskProfilePort;
+    private final RiskScoringModel model;
+    private final Integer[] scores;
+
+    @Autowired
+    public LocalRiskScoringAdapter(RiskProfilePort riskProfilePort,
+                                   @Value("${risk.scoring.local.intercept:620}") double intercept,
+                                   @Value("${risk.scoring.local.log-monthly-income:60}") double logMonthlyIncome,
+                                   @Value("${risk.scoring.local.income-reference:3000000}") double incomeReference,
+                                   @Value("${risk.scoring.local.debt-to-income:-250}") double debtToIncome,
+                                   @Value("${risk.scoring.local.term-years:-6}") double termYears,
+                                   @Value("${risk.scoring.local.approvals:12}") double approvals,
+                                   @Value("${risk.scoring.local.rejections:-45}") double rejections,
+                                   @Value("${risk.scoring.local.history-cap:10}") int historyCap,
+                                   @Value("${risk.scoring.local.min-score:300}") int minScore,
+                                   @Value("${risk.scoring.local.max-score:900}") int maxScore) {
+        this(riskProfilePort, new RiskScoringModel(intercept, logMonthlyIncome, incomeReference, debtToIncome,
+                termYears, approvals, rejections, historyCap, minScore, maxScore));
+    }
+
+    LocalRiskScoringAdapter(RiskProfilePort riskProfilePort, RiskScoringModel model) {
+        this.riskProfilePort = riskProfilePort;
+        this.model = model;
+        this.scores = new Integer[model.maxScore() - model.minScore() + 1];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = model.minScore() + i;
+        }
+    }
+
+    @Override
+    public Integer getRiskScore(String document, Double amount, Integer term) {
+        return scores[estimateRiskScore(document, amount, term) - model.minScore()];
+    }
+
+    @Override
+    public int estimateRiskScore(String document, double amount, int termMonths) {
+        Optional<RiskProfile> profile = riskProfilePort.findByDocument(document);
+        if (profile.isEmpty()) {
+            throw new DomainException("No hay perfil de riesgo para el documento " + document + ".");
+        }
+        return model.score(profile.get(), amount, termMonths);
+    }
+}
@@ -0,0 +1,93 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.scoring;
+
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import com.riwi.coopcredit.infrastructure.adapter.output.external.RiskExternalAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Elige de dónde sale el puntaje de riesgo según {@code risk.scoring.mode}:
+ * <ul>
+ *     <li>{@code REMOTE}: el servicio externo (comportamiento original).</li>
+ *     <li>{@code LOCAL}: solo el modelo en proceso; sirve para operar durante una caída del servicio externo.</li>
+ *     <li>{@code TIERED}: primero el modelo local; si el puntaje es claramente alto ({@code approve-above} o más) o
+ *     claramente bajo (menos de {@code reject-below}) se usa sin llamar al servicio externo, y los casos
+ *     intermedios (o sin perfil local) se consultan afuera.</li>
+ * </ul>
+ * Puntajes servidos por origen en {@code coopcredit.risk.scores{source}}.
+ */
+@Slf4j
+@Primary
+@Service
+public class RoutingRiskScoringAdapter implements RiskExternalPort {
+
+    public enum Mode {
+        REMOTE,
+        LOCAL,
+        TIERED
+    }
+
+    private final RiskExternalAdapter remote;
+    private final LocalRiskScoringAdapter local;
+    private final Mode mode;
+    private final int approveAbove;
+    private final int rejectBelow;
+    private final Counter localScores;
+    private final Counter remoteScores;
+
+    public RoutingRiskScoringAdapter(RiskExternalAdapter remote, LocalRiskScoringAdapter local, MeterRegistry meterRegistry,
+                                     @Value("${risk.scoring.mode:REMOTE}") Mode mode,
+                                     @Value("${risk.scoring.tiered.approve-above:780}") int approveAbove,
+                                     @Value("${risk.scoring.tiered.reject-below:420}") int rejectBelow) {
+        this.remote = remote;
+        this.local = local;
+        this.mode = Objects.requireNonNullElse(mode, Mode.REMOTE);
+        this.approveAbove = approveAbove;
+        this.rejectBelow = rejectBelow;
+        this.localScores = meterRegistry.counter("coopcredit.risk.scores", "source", "local");
+        this.remoteScores = meterRegistry.counter("coopcredit.risk.scores", "source", "remote");
+        log.info("Puntaje de riesgo en modo {}", this.mode);
+    }
+
+    @Override
+    public Integer getRiskScore(String document, Double amount, Integer term) {
+        return switch (mode) {
+            case REMOTE -> remote(document, amount, term);
+            case LOCAL -> local(document, amount, term);
+            case TIERED -> tiered(document, amount, term);
+        };
+    }
+
+    private Integer tiered(String document, Double amount, Integer term) {
+        Integer score;
+        try {
+            score = local.getRiskScore(document, amount, term);
+        } catch (RuntimeException e) {
+            log.debug("Sin puntaje local para el documento {}: {}", document, e.getMessage());
+            return remote(document, amount, term);
+        }
+        if (score >= approveAbove || score < rejectBelow) {
+            localScores.increment();
+            return score;
+        }
+        return remote(document, amount, term);
+    }
+
+    private Integer local(String document, Double amount, Integer term) {
+        Integer score = local.getRiskScore(document, amount, term);
+        localScores.increment();
+        return score;
+    }
+
+    private Integer remote(String document, Double amount, Integer term) {
+        Integer score = remote.getRiskScore(document, amount, term);
+        remoteScores.increment();
+        return score;
+    }
+}
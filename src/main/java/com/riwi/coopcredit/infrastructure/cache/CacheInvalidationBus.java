@@ -0,0 +1,229 @@
+package com.riwi.coopcredit.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidación de caches en memoria entre instancias usando {@code LISTEN/NOTIFY} de PostgreSQL.
+ * <p>
+ * Quien modifica un dato llama a {@link #publish}: la entrada se descarta de inmediato en esta instancia y el aviso
+ * viaja en la transacción actual, de modo que las demás instancias solo lo reciben si hay commit. Cada instancia
+ * escucha en una conexión propia, fuera del pool; si la conexión se pierde, se reconecta y vacía todas las caches,
+ * porque pudo perder avisos mientras estuvo desconectada.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    static final String CHANNEL = "coopcredit_cache_invalidation";
+    private static final String SEPARATOR = ":";
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${cache.invalidation.listen-enabled:true}")
+    private boolean listenEnabled;
+
+    @Value("${cache.invalidation.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    private volatile boolean running;
+    private volatile Thread listener;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra una cache local.
+     *
+     * @param evict    descarta la entrada de una llave
+     * @param clearAll vacía la cache completa (tras una reconexión)
+     */
+    public void subscribe(String cache, Consumer<String> evict, Runnable clearAll) {
+        subscribers.put(cache, new Subscriber(evict, clearAll));
+    }
+
+    /**
+     * Invalida una llave en todas las instancias. Dentro de una transacción, los avisos se agrupan en una sola
+     * sentencia antes del commit y se repite la invalidación local al terminar, para que una lectura concurrente
+     * no deje en cache el valor anterior al commit.
+     */
+    public void publish(String cache, String key) {
+        evictLocally(cache, key);
+        String message = cache + SEPARATOR + key;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(message));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> messages = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, messages);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(messages);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                    messages.forEach(CacheInvalidationBus.this::evictLocally);
+                }
+            });
+            pending = messages;
+        }
+        pending.add(message);
+    }
+
+    private void send(Iterable<String> messages) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (String message : messages) {
+            sql.append(args.isEmpty() ? "" : ", ").append("pg_notify(?, ?)");
+            args.add(CHANNEL);
+            args.add(nodeId + SEPARATOR + message);
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.queryForList(sql.toString(), args.toArray());
+            meterRegistry.counter("coopcredit.cache.invalidation.published").increment(args.size() / 2.0);
+        }
+    }
+
+    private void evictLocally(String message) {
+        String[] parts = message.split(SEPARATOR, 2);
+        evictLocally(parts[0], parts[1]);
+    }
+
+    private void evictLocally(String cache, String key) {
+        Subscriber subscriber = subscribers.get(cache);
+        if (subscriber != null) {
+            subscriber.evict().accept(key);
+        }
+    }
+
+    private void listen() {
+        long backoffMs = 1_000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Los avisos emitidos mientras no había conexión se perdieron
+                clearAll();
+                log.info("Escuchando invalidaciones de cache en el canal {} (nodo {})", CHANNEL, nodeId);
+                backoffMs = 1_000;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                meterRegistry.counter("coopcredit.cache.invalidation.reconnects").increment();
+                log.warn("Conexión de invalidación de cache perdida, reintento en {} ms: {}", backoffMs, e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    // Una cache que falla no debe dejar a las demás con datos viejos ni detener el hilo de escucha
+    private void clearAll() {
+        subscribers.forEach((cache, subscriber) -> {
+            try {
+                subscriber.clearAll().run();
+            } catch (RuntimeException e) {
+                log.warn("No fue posible vaciar la cache {}: {}", cache, e.getMessage());
+            }
+        });
+    }
+
+    private void receive(String payload) {
+        String[] parts = payload.split(SEPARATOR, 2);
+        // Esta instancia ya invalidó al publicar
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+        meterRegistry.counter("coopcredit.cache.invalidation.received").increment();
+        try {
+            evictLocally(parts[1]);
+        } catch (RuntimeException e) {
+            log.warn("No fue posible aplicar la invalidación {}: {}", payload, e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!listenEnabled) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+        listener = thread;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record Subscriber(Consumer<String> evict, Runnable clearAll) {
+    }
+}
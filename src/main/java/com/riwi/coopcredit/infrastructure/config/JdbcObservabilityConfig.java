@@ -0,0 +1,46 @@
+package com.riwi.coopcredit.infrastructure.config;
+
+import com.riwi.coopcredit.infrastructure.observability.JdbcMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource en un proxy JDBC que mide cada sentencia.
+ * Reemplaza el log de SQL de Hibernate: las métricas salen por Micrometer
+ * y solo las consultas lentas se escriben en el log.
+ */
+@Configuration
+@ConditionalOnProperty(name = "observability.jdbc.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcObservabilityConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcProxyBeanPostProcessor(ObjectProvider<MeterRegistry> registry, Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                JdbcMetricsListener listener = new JdbcMetricsListener(
+                        registry.getObject(),
+                        env.getProperty("observability.jdbc.slow-query-threshold-ms", Long.class, 200L),
+                        env.getProperty("observability.jdbc.max-query-shapes", Integer.class, 500)
+                );
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(listener)
+                        .proxyResultSet()
+                        .methodListener(listener)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.riwi.coopcredit.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separa lecturas y escrituras cuando se configuran réplicas en {@code datasource.replicas.urls}.
+ * <p>
+ * Las transacciones {@code @Transactional(readOnly = true)} marcan su conexión como de solo lectura antes de la
+ * primera sentencia; el proxy perezoso aprovecha eso para pedirla a {@link ReplicaRoutingDataSource} en lugar del
+ * primario. Todo lo demás, incluidas las migraciones de Flyway, sigue en el primario. Cada pool publica sus
+ * métricas {@code hikaricp.*} con la etiqueta {@code pool} (primary, replica-1, ...).
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.urls")
+public class ReadReplicaConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                 @Value("${datasource.replicas.urls}") List<String> replicaUrls,
+                                 @Value("${datasource.replicas.username:${spring.datasource.username}}") String username,
+                                 @Value("${datasource.replicas.password:${spring.datasource.password}}") String password,
+                                 @Value("${datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                 @Value("${datasource.replicas.connection-timeout-ms:2000}") long connectionTimeoutMs,
+                                 @Value("${datasource.replicas.max-lag-seconds:5}") double maxLagSeconds,
+                                 @Value("${datasource.replicas.lag-check-interval-ms:1000}") long lagCheckIntervalMs) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // Conserva la configuración spring.datasource.hikari.* que Spring Boot aplicaría al pool por defecto
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            // Una réplica que no responde debe fallar rápido para que la lectura pase al primario
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, replicas, maxLagSeconds,
+                lagCheckIntervalMs, meterRegistry);
+        return new ReadWriteDataSource(primary, readOnly);
+    }
+
+    /**
+     * Proxy expuesto como DataSource de la aplicación; Spring lo cierra al apagar el contexto.
+     */
+    static class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private final ReplicaRoutingDataSource readOnly;
+
+        ReadWriteDataSource(DataSource primary, ReplicaRoutingDataSource readOnly) {
+            super(primary);
+            setReadOnlyDataSource(readOnly);
+            this.readOnly = readOnly;
+        }
+
+        @Override
+        public void close() {
+            readOnly.close();
+        }
+    }
+}
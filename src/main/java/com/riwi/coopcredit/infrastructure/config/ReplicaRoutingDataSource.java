@@ -0,0 +1,177 @@
+package com.riwi.coopcredit.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Destino de las conexiones de solo lectura: reparte entre las réplicas en round-robin y omite las que superan
+ * {@code max-lag-seconds} de retraso o no responden. Si ninguna está disponible, la lectura va al primario.
+ * <p>
+ * El retraso se mide en un hilo propio cada {@code lag-check-interval-ms}; elegir réplica no consulta la base.
+ * Cerrarlo cierra todos los pools, incluido el del primario.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    // Al día = todo lo recibido ya está aplicado y el receptor de WAL sigue conectado. Sin receptor (la réplica perdió
+    // su origen) no hay fila y no está al día, aunque haya aplicado todo lo que recibió. El estado del receptor solo
+    // es visible con pg_read_all_stats; sin ese privilegio la fila llega con status NULL y basta con que exista.
+    static final String LAG_QUERY = """
+            SELECT pg_is_in_recovery(),
+                   pg_last_wal_receive_lsn() IS NOT DISTINCT FROM pg_last_wal_replay_lsn()
+                       AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE COALESCE(status, 'streaming') = 'streaming'),
+                   EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final Counter fallbacks;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools, double maxLagSeconds,
+                                    long lagCheckIntervalMs, MeterRegistry meterRegistry) {
+        this(primary, replicaPools, maxLagSeconds, meterRegistry);
+        // Hasta el primer chequeo las lecturas van al primario: una réplica caída no retrasa el arranque
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sin chequeo periódico: las pruebas llaman a {@link #checkLag()} cuando lo necesitan.
+     */
+    ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicaPools, double maxLagSeconds,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLagSeconds;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.fallbacks = meterRegistry.counter("coopcredit.datasource.replica.fallback");
+        for (Replica replica : replicas) {
+            Gauge.builder("coopcredit.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("pool", replica.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("coopcredit.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("pool", replica.name)
+                    .register(meterRegistry);
+        }
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                try {
+                    return replica.pool.getConnection();
+                } catch (SQLException e) {
+                    // Se prueba la siguiente; el chequeo periódico decidirá si vuelve a estar disponible
+                    replica.markUnavailable(e);
+                }
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Las réplicas usan las credenciales configuradas en su pool");
+    }
+
+    void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                replica.lagSeconds = replica.lag(!rs.getBoolean(1) || rs.getBoolean(2), rs.getDouble(3), rs.wasNull());
+                boolean available = replica.lagSeconds <= maxLagSeconds;
+                if (available != replica.available) {
+                    log.info("Réplica {} {} (retraso {} s)", replica.name,
+                            available ? "disponible" : "excluida de las lecturas", replica.lagSeconds);
+                }
+                replica.available = available;
+            } catch (SQLException | RuntimeException e) {
+                replica.markUnavailable(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        replicas.forEach(replica -> closePool(replica.pool));
+        closePool(primary);
+    }
+
+    private static void closePool(DataSource pool) {
+        if (pool instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+
+    static final class Replica {
+        private final DataSource pool;
+        private final String name;
+        private volatile boolean available;
+        private volatile double lagSeconds;
+        private long caughtUpAt = -1;
+
+        Replica(DataSource pool) {
+            this.pool = pool;
+            this.name = pool instanceof HikariDataSource hikari ? hikari.getPoolName() : pool.toString();
+        }
+
+        /**
+         * La antigüedad de la última transacción aplicada sobrestima el retraso cuando el primario estuvo inactivo y
+         * acaba de escribir; por eso, si la réplica se vio al día en un chequeo anterior, el retraso no supera el
+         * tiempo transcurrido desde entonces.
+         */
+        double lag(boolean caughtUp, double replayAgeSeconds, boolean noReplayYet) {
+            return lag(caughtUp, replayAgeSeconds, noReplayYet, System.nanoTime());
+        }
+
+        double lag(boolean caughtUp, double replayAgeSeconds, boolean noReplayYet, long now) {
+            if (caughtUp) {
+                caughtUpAt = now;
+                return 0;
+            }
+            double sinceCaughtUp = caughtUpAt < 0 ? Double.POSITIVE_INFINITY : (now - caughtUpAt) / 1e9;
+            return Math.min(sinceCaughtUp, noReplayYet ? Double.POSITIVE_INFINITY : replayAgeSeconds);
+        }
+
+        private void markUnavailable(Exception e) {
+            if (available) {
+                log.warn("Réplica {} excluida de las lecturas: {}", name, e.getMessage());
+            }
+            available = false;
+            lagSeconds = Double.NaN;
+        }
+    }
+}
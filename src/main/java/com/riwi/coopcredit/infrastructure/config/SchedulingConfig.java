@@ -0,0 +1,12 @@
+package com.riwi.coopcredit.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas de mantenimiento (particiones de solicitudes).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
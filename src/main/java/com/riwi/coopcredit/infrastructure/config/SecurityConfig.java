@@ -43,6 +43,11 @@ public class SecurityConfig {
 
                         // Endpoints restringidos por rol
                         .requestMatchers("/affiliates").hasAuthority("ROLE_ADMIN") // Ejemplo de restricción
+                        .requestMatchers("/api/v1/admin/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/api/v1/exports/**").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+                        .requestMatchers("/api/v1/stats/**").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+                        .requestMatchers("/api/v1/affiliates/search").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+                        .requestMatchers("/api/v1/reviews/**").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
                         .requestMatchers("/applications/new").hasAnyAuthority("ROLE_AFILIADO", "ROLE_ADMIN") // Ejemplo: Afiliado crea solicitud
 
                         // Cualquier otra solicitud requiere autenticación (JWT válido)
@@ -0,0 +1,63 @@
+package com.riwi.coopcredit.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Borra las llaves de idempotencia vencidas en lotes cortos, cada uno en su propia transacción. Una llave vencida
+ * ya no se repite aunque siga en la tabla, así que el job solo controla el tamaño de la tabla.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idempotency.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyKeyCleanupJob {
+
+    // SKIP LOCKED: una llave vencida que una petición está reutilizando se deja en paz
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM idempotency_key
+            WHERE (owner, request_key) IN (
+                SELECT owner, request_key
+                FROM idempotency_key
+                WHERE expires_at <= LOCALTIMESTAMP
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${idempotency.cleanup.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup.interval:1h}",
+            initialDelayString = "${idempotency.cleanup.interval:1h}")
+    public void scheduledCleanup() {
+        cleanup();
+    }
+
+    /**
+     * @return llaves borradas
+     */
+    public long cleanup() {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize && !Thread.currentThread().isInterrupted());
+
+        meterRegistry.counter("coopcredit.idempotency.expired").increment(total);
+        if (total > 0) {
+            log.info("Llaves de idempotencia vencidas borradas: {}", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+package com.riwi.coopcredit.infrastructure.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Tabla de llaves de idempotencia (migración V12). Todas las operaciones deben correr en la transacción de la
+ * petición: la fila recién reclamada solo es visible para otras sesiones cuando ya tiene la respuesta.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyStore {
+
+    // Si la llave existe y no ha vencido no se toca; una llave vencida se reutiliza como si fuera nueva.
+    // Ante una fila sin confirmar de otra transacción, el INSERT espera a que esa transacción termine.
+    private static final String CLAIM = """
+            INSERT INTO idempotency_key (owner, request_key, request_hash, expires_at)
+            VALUES (?, ?, ?, LOCALTIMESTAMP + make_interval(secs => ?))
+            ON CONFLICT (owner, request_key) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash, response_status = NULL, response_body = NULL,
+                    created_at = LOCALTIMESTAMP, expires_at = EXCLUDED.expires_at
+                WHERE idempotency_key.expires_at <= LOCALTIMESTAMP
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE idempotency_key SET response_status = ?, response_body = ?
+            WHERE owner = ? AND request_key = ?
+            """;
+
+    private static final String FIND = """
+            SELECT request_hash, response_status, response_body
+            FROM idempotency_key
+            WHERE owner = ? AND request_key = ? AND response_status IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserva la llave para esta petición.
+     *
+     * @return false si la llave ya tiene una respuesta vigente, que se obtiene con {@link #find}
+     */
+    public boolean claim(String owner, String key, String requestHash, Duration retention) {
+        return jdbcTemplate.update(CLAIM, owner, key, requestHash, retention.toSeconds()) == 1;
+    }
+
+    /**
+     * Guarda la respuesta de la llave reclamada en esta transacción.
+     */
+    public void complete(String owner, String key, StoredResponse response) {
+        jdbcTemplate.update(COMPLETE, response.status(), response.body(), owner, key);
+    }
+
+    public Optional<StoredResponse> find(String owner, String key) {
+        return jdbcTemplate.query(FIND, (rs, rowNum) -> new StoredResponse(
+                rs.getString("request_hash"),
+                rs.getInt("response_status"),
+                rs.getString("response_body")), owner, key).stream().findFirst();
+    }
+
+    /**
+     * Respuesta guardada de una petición.
+     *
+     * @param requestHash huella de la petición original; un reintento con otra huella no recibe esta respuesta
+     * @param status      código HTTP
+     * @param body        cuerpo en JSON
+     */
+    public record StoredResponse(String requestHash, int status, String body) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.riwi.coopcredit.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.infrastructure.idempotency.IdempotencyKeyStore.StoredResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una sola vez las peticiones con cabecera {@code Idempotency-Key}: los reintentos del mismo usuario con la
+ * misma llave dentro de {@code retention} reciben la respuesta guardada sin volver a ejecutar la operación.
+ * <p>
+ * La llave se reclama en la misma transacción que la operación y la respuesta se guarda antes del commit. Un
+ * duplicado en otra instancia queda bloqueado por la llave primaria hasta que la primera ejecución termina y
+ * entonces lee su respuesta; si la primera falla, su transacción se revierte y el duplicado se ejecuta normalmente.
+ * En esta instancia los duplicados esperan la ejecución en curso sin ocupar una conexión y siguen la misma regla: un
+ * error no se guarda ni se repite, el duplicado que esperaba se ejecuta. Las respuestas recientes se sirven desde una
+ * cache local pequeña.
+ */
+@Component
+public class IdempotentRequestExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyStore store;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration retention;
+    private final Duration waitTimeout;
+
+    public IdempotentRequestExecutor(IdempotencyKeyStore store, ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                     @Value("${idempotency.retention:24h}") Duration retention,
+                                     @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+                                     @Value("${idempotency.cache.maximum-size:10000}") long cacheMaximumSize,
+                                     @Value("${idempotency.cache.ttl:10m}") Duration cacheTtl) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.waitTimeout = waitTimeout;
+        // La cache nunca sirve una respuesta más allá de la retención de la tabla
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl.compareTo(retention) < 0 ? cacheTtl : retention)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency.responses");
+    }
+
+    /**
+     * Ejecuta {@code operation} si la llave no tiene una respuesta vigente, o repite la respuesta guardada.
+     *
+     * @param owner     usuario autenticado; las llaves de usuarios distintos no se cruzan
+     * @param key       valor de la cabecera {@code Idempotency-Key}
+     * @param operation nombre de la operación (método y ruta), parte de la huella junto con {@code request}
+     * @param request   cuerpo de la petición; reutilizar la llave con otro cuerpo es un error
+     * @throws DomainException si la llave es inválida, se usó con otra petición o la ejecución en curso no terminó
+     *                         dentro de {@code wait-timeout}
+     */
+    public <T> ResponseEntity<T> execute(String owner, String key, String operation, Object request,
+                                         Class<T> bodyType, Supplier<ResponseEntity<T>> action) {
+        validate(key);
+        String requestHash = hash(operation + "\n" + write(request));
+        String cacheKey = owner + "\n" + key;
+
+        while (true) {
+            StoredResponse cached = responses.getIfPresent(cacheKey);
+            if (cached != null) {
+                return replay(cached, requestHash, bodyType);
+            }
+
+            CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(cacheKey, execution);
+            if (running != null) {
+                StoredResponse stored = await(running);
+                if (stored != null) {
+                    return replay(stored, requestHash, bodyType);
+                }
+                // La ejecución en curso falló sin dejar respuesta: este duplicado se ejecuta como un reintento
+                continue;
+            }
+            try {
+                Execution<T> result = transactionTemplate.execute(status -> {
+                    if (!store.claim(owner, key, requestHash, retention)) {
+                        return new Execution<T>(store.find(owner, key).orElseThrow(IdempotentRequestExecutor::inProgress), null);
+                    }
+                    ResponseEntity<T> response = action.get();
+                    StoredResponse stored = new StoredResponse(requestHash, response.getStatusCode().value(),
+                            write(response.getBody()));
+                    store.complete(owner, key, stored);
+                    return new Execution<>(stored, response);
+                });
+                responses.put(cacheKey, result.stored());
+                execution.complete(result.stored());
+                if (result.response() == null) {
+                    return replay(result.stored(), requestHash, bodyType);
+                }
+                meterRegistry.counter("coopcredit.idempotency.requests", "result", "executed").increment();
+                return result.response();
+            } catch (RuntimeException e) {
+                // Se libera antes de avisar: el duplicado que despierta no debe volver a encontrar esta ejecución
+                inFlight.remove(cacheKey, execution);
+                execution.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(cacheKey, execution);
+            }
+        }
+    }
+
+    /**
+     * Repite la respuesta ya guardada para la llave sin reclamarla ni esperar una ejecución en curso. Permite que el
+     * llamador atienda un reintento antes de los controles que solo aplican a envíos nuevos, como los límites de
+     * velocidad.
+     *
+     * @return la respuesta guardada, o vacío si la llave no tiene una respuesta vigente
+     * @throws DomainException si la llave es inválida o su respuesta corresponde a otra petición
+     */
+    public <T> Optional<ResponseEntity<T>> findReplay(String owner, String key, String operation, Object request,
+                                                      Class<T> bodyType) {
+        validate(key);
+        String requestHash = hash(operation + "\n" + write(request));
+        StoredResponse stored = responses.getIfPresent(owner + "\n" + key);
+        if (stored == null) {
+            stored = store.find(owner, key).orElse(null);
+        }
+        return stored == null ? Optional.empty() : Optional.of(replay(stored, requestHash, bodyType));
+    }
+
+    private static void validate(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new DomainException("La cabecera " + HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres.");
+        }
+    }
+
+    /**
+     * Espera la ejecución en curso de la misma llave.
+     *
+     * @return su respuesta, o {@code null} si falló: el error es de esa petición y la llave quedó libre
+     */
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        meterRegistry.counter("coopcredit.idempotency.requests", "result", "waited").increment();
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String requestHash, Class<T> bodyType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            meterRegistry.counter("coopcredit.idempotency.requests", "result", "mismatch").increment();
+            throw new DomainException("La llave de idempotencia ya se usó con una petición diferente.");
+        }
+        meterRegistry.counter("coopcredit.idempotency.requests", "result", "replayed").increment();
+        try {
+            return ResponseEntity.status(stored.status())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readValue(stored.body(), bodyType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Respuesta guardada ilegible para la llave de idempotencia", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No fue posible serializar a JSON", e);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DomainException inProgress() {
+        return new DomainException("La petición con esta llave de idempotencia aún está en proceso; reintente más tarde.");
+    }
+
+    private record Execution<T>(StoredResponse stored, ResponseEntity<T> response) {
+    }
+}
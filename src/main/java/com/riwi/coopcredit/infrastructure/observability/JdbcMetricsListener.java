@@ -0,0 +1,142 @@
+package com.riwi.coopcredit.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener del proxy JDBC: mide cada sentencia por forma de consulta, registra las filas
+ * leídas/afectadas y deja en el log solo las consultas que superan el umbral configurado,
+ * sin valores de parámetros.
+ */
+@Slf4j
+public class JdbcMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    static final String OTHER_SHAPE = "other";
+
+    private final MeterRegistry registry;
+    private final long slowQueryThresholdMs;
+    private final int maxShapes;
+
+    private final Map<String, ShapeMeters> metersByShape = new ConcurrentHashMap<>();
+    // Forma y filas leídas del ResultSet abierto en el hilo actual
+    private final ThreadLocal<OpenResultSet> openResultSet = new ThreadLocal<>();
+
+    public JdbcMetricsListener(MeterRegistry registry, long slowQueryThresholdMs, int maxShapes) {
+        this.registry = registry;
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+        this.maxShapes = maxShapes;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Sin trabajo previo: el proxy ya mide el tiempo transcurrido
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        StatementCounter.increment();
+
+        String shape = SqlShapes.normalize(queryInfoList.get(0).getQuery());
+        ShapeMeters meters = metersFor(shape);
+        long elapsedMs = execInfo.getElapsedTime();
+        meters.timer.record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        Object result = execInfo.getResult();
+        if (result instanceof Integer updated) {
+            meters.rows.record(updated);
+        } else if (result instanceof int[] batch) {
+            long total = 0;
+            for (int count : batch) {
+                total += Math.max(count, 0);
+            }
+            meters.rows.record(total);
+        } else if (result instanceof ResultSet) {
+            openResultSet.set(new OpenResultSet(meters));
+        }
+
+        if (elapsedMs >= slowQueryThresholdMs) {
+            int parameters = queryInfoList.get(0).getParametersList().isEmpty()
+                    ? 0
+                    : queryInfoList.get(0).getParametersList().get(0).size();
+            log.warn("Consulta lenta: {} ms, lote={}, parámetros=[{} ocultos], sql={}",
+                    elapsedMs, execInfo.isBatch() ? execInfo.getBatchSize() : 1, parameters, shape);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        // Solo interesa el resultado de ResultSet#next y ResultSet#close
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        OpenResultSet open = openResultSet.get();
+        if (open == null) {
+            return;
+        }
+        String method = executionContext.getMethod().getName();
+        if ("next".equals(method) && Boolean.TRUE.equals(executionContext.getResult())) {
+            open.rows++;
+        } else if ("close".equals(method)) {
+            open.meters.rows.record(open.rows);
+            openResultSet.remove();
+        }
+    }
+
+    private ShapeMeters metersFor(String shape) {
+        ShapeMeters meters = metersByShape.get(shape);
+        if (meters != null) {
+            return meters;
+        }
+        // Acotar la cardinalidad: las formas nuevas por encima del límite se agrupan en "other"
+        String key = metersByShape.size() >= maxShapes ? OTHER_SHAPE : shape;
+        return metersByShape.computeIfAbsent(key, this::newMeters);
+    }
+
+    private ShapeMeters newMeters(String shape) {
+        String operation = OTHER_SHAPE.equals(shape) ? OTHER_SHAPE : SqlShapes.operation(shape);
+        Timer timer = Timer.builder("jdbc.statement")
+                .description("Latencia de sentencias JDBC por forma de consulta")
+                .tag("operation", operation)
+                .tag("shape", shape)
+                .publishPercentileHistogram()
+                .register(registry);
+        DistributionSummary rows = DistributionSummary.builder("jdbc.statement.rows")
+                .description("Filas leídas o afectadas por sentencia")
+                .tag("operation", operation)
+                .tag("shape", shape)
+                .register(registry);
+        return new ShapeMeters(timer, rows);
+    }
+
+    private record ShapeMeters(Timer timer, DistributionSummary rows) {
+    }
+
+    private static final class OpenResultSet {
+        private final ShapeMeters meters;
+        private long rows;
+
+        private OpenResultSet(ShapeMeters meters) {
+            this.meters = meters;
+        }
+    }
+}
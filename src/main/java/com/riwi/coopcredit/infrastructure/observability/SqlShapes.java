@@ -0,0 +1,48 @@
+package com.riwi.coopcredit.infrastructure.observability;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza sentencias SQL a su "forma" (query shape): los literales se reemplazan por '?',
+ * las listas IN se colapsan y los espacios se compactan. Así, todas las ejecuciones de una
+ * misma consulta comparten métricas y ningún valor de negocio llega a los logs.
+ */
+public final class SqlShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("(?i)\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapes() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null || sql.isBlank()) {
+            return "";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        shape = VALUES_LIST.matcher(shape).replaceAll("values $1");
+        return shape;
+    }
+
+    /**
+     * Tipo de operación (select, insert, update, delete u other) a partir de la primera palabra.
+     */
+    public static String operation(String shape) {
+        int end = 0;
+        while (end < shape.length() && !Character.isWhitespace(shape.charAt(end))) {
+            end++;
+        }
+        String keyword = shape.substring(0, end).toLowerCase();
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "copy" -> keyword;
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.riwi.coopcredit.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Cuenta las sentencias JDBC emitidas por cada petición HTTP y las publica por endpoint
+ * ({@code http.server.requests.jdbc.statements}), de modo que un N+1 aparece como un salto
+ * en la métrica en lugar de pasar inadvertido. Se ejecuta antes de la cadena de seguridad
+ * para incluir también la carga del usuario autenticado.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public StatementCountFilter(MeterRegistry registry,
+                                @Value("${observability.jdbc.statements-per-request-warn:25}") int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("http.server.requests.jdbc.statements")
+                    .description("Sentencias JDBC ejecutadas por petición HTTP")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(statements);
+
+            if (statements > warnThreshold) {
+                log.warn("Posible N+1: {} {} ejecutó {} sentencias JDBC", request.getMethod(), uri, statements);
+            }
+        }
+    }
+}
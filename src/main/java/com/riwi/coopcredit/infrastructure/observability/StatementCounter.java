@@ -0,0 +1,42 @@
+package com.riwi.coopcredit.infrastructure.observability;
+
+/**
+ * Contador de sentencias JDBC ligado al hilo actual.
+ * Se abre al inicio de una unidad de trabajo (petición HTTP, prueba, job) y se cierra al final;
+ * fuera de un ámbito abierto los incrementos se ignoran.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    public static void increment() {
+        int[] counter = CURRENT.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    /**
+     * Sentencias ejecutadas desde {@link #start()} sin cerrar el ámbito.
+     */
+    public static int current() {
+        int[] counter = CURRENT.get();
+        return counter == null ? 0 : counter[0];
+    }
+
+    /**
+     * Cierra el ámbito del hilo y retorna el total de sentencias ejecutadas.
+     */
+    public static int stop() {
+        int total = current();
+        CURRENT.remove();
+        return total;
+    }
+}
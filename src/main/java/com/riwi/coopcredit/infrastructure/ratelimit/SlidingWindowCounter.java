@@ -0,0 +1,88 @@
+package com.riwi.coopcredit.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador de una ventana deslizante dividida en subventanas, sin bloqueos.
+ * <p>
+ * Cada subventana es un solo {@code long} con su número de subventana (bits altos) y su cuenta (bits bajos), así
+ * que reiniciar una subventana vencida y sumarle uno es el mismo compareAndSet. Las subventanas anteriores no
+ * cambian mientras dura la actual: la cuenta que retorna cada incremento es única y, con un límite, pasan
+ * exactamente {@code limit} llamadas concurrentes.
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+
+    SlidingWindowCounter(int subWindows) {
+        this.slots = new AtomicLongArray(subWindows);
+    }
+
+    /**
+     * Suma uno en la subventana {@code epoch} y retorna el total de la ventana, incluido este.
+     */
+    long incrementAndGet(long epoch) {
+        int size = slots.length();
+        int index = (int) Math.floorMod(epoch, (long) size);
+        long previous;
+        long next;
+        do {
+            previous = slots.get(index);
+            if (epochOf(previous) == epoch) {
+                // Saturada: la ventana ya está muy por encima de cualquier límite razonable
+                next = countOf(previous) == COUNT_MASK ? previous : previous + 1;
+            } else {
+                next = (epoch << COUNT_BITS) | 1;
+            }
+        } while (!slots.compareAndSet(index, previous, next));
+
+        long total = countOf(next);
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                total += liveCount(slots.get(i), epoch);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Subventanas que deben vencer para que el total baje de {@code limit}, contando desde la actual.
+     *
+     * @return entre 1 y el número de subventanas
+     */
+    int subWindowsUntilBelow(long epoch, long limit) {
+        int size = slots.length();
+        long oldest = epoch - size + 1;
+        long[] counts = new long[size];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            long value = slots.get((int) Math.floorMod(oldest + i, (long) size));
+            counts[i] = epochOf(value) == oldest + i ? countOf(value) : 0;
+            total += counts[i];
+        }
+        // La subventana más antigua vence al empezar la siguiente
+        for (int i = 0; i < size; i++) {
+            total -= counts[i];
+            if (total < limit) {
+                return i + 1;
+            }
+        }
+        return size;
+    }
+
+    private long liveCount(long value, long epoch) {
+        long slotEpoch = epochOf(value);
+        return slotEpoch > epoch - slots.length() && slotEpoch <= epoch ? countOf(value) : 0;
+    }
+
+    private static long epochOf(long value) {
+        return value >>> COUNT_BITS;
+    }
+
+    private static long countOf(long value) {
+        return value & COUNT_MASK;
+    }
+}
@@ -0,0 +1,120 @@
+package com.riwi.coopcredit.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Límites de velocidad para la creación de solicitudes, por afiliado, por usuario autenticado y por IP de origen.
+ * <p>
+ * Todo ocurre en memoria: cada llave tiene un {@link SlidingWindowCounter} en una cache acotada por
+ * {@code max-keys} cuyas entradas vencen tras una ventana sin actividad. Un intento rechazado también cuenta, así
+ * una ráfaga sostenida sigue bloqueada hasta que se detiene. Los límites son por instancia.
+ * <p>
+ * La IP de origen es la que resuelve {@code server.forward-headers-strategy}. El límite se aplica después de la
+ * autenticación JWT, que ya leyó el usuario de la base: un 429 ahorra la solicitud y el servicio de riesgo, no esa
+ * lectura.
+ */
+@Component
+public class VelocityLimiter {
+
+    private static final int SUB_WINDOWS = 10;
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final List<Rule> rules = new ArrayList<>();
+
+    @Autowired
+    public VelocityLimiter(MeterRegistry meterRegistry,
+                           @Value("${velocity.applications.enabled:true}") boolean enabled,
+                           @Value("${velocity.applications.max-keys:100000}") long maxKeys,
+                           @Value("${velocity.applications.affiliate.limit:5}") int affiliateLimit,
+                           @Value("${velocity.applications.affiliate.window:10m}") Duration affiliateWindow,
+                           @Value("${velocity.applications.user.limit:20}") int userLimit,
+                           @Value("${velocity.applications.user.window:10m}") Duration userWindow,
+                           @Value("${velocity.applications.client-ip.limit:30}") int clientIpLimit,
+                           @Value("${velocity.applications.client-ip.window:10m}") Duration clientIpWindow) {
+        this(meterRegistry, enabled, maxKeys, List.of(
+                new RuleSettings("affiliate", affiliateLimit, affiliateWindow),
+                new RuleSettings("user", userLimit, userWindow),
+                new RuleSettings("client-ip", clientIpLimit, clientIpWindow)), System::currentTimeMillis);
+    }
+
+    VelocityLimiter(MeterRegistry meterRegistry, boolean enabled, long maxKeys, List<RuleSettings> settings,
+                    LongSupplier clock) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        for (RuleSettings rule : settings) {
+            // Un límite en cero o negativo desactiva la regla
+            if (rule.limit() > 0) {
+                rules.add(new Rule(rule, maxKeys, meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * Cuenta el intento en cada regla, en orden, hasta la primera que se supere. Un valor {@code null} omite su
+     * regla.
+     *
+     * @return la regla superada y cuánto esperar, o vacío si el intento está permitido
+     */
+    public Optional<Rejection> tryAcquire(Long affiliateId, String username, String clientIp) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        long now = clock.getAsLong();
+        for (Rule rule : rules) {
+            String key = switch (rule.settings().name()) {
+                case "affiliate" -> affiliateId == null ? null : affiliateId.toString();
+                case "user" -> username;
+                default -> clientIp;
+            };
+            if (key == null) {
+                continue;
+            }
+            long subWindowMillis = rule.subWindowMillis();
+            long epoch = now / subWindowMillis;
+            SlidingWindowCounter counter = rule.counters().get(key, k -> new SlidingWindowCounter(SUB_WINDOWS));
+            if (counter.incrementAndGet(epoch) > rule.settings().limit()) {
+                meterRegistry.counter("coopcredit.velocity.rejected", "rule", rule.settings().name()).increment();
+                long until = (epoch + counter.subWindowsUntilBelow(epoch, rule.settings().limit())) * subWindowMillis;
+                return Optional.of(new Rejection(rule.settings().name(), Duration.ofMillis(until - now)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param retryAfter tiempo hasta que la ventana de la regla vuelve a admitir un intento
+     */
+    public record Rejection(String rule, Duration retryAfter) {
+    }
+
+    record RuleSettings(String name, int limit, Duration window) {
+    }
+
+    private record Rule(RuleSettings settings, long subWindowMillis, Cache<String, SlidingWindowCounter> counters) {
+
+        Rule(RuleSettings settings, long maxKeys, MeterRegistry meterRegistry) {
+            this(settings, Math.max(settings.window().toMillis() / SUB_WINDOWS, 1), Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    // Una llave sin intentos durante una ventana completa ya cuenta cero
+                    .expireAfterAccess(settings.window())
+                    .recordStats()
+                    .build());
+            CaffeineCacheMetrics.monitor(meterRegistry, counters, "velocity." + settings.name());
+        }
+    }
+}
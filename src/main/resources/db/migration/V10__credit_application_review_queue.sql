@@ -0,0 +1,20 @@
+-- Analyst review queue. Actionable applications are the PENDIENTE ones and those the automatic
+-- decision flagged for a human check (medium risk). Reviewers claim batches with
+-- FOR UPDATE SKIP LOCKED and hold them under a lease: a claim that is not decided before
+-- review_lease_until expires goes back to the queue.
+
+ALTER TABLE credit_application
+    ADD COLUMN review_required BOOLEAN NOT NULL DEFAULT FALSE,
+    ADD COLUMN review_claimed_by VARCHAR(100),
+    ADD COLUMN review_lease_until TIMESTAMP;
+
+-- Only actionable rows are indexed, so the index stays small however large the table grows.
+-- Claims read it in queue order (oldest first).
+CREATE INDEX IF NOT EXISTS idx_credit_application_review_queue
+    ON credit_application (application_date, id)
+    WHERE status = 'PENDIENTE' OR review_required;
+
+-- Decisions look up the reviewer's claimed rows; only claimed rows are indexed.
+CREATE INDEX IF NOT EXISTS idx_credit_application_review_claimed
+    ON credit_application (review_claimed_by)
+    WHERE review_claimed_by IS NOT NULL;
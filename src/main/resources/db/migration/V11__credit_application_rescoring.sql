@@ -0,0 +1,13 @@
+-- Re-scoring of applications left PENDIENTE. A failed risk-service call increments
+-- rescore_attempts and postpones the next try until rescore_next_at (exponential backoff).
+
+ALTER TABLE credit_application
+    ADD COLUMN rescore_attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rescore_next_at TIMESTAMP;
+
+-- Queue order for the job: an application never tried is due from its creation date, a failed
+-- one from rescore_next_at. Due rows form a prefix of the index, so postponed rows are never
+-- read while paging; ordering by application_date instead made every page filter through them.
+CREATE INDEX IF NOT EXISTS idx_credit_application_rescore_due
+    ON credit_application ((COALESCE(rescore_next_at, application_date)), id)
+    WHERE status = 'PENDIENTE';
@@ -0,0 +1,19 @@
+-- Idempotency keys for POST /api/v1/applications. A client that retries with the same
+-- Idempotency-Key gets the stored response instead of a second application. Keys are scoped
+-- to the authenticated user. The row is inserted in the same transaction that creates the
+-- application and filled with the response before commit, so other sessions only ever see
+-- complete rows; a concurrent duplicate blocks on the primary key until the first commits.
+
+CREATE TABLE IF NOT EXISTS idempotency_key (
+    owner VARCHAR(100) NOT NULL,
+    request_key VARCHAR(255) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    response_status SMALLINT,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (owner, request_key)
+);
+
+-- Expired keys are deleted in batches by the cleanup job.
+CREATE INDEX IF NOT EXISTS idx_idempotency_key_expires_at ON idempotency_key (expires_at);
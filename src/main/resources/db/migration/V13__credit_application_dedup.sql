@@ -0,0 +1,15 @@
+-- Duplicate-submission guard for application creation. One row per (affiliate, amount, term)
+-- holds the time of the last accepted submission. The create transaction upserts it and only
+-- proceeds if the previous submission is older than the duplicate window. A concurrent identical
+-- submission on another instance blocks on the primary key until the first one commits.
+
+CREATE TABLE IF NOT EXISTS credit_application_dedup (
+    affiliate_id BIGINT NOT NULL,
+    requested_amount NUMERIC(15, 2) NOT NULL,
+    term_months INTEGER NOT NULL,
+    submitted_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (affiliate_id, requested_amount, term_months)
+);
+
+-- Rows outside the window are deleted in batches by the cleanup job.
+CREATE INDEX IF NOT EXISTS idx_credit_application_dedup_submitted_at ON credit_application_dedup (submitted_at);
@@ -0,0 +1,19 @@
+-- Approved exposure per affiliate: the sum of requested amounts of their APROBADA applications,
+-- active and archived. Application creation, the rescoring job and analyst reviews adjust it with
+-- an atomic increment in the same transaction as the status change, so the debt-to-income check
+-- reads a single row by primary key instead of summing the affiliate's history.
+
+CREATE TABLE IF NOT EXISTS affiliate_exposure (
+    affiliate_id BIGINT PRIMARY KEY REFERENCES affiliate (id) ON DELETE CASCADE,
+    approved_amount NUMERIC(20, 2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO affiliate_exposure (affiliate_id, approved_amount)
+SELECT affiliate_id, sum(requested_amount)
+FROM (
+    SELECT affiliate_id, requested_amount FROM credit_application WHERE status = 'APROBADA'
+    UNION ALL
+    SELECT affiliate_id, requested_amount FROM credit_application_archive WHERE status = 'APROBADA'
+) approved
+GROUP BY affiliate_id;
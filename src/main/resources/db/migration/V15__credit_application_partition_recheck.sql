@@ -0,0 +1,50 @@
+-- ensure_credit_application_partition (V5) checked for the partition only before taking the lock.
+-- Two nodes reaching a new month together (rolling deploy, shared nightly cron) both passed the check
+-- and the second failed with "relation already exists". The check is repeated once the lock is held.
+
+CREATE OR REPLACE FUNCTION ensure_credit_application_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month);
+    v_to TIMESTAMP := date_trunc('month', p_month) + INTERVAL '1 month';
+    v_name TEXT := 'credit_application_' || to_char(p_month, 'YYYY_MM');
+    v_moved BIGINT;
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    -- Serializes concurrent managers and inserts while the partition is attached
+    LOCK TABLE credit_application_default IN ACCESS EXCLUSIVE MODE;
+
+    -- Another node may have created it while this one waited for the lock
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    CREATE TEMP TABLE moved_applications ON COMMIT DROP AS
+        SELECT * FROM credit_application_default
+        WHERE application_date >= v_from AND application_date < v_to;
+    GET DIAGNOSTICS v_moved = ROW_COUNT;
+
+    IF v_moved > 0 THEN
+        -- The delete cascades to risk_evaluation, so the evaluations are kept aside and restored
+        CREATE TEMP TABLE moved_evaluations ON COMMIT DROP AS
+            SELECT r.* FROM risk_evaluation r
+            JOIN moved_applications m ON m.id = r.application_id AND m.application_date = r.application_date;
+        DELETE FROM credit_application_default
+        WHERE application_date >= v_from AND application_date < v_to;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF credit_application FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_from, v_to);
+
+    IF v_moved > 0 THEN
+        INSERT INTO credit_application SELECT * FROM moved_applications;
+        INSERT INTO risk_evaluation SELECT * FROM moved_evaluations;
+        DROP TABLE moved_evaluations;
+    END IF;
+    DROP TABLE moved_applications;
+
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,17 @@
+-- Rejected rows of bulk affiliate imports. The report used to be a CSV on the local disk of the
+-- node that ran the import, so a download routed to another node returned 404 and the files were
+-- never removed. Every node now reads the same rows, and the cleanup job deletes them once they
+-- are older than import.affiliates.errors.retention.
+
+CREATE TABLE IF NOT EXISTS affiliate_import_error (
+    import_id UUID NOT NULL,
+    line_number BIGINT NOT NULL,
+    -- Raw value from the file: it may be longer than affiliate.document, which is why it was rejected
+    document TEXT,
+    reason TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP,
+    PRIMARY KEY (import_id, line_number)
+);
+
+-- Expired reports are deleted in batches by the cleanup job.
+CREATE INDEX IF NOT EXISTS idx_affiliate_import_error_created_at ON affiliate_import_error (created_at);
@@ -0,0 +1,3 @@
+-- Índice por fecha de solicitud: filtros por rango y exportaciones ordenadas por fecha
+-- sin ordenar toda la tabla antes de enviar la primera fila.
+CREATE INDEX IF NOT EXISTS idx_credit_app_application_date ON credit_application(application_date, id);
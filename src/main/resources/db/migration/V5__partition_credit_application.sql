@@ -0,0 +1,129 @@
+-- Convert credit_application into a table partitioned by month on application_date.
+-- PostgreSQL requires the partition key in every unique constraint, so the primary key
+-- becomes (id, application_date) and risk_evaluation references both columns.
+
+ALTER TABLE risk_evaluation DROP CONSTRAINT IF EXISTS fk_risk_eval_app;
+
+ALTER TABLE credit_application RENAME TO credit_application_legacy;
+ALTER INDEX credit_application_pkey RENAME TO credit_application_legacy_pkey;
+
+CREATE TABLE credit_application (
+    id BIGINT NOT NULL,
+    affiliate_id BIGINT NOT NULL,
+    requested_amount NUMERIC(15, 2) NOT NULL,
+    term_months INTEGER NOT NULL,
+    application_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDIENTE',
+    risk_score INTEGER,
+    risk_level VARCHAR(50),
+    PRIMARY KEY (id, application_date)
+) PARTITION BY RANGE (application_date);
+
+-- Rows outside every monthly partition land here; the partition manager moves them out
+CREATE TABLE credit_application_default PARTITION OF credit_application DEFAULT;
+
+-- Creates the partition for the month containing p_month, moving any rows that had
+-- already landed in the default partition. Returns the partition name, or NULL if it existed.
+CREATE OR REPLACE FUNCTION ensure_credit_application_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month);
+    v_to TIMESTAMP := date_trunc('month', p_month) + INTERVAL '1 month';
+    v_name TEXT := 'credit_application_' || to_char(p_month, 'YYYY_MM');
+    v_moved BIGINT;
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    -- Serializes concurrent managers and inserts while the partition is attached
+    LOCK TABLE credit_application_default IN ACCESS EXCLUSIVE MODE;
+
+    CREATE TEMP TABLE moved_applications ON COMMIT DROP AS
+        SELECT * FROM credit_application_default
+        WHERE application_date >= v_from AND application_date < v_to;
+    GET DIAGNOSTICS v_moved = ROW_COUNT;
+
+    IF v_moved > 0 THEN
+        -- The delete cascades to risk_evaluation, so the evaluations are kept aside and restored
+        CREATE TEMP TABLE moved_evaluations ON COMMIT DROP AS
+            SELECT r.* FROM risk_evaluation r
+            JOIN moved_applications m ON m.id = r.application_id AND m.application_date = r.application_date;
+        DELETE FROM credit_application_default
+        WHERE application_date >= v_from AND application_date < v_to;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF credit_application FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_from, v_to);
+
+    IF v_moved > 0 THEN
+        INSERT INTO credit_application SELECT * FROM moved_applications;
+        INSERT INTO risk_evaluation SELECT * FROM moved_evaluations;
+        DROP TABLE moved_evaluations;
+    END IF;
+    DROP TABLE moved_applications;
+
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month from the oldest application up to three months ahead
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(application_date), CURRENT_TIMESTAMP))::DATE
+    INTO v_month FROM credit_application_legacy;
+    WHILE v_month <= date_trunc('month', CURRENT_DATE + INTERVAL '3 months') LOOP
+        PERFORM ensure_credit_application_partition(v_month);
+        v_month := v_month + INTERVAL '1 month';
+    END LOOP;
+END;
+$$;
+
+INSERT INTO credit_application (id, affiliate_id, requested_amount, term_months, application_date, status,
+                                risk_score, risk_level)
+SELECT id, affiliate_id, requested_amount, term_months, application_date, status, risk_score, risk_level
+FROM credit_application_legacy;
+
+-- risk_evaluation carries the application date so the foreign key can include the partition key
+ALTER TABLE risk_evaluation ADD COLUMN application_date TIMESTAMP;
+
+UPDATE risk_evaluation r
+SET application_date = c.application_date
+FROM credit_application_legacy c
+WHERE c.id = r.application_id;
+
+-- The sequence keeps its current value and moves to the new table
+ALTER TABLE credit_application ALTER COLUMN id SET DEFAULT nextval('credit_application_id_seq');
+ALTER SEQUENCE credit_application_id_seq OWNED BY credit_application.id;
+
+DROP TABLE credit_application_legacy;
+
+ALTER TABLE risk_evaluation ALTER COLUMN application_date SET NOT NULL;
+
+-- Writers that only know application_id keep working: the date is looked up on insert
+CREATE OR REPLACE FUNCTION risk_evaluation_application_date() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.application_date IS NULL THEN
+        SELECT application_date INTO NEW.application_date
+        FROM credit_application WHERE id = NEW.application_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_risk_evaluation_application_date
+    BEFORE INSERT ON risk_evaluation
+    FOR EACH ROW EXECUTE FUNCTION risk_evaluation_application_date();
+
+ALTER TABLE credit_application ADD CONSTRAINT fk_credit_app_affiliate
+    FOREIGN KEY (affiliate_id) REFERENCES affiliate(id) ON DELETE CASCADE;
+
+ALTER TABLE risk_evaluation ADD CONSTRAINT fk_risk_eval_app
+    FOREIGN KEY (application_id, application_date)
+    REFERENCES credit_application(id, application_date) ON DELETE CASCADE;
+
+-- Partitioned indexes: PostgreSQL creates the matching index on every partition
+CREATE INDEX idx_credit_app_affiliate_id ON credit_application(affiliate_id);
+CREATE INDEX idx_credit_app_status ON credit_application(status);
+CREATE INDEX idx_credit_app_application_date ON credit_application(application_date, id);
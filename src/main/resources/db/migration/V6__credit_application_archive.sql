@@ -0,0 +1,33 @@
+-- Cold storage for closed applications moved out of credit_application by the archival job.
+-- Same columns as the hot tables plus archived_at; no partitioning, lookups are by id only.
+
+CREATE TABLE IF NOT EXISTS credit_application_archive (
+    id BIGINT PRIMARY KEY,
+    affiliate_id BIGINT NOT NULL,
+    requested_amount NUMERIC(15, 2) NOT NULL,
+    term_months INTEGER NOT NULL,
+    application_date TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    risk_score INTEGER,
+    risk_level VARCHAR(50),
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS risk_evaluation_archive (
+    id BIGINT PRIMARY KEY,
+    application_id BIGINT NOT NULL UNIQUE,
+    score INTEGER NOT NULL,
+    risk_level VARCHAR(50) NOT NULL,
+    reason VARCHAR(500),
+    evaluation_date TIMESTAMP NOT NULL,
+    application_date TIMESTAMP NOT NULL
+);
+
+ALTER TABLE credit_application_archive ADD CONSTRAINT fk_credit_app_archive_affiliate
+    FOREIGN KEY (affiliate_id) REFERENCES affiliate(id) ON DELETE CASCADE;
+
+ALTER TABLE risk_evaluation_archive ADD CONSTRAINT fk_risk_eval_archive_app
+    FOREIGN KEY (application_id) REFERENCES credit_application_archive(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_credit_app_archive_affiliate_id ON credit_application_archive(affiliate_id);
+
@@ -0,0 +1,24 @@
+-- Rollup of applications by month, status and risk level, maintained incrementally by the
+-- application use case and rebuilt nightly. Each cell is split into a few slots so concurrent
+-- decisions for the same month do not queue on a single row lock; readers sum the slots.
+
+CREATE TABLE IF NOT EXISTS portfolio_stats (
+    month DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    risk_level VARCHAR(50) NOT NULL,
+    slot SMALLINT NOT NULL DEFAULT 0,
+    applications BIGINT NOT NULL,
+    requested_amount NUMERIC(20, 2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (month, status, risk_level, slot)
+);
+
+INSERT INTO portfolio_stats (month, status, risk_level, applications, requested_amount)
+SELECT date_trunc('month', application_date)::DATE, status, COALESCE(risk_level, 'SIN EVALUAR'),
+       count(*), sum(requested_amount)
+FROM (
+    SELECT application_date, status, risk_level, requested_amount FROM credit_application
+    UNION ALL
+    SELECT application_date, status, risk_level, requested_amount FROM credit_application_archive
+) applications
+GROUP BY 1, 2, 3;
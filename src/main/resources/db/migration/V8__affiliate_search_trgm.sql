@@ -0,0 +1,27 @@
+-- Partial-match affiliate search by document, name or email.
+-- Trigram GIN indexes answer LIKE '%fragment%' without scanning the table. They are built over
+-- lowercased, accent-folded copies of each field so "ramirez" finds "Ramírez". The copies are stored
+-- generated columns: folding on every row read cost more than the index saved on common terms.
+-- Adding them rewrites the table once.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- replace() on whole substrings behaves the same under UTF8 and single-byte server encodings;
+-- the uppercase pairs cover encodings where lower() leaves non-ASCII letters untouched.
+CREATE OR REPLACE FUNCTION affiliate_search_text(value TEXT) RETURNS TEXT AS $$
+    SELECT replace(replace(replace(replace(replace(replace(replace(
+           replace(replace(replace(replace(replace(replace(replace(lower(value),
+           'á', 'a'), 'é', 'e'), 'í', 'i'), 'ó', 'o'), 'ú', 'u'), 'ü', 'u'), 'ñ', 'n'),
+           'Á', 'a'), 'É', 'e'), 'Í', 'i'), 'Ó', 'o'), 'Ú', 'u'), 'Ü', 'u'), 'Ñ', 'n')
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+ALTER TABLE affiliate
+    ADD COLUMN search_document TEXT GENERATED ALWAYS AS (affiliate_search_text(document)) STORED,
+    ADD COLUMN search_name TEXT GENERATED ALWAYS AS (affiliate_search_text(first_name || ' ' || last_name)) STORED,
+    ADD COLUMN search_email TEXT GENERATED ALWAYS AS (affiliate_search_text(email)) STORED;
+
+CREATE INDEX idx_affiliate_search_document_trgm ON affiliate USING gin (search_document gin_trgm_ops);
+
+CREATE INDEX idx_affiliate_search_name_trgm ON affiliate USING gin (search_name gin_trgm_ops);
+
+CREATE INDEX idx_affiliate_search_email_trgm ON affiliate USING gin (search_email gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- Optimistic locking for credit applications: every update checks and increments the version,
+-- so concurrent writers (analysts, background jobs, the create flow) cannot silently overwrite
+-- each other. A constant default is stored in the catalog only; existing rows are not rewritten.
+-- Added on the partitioned parent, the column propagates to every partition, including the default one.
+
+ALTER TABLE credit_application ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,90 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.AmortizationQuote;
+import com.riwi.coopcredit.domain.model.AmortizationRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para AmortizationUseCaseImpl")
+class AmortizationUseCaseImplTest {
+
+    private final AmortizationUseCaseImpl amortizationUseCase = new AmortizationUseCaseImpl(
+            List.of(new BigDecimal("12"), new BigDecimal("24")), 120, new BigDecimal("24"), new BigDecimal("500000000"));
+
+    @Test
+    @DisplayName("La cuota coincide con la fórmula, con la tasa precalculada o no")
+    void testQuote() {
+        // Act: 1.000.000 a 12 meses con 1% mensual
+        AmortizationQuote quote = amortizationUseCase.quote(new BigDecimal("1000000"), 12, new BigDecimal("12.00"));
+        AmortizationQuote computed = amortizationUseCase.quote(new BigDecimal("1000000"), 12, new BigDecimal("12.5"));
+        AmortizationQuote byDefault = amortizationUseCase.quote(new BigDecimal("1000000"), 12, null);
+
+        // Assert
+        assertEquals(new BigDecimal("88848.79"), quote.payment());
+        assertEquals(new BigDecimal("89082.86"), computed.payment());
+        assertEquals(0, new BigDecimal("24").compareTo(byDefault.annualRate()));
+        assertEquals(new BigDecimal("94559.60"), byDefault.payment());
+    }
+
+    @Test
+    @DisplayName("El plan paga exactamente el monto y termina con saldo cero")
+    void testScheduleAmortizesAmount() {
+        // Arrange
+        AmortizationQuote quote = amortizationUseCase.quote(new BigDecimal("15000000"), 120, new BigDecimal("24"));
+        List<AmortizationRow> rows = new ArrayList<>();
+
+        // Act
+        amortizationUseCase.schedule(quote, rows::add);
+
+        // Assert
+        assertEquals(120, rows.size());
+        assertEquals(quote.payment(), rows.get(0).payment());
+        assertEquals(new BigDecimal("300000.00"), rows.get(0).interest());
+        assertEquals(0, rows.get(119).balance().signum());
+        assertEquals(0, new BigDecimal("15000000").compareTo(
+                rows.stream().map(AmortizationRow::principal).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        // El redondeo de la cuota al centavo se acumula con los intereses: en 120 meses al 2% son un par de pesos
+        assertEquals(new BigDecimal("330721.45"), quote.payment());
+        assertEquals(new BigDecimal("330722.76"), rows.get(119).payment());
+    }
+
+    @Test
+    @DisplayName("Con tasa cero la cuota es el monto dividido en el plazo")
+    void testZeroRate() {
+        // Act
+        AmortizationQuote quote = amortizationUseCase.quote(new BigDecimal("1000000"), 3, BigDecimal.ZERO);
+        List<AmortizationRow> rows = new ArrayList<>();
+        amortizationUseCase.schedule(quote, rows::add);
+
+        // Assert
+        assertEquals(new BigDecimal("333333.33"), quote.payment());
+        assertEquals(new BigDecimal("333333.34"), rows.get(2).payment());
+        assertEquals(0, rows.get(2).balance().signum());
+    }
+
+    @Test
+    @DisplayName("Monto, plazo y tasa fuera de rango se rechazan")
+    void testInvalidInputs() {
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(BigDecimal.ZERO, 12, null));
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(BigDecimal.TEN, 121, null));
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(BigDecimal.TEN, 12, new BigDecimal("-1")));
+    }
+
+    @Test
+    @DisplayName("Montos sobre el tope o con más de dos decimales se rechazan antes de calcular")
+    void testAmountBounds() {
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(new BigDecimal("1E999999999"), 12, null));
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(new BigDecimal("500000000.01"), 12, null));
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(new BigDecimal("1E-999999999"), 12, null));
+        assertThrows(DomainException.class, () -> amortizationUseCase.quote(new BigDecimal("1000.005"), 12, null));
+        assertEquals(0, new BigDecimal("500000000").compareTo(
+                amortizationUseCase.quote(new BigDecimal("5E+8"), 12, null).amount()));
+    }
+}
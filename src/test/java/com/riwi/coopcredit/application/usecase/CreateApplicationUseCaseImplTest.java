@@ -1,11 +1,21 @@
 package com.riwi.coopcredit.application.usecase;
 
 import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.exception.DuplicateApplicationException;
 import com.riwi.coopcredit.domain.model.Affiliate;
 import com.riwi.coopcredit.domain.model.ApplicationStatus;
 import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.DecisionRule;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.DuplicateHandling;
+import com.riwi.coopcredit.domain.model.ScoreBand;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
 import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
 import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.DecisionRulesPort;
+import com.riwi.coopcredit.domain.port.out.DuplicateApplicationPort;
+import com.riwi.coopcredit.domain.port.out.PendingApplicationPort;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
 import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +27,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +51,21 @@ class CreateApplicationUseCaseImplTest {
     @Mock
     private RiskExternalPort riskExternalPort;
 
+    @Mock
+    private PortfolioStatsPort portfolioStatsPort;
+
+    @Mock
+    private DuplicateApplicationPort duplicateApplicationPort;
+
+    @Mock
+    private DecisionRulesPort decisionRulesPort;
+
+    @Mock
+    private AffiliateExposurePort affiliateExposurePort;
+
+    @Mock
+    private PendingApplicationPort pendingApplicationPort;
+
     @InjectMocks
     private CreateApplicationUseCaseImpl createApplicationUseCase;
 
@@ -47,7 +74,10 @@ class CreateApplicationUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
-        // Arrange: Preparar datos de prueba
+        // Arrange: Preparar datos de prueba. Solo bandas de puntaje, salvo en las pruebas de reglas
+        lenient().when(decisionRulesPort.current()).thenReturn(DecisionRules.defaults());
+        lenient().when(affiliateExposurePort.lockApprovedAmount(anyLong())).thenReturn(BigDecimal.ZERO);
+
         affiliate = new Affiliate(
                 1L,
                 "1017654311",
@@ -89,11 +119,14 @@ class CreateApplicationUseCaseImplTest {
         assertEquals(ApplicationStatus.APROBADA, result.getStatus());
         assertEquals(750, result.getRiskScore());
         assertEquals("BAJO RIESGO", result.getRiskLevel());
+        assertFalse(result.isReviewRequired());
 
         // Verify
         verify(affiliateRepositoryPort, times(1)).findById(1L);
         verify(applicationRepositoryPort, times(2)).save(any(CreditApplication.class));
         verify(riskExternalPort, times(1)).getRiskScore("1017654311", 5000000.0, 36);
+        verify(portfolioStatsPort, times(1)).record(result);
+        verify(duplicateApplicationPort, times(1)).remember(result);
     }
 
     @Test
@@ -119,6 +152,7 @@ class CreateApplicationUseCaseImplTest {
         assertEquals(ApplicationStatus.APROBADA, result.getStatus());
         assertEquals(600, result.getRiskScore());
         assertEquals("MEDIO RIESGO", result.getRiskLevel());
+        assertTrue(result.isReviewRequired(), "El riesgo medio debe quedar en la cola de revisión");
 
         // Verify
         verify(riskExternalPort, times(1)).getRiskScore("1017654311", 5000000.0, 36);
@@ -173,9 +207,10 @@ class CreateApplicationUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción cuando el servicio de riesgo falla")
+    @DisplayName("Si el servicio de riesgo falla, la solicitud queda PENDIENTE y en la cola de re-puntaje")
     void testCreateApplicationRiskServiceFails() {
         // Arrange
+        creditApplication.setId(1L);
         when(affiliateRepositoryPort.findById(1L))
                 .thenReturn(Optional.of(affiliate));
         when(applicationRepositoryPort.save(any(CreditApplication.class)))
@@ -183,15 +218,19 @@ class CreateApplicationUseCaseImplTest {
         when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt()))
                 .thenThrow(new DomainException("Error de servicio externo de riesgo"));
 
-        // Act & Assert
-        DomainException exception = assertThrows(DomainException.class, () -> {
-            createApplicationUseCase.create(1L, new BigDecimal("5000000"), 36);
-        });
-
-        assertTrue(exception.getMessage().contains("Error de servicio externo"));
+        // Act
+        CreditApplication result = createApplicationUseCase.create(1L, new BigDecimal("5000000"), 36);
 
-        // Verify
-        verify(riskExternalPort, times(1)).getRiskScore(anyString(), anyDouble(), anyInt());
+        // Assert
+        assertEquals(ApplicationStatus.PENDIENTE, result.getStatus());
+        assertNull(result.getRiskScore());
+
+        // Verify: se guarda una sola vez, sin decisión, y cuenta en el rollup como pendiente
+        verify(applicationRepositoryPort, times(1)).save(any());
+        verify(pendingApplicationPort).scheduleRetry(creditApplication);
+        verify(decisionRulesPort, never()).current();
+        verify(portfolioStatsPort).record(creditApplication);
+        verify(duplicateApplicationPort).remember(creditApplication);
     }
 
     @Test
@@ -306,4 +345,99 @@ class CreateApplicationUseCaseImplTest {
         assertEquals(ApplicationStatus.APROBADA, result.getStatus());
         assertEquals("BAJO RIESGO", result.getRiskLevel());
     }
+
+    @Test
+    @DisplayName("Debe rechazar por la tabla de decisión aunque el puntaje sea alto")
+    void testCreateApplicationRejectedByDecisionRule() {
+        // Arrange: cuota de 5.000.000 / 36 sobre un ingreso mensual de 3.500.000 / 12 = 0,48
+        when(decisionRulesPort.current()).thenReturn(DecisionRules.compile(
+                List.of(new ScoreBand(700, ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+                        new ScoreBand(0, ApplicationStatus.RECHAZADA, "ALTO RIESGO", false)),
+                List.of(new DecisionRule("cuota", DecisionRule.Metric.DEBT_TO_INCOME, null, 0.4,
+                        DecisionRule.Outcome.REJECT))));
+        when(affiliateRepositoryPort.findById(1L))
+                .thenReturn(Optional.of(affiliate));
+        when(applicationRepositoryPort.save(any(CreditApplication.class)))
+                .thenReturn(creditApplication);
+        when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt()))
+                .thenReturn(750);
+
+        // Act
+        CreditApplication result = createApplicationUseCase.create(1L, new BigDecimal("5000000"), 36);
+
+        // Assert
+        assertEquals(ApplicationStatus.RECHAZADA, result.getStatus());
+        assertEquals(750, result.getRiskScore());
+        assertFalse(result.isReviewRequired());
+        verify(portfolioStatsPort, times(1)).record(result);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar si la deuda ya aprobada más la solicitud supera el límite sobre el ingreso")
+    void testCreateApplicationRejectedByExposure() {
+        // Arrange: 4.000.000 aprobados + 5.000.000 sobre un ingreso anual de 3.500.000 = 2,57 veces
+        when(decisionRulesPort.current()).thenReturn(DecisionRules.compile(
+                List.of(new ScoreBand(700, ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+                        new ScoreBand(0, ApplicationStatus.RECHAZADA, "ALTO RIESGO", false)),
+                List.of(new DecisionRule("endeudamiento", DecisionRule.Metric.EXPOSURE_TO_INCOME, null, 2.0,
+                        DecisionRule.Outcome.REJECT))));
+        when(affiliateRepositoryPort.findById(1L))
+                .thenReturn(Optional.of(affiliate));
+        when(affiliateExposurePort.lockApprovedAmount(1L)).thenReturn(new BigDecimal("4000000"));
+        when(applicationRepositoryPort.save(any(CreditApplication.class)))
+                .thenReturn(creditApplication);
+        when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt()))
+                .thenReturn(750);
+
+        // Act
+        CreditApplication result = createApplicationUseCase.create(1L, new BigDecimal("5000000"), 36);
+
+        // Assert
+        assertEquals(ApplicationStatus.RECHAZADA, result.getStatus());
+        verify(affiliateExposurePort, times(1)).record(result);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un envío idéntico reciente sin consultar el servicio de riesgo")
+    void testCreateApplicationDuplicateRejected() {
+        // Arrange
+        when(duplicateApplicationPort.isDuplicate(1L, new BigDecimal("5000000"), 36)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(DuplicateApplicationException.class,
+                () -> createApplicationUseCase.create(1L, new BigDecimal("5000000"), 36));
+
+        // Verify
+        verify(applicationRepositoryPort, never()).save(any());
+        verify(riskExternalPort, never()).getRiskScore(anyString(), anyDouble(), anyInt());
+        verify(portfolioStatsPort, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("En modo FOLD debe responder con la solicitud anterior sin crear otra")
+    void testCreateApplicationDuplicateFolded() {
+        // Arrange
+        CreateApplicationUseCaseImpl foldingUseCase = new CreateApplicationUseCaseImpl(affiliateRepositoryPort,
+                applicationRepositoryPort, riskExternalPort, portfolioStatsPort, duplicateApplicationPort,
+                decisionRulesPort, affiliateExposurePort, pendingApplicationPort, DuplicateHandling.FOLD);
+        CreditApplication earlier = new CreditApplication(new BigDecimal("5000000"), 36, null);
+        earlier.setId(7L);
+        earlier.setStatus(ApplicationStatus.APROBADA);
+        when(duplicateApplicationPort.isDuplicate(1L, new BigDecimal("5000000"), 36)).thenReturn(true);
+        when(duplicateApplicationPort.findRecent(1L, new BigDecimal("5000000"), 36)).thenReturn(Optional.of(7L));
+        when(applicationRepositoryPort.findById(7L)).thenReturn(Optional.of(earlier));
+        when(affiliateRepositoryPort.findById(1L)).thenReturn(Optional.of(affiliate));
+
+        // Act
+        CreditApplication result = foldingUseCase.create(1L, new BigDecimal("5000000"), 36);
+
+        // Assert
+        assertEquals(7L, result.getId());
+        assertEquals(ApplicationStatus.APROBADA, result.getStatus());
+        assertSame(affiliate, result.getAffiliate());
+
+        // Verify
+        verify(applicationRepositoryPort, never()).save(any());
+        verify(riskExternalPort, never()).getRiskScore(anyString(), anyDouble(), anyInt());
+    }
 }
@@ -0,0 +1,91 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.PortfolioStats;
+import com.riwi.coopcredit.domain.model.PortfolioStatsCell;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pruebas unitarias para GetPortfolioStatsUseCaseImpl")
+class GetPortfolioStatsUseCaseImplTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2026, 10);
+    private static final YearMonth NOVEMBER = YearMonth.of(2026, 11);
+
+    @Mock
+    private PortfolioStatsPort statsPort;
+
+    @InjectMocks
+    private GetPortfolioStatsUseCaseImpl getPortfolioStatsUseCase;
+
+    @Test
+    @DisplayName("Debe agregar las celdas del rollup por estado, nivel de riesgo y mes")
+    void testGetStatsAggregatesCells() {
+        // Arrange
+        when(statsPort.find(null, null)).thenReturn(List.of(
+                new PortfolioStatsCell(OCTOBER, ApplicationStatus.APROBADA, "BAJO RIESGO", 3, new BigDecimal("3000000")),
+                new PortfolioStatsCell(OCTOBER, ApplicationStatus.RECHAZADA, "ALTO RIESGO", 1, new BigDecimal("2000000")),
+                new PortfolioStatsCell(NOVEMBER, ApplicationStatus.APROBADA, "BAJO RIESGO", 2, new BigDecimal("1000000")),
+                new PortfolioStatsCell(NOVEMBER, ApplicationStatus.PENDIENTE, "SIN EVALUAR", 2, new BigDecimal("4000000"))
+        ));
+
+        // Act
+        PortfolioStats stats = getPortfolioStatsUseCase.getStats(null, null);
+
+        // Assert
+        assertEquals(8, stats.total().applications());
+        assertEquals(5, stats.total().approved());
+        assertEquals(1, stats.total().rejected());
+        assertEquals(2, stats.total().pending());
+        assertEquals(5.0 / 6, stats.total().approvalRate(), 1e-9);
+        assertEquals(new BigDecimal("10000000"), stats.total().requestedAmount());
+        assertEquals(new BigDecimal("1250000.00"), stats.total().averageRequestedAmount());
+
+        assertEquals(5, stats.byStatus().get(ApplicationStatus.APROBADA).applications());
+        assertEquals(5, stats.byRiskLevel().get("BAJO RIESGO").applications());
+        assertEquals(4, stats.byMonth().get(OCTOBER).applications());
+        assertEquals(0.75, stats.byMonth().get(OCTOBER).approvalRate(), 1e-9);
+        assertEquals(List.of(OCTOBER, NOVEMBER), List.copyOf(stats.byMonth().keySet()));
+    }
+
+    @Test
+    @DisplayName("Debe retornar indicadores en cero cuando el rollup está vacío")
+    void testGetStatsEmptyRollup() {
+        // Arrange
+        when(statsPort.find(OCTOBER, NOVEMBER)).thenReturn(List.of());
+
+        // Act
+        PortfolioStats stats = getPortfolioStatsUseCase.getStats(OCTOBER, NOVEMBER);
+
+        // Assert
+        assertEquals(0, stats.total().applications());
+        assertEquals(0.0, stats.total().approvalRate());
+        assertEquals(BigDecimal.ZERO, stats.total().averageRequestedAmount());
+        assertTrue(stats.byMonth().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el mes inicial es posterior al final")
+    void testGetStatsInvalidRange() {
+        // Act & Assert
+        DomainException exception = assertThrows(DomainException.class,
+                () -> getPortfolioStatsUseCase.getStats(NOVEMBER, OCTOBER));
+
+        assertTrue(exception.getMessage().contains("mes inicial"));
+        verify(statsPort, never()).find(any(), any());
+    }
+}
@@ -0,0 +1,185 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.AffiliateImportResult;
+import com.riwi.coopcredit.domain.port.out.AffiliateBulkImportPort;
+import com.riwi.coopcredit.domain.port.out.ImportErrorReportPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Pruebas unitarias para ImportAffiliatesUseCaseImpl")
+class ImportAffiliatesUseCaseImplTest {
+
+    private static final String HEADER = "document,first_name,last_name,email,annual_income,registration_date\n";
+
+    @Mock
+    private AffiliateBulkImportPort bulkImportPort;
+
+    @Mock
+    private ImportErrorReportPort errorReportPort;
+
+    @Mock
+    private AffiliateBulkImportPort.Batch batch;
+
+    @Mock
+    private ImportErrorReportPort.ErrorReport errors;
+
+    @InjectMocks
+    private ImportAffiliatesUseCaseImpl importAffiliatesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: Puertos de staging y reporte de errores simulados
+        when(bulkImportPort.begin()).thenReturn(batch);
+        when(errorReportPort.create(anyString())).thenReturn(errors);
+    }
+
+    @Test
+    @DisplayName("Debe cargar las filas válidas al área temporal y retornar el resumen")
+    void testImportValidRows() {
+        // Arrange
+        String csv = HEADER
+                + "1017654311,Juan,Pérez,juan@example.com,3500000.00,2024-01-15\n"
+                + "1017654312,Ana,Gómez,ana@example.com,4200000\n";
+        when(batch.merge(any())).thenReturn(2L);
+        when(errors.count()).thenReturn(0L);
+
+        // Act
+        AffiliateImportResult result = importAffiliatesUseCase.importAffiliates(stream(csv));
+
+        // Assert
+        assertEquals(2, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getRejected());
+        assertFalse(result.hasRejections());
+        assertNotNull(result.getImportId());
+
+        ArgumentCaptor<Affiliate> staged = ArgumentCaptor.forClass(Affiliate.class);
+        verify(batch).stage(eq(2L), staged.capture());
+        assertEquals("1017654311", staged.getValue().getDocument());
+        assertEquals(LocalDate.of(2024, 1, 15), staged.getValue().getRegistrationDate());
+        verify(batch).stage(eq(3L), any(Affiliate.class));
+        verify(batch).close();
+        verify(errors).close();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar filas con salario no positivo usando la validación del dominio")
+    void testRejectNonPositiveIncome() {
+        // Arrange
+        String csv = HEADER + "1017654311,Juan,Pérez,juan@example.com,-10,\n";
+        when(batch.merge(any())).thenReturn(0L);
+        when(errors.count()).thenReturn(1L);
+
+        // Act
+        AffiliateImportResult result = importAffiliatesUseCase.importAffiliates(stream(csv));
+
+        // Assert
+        assertEquals(1, result.getTotalRows());
+        assertEquals(1, result.getRejected());
+        verify(errors).reject(2L, "1017654311", "El salario anual debe ser un valor positivo.");
+        verify(batch, never()).stage(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar filas con campos obligatorios vacíos, email o fecha inválidos")
+    void testRejectInvalidFields() {
+        // Arrange
+        String csv = HEADER
+                + ",Juan,Pérez,juan@example.com,3500000,\n"
+                + "1017654312,Ana,Gómez,no-es-email,3500000,\n"
+                + "1017654313,Luis,Díaz,luis@example.com,3500000,15/01/2024\n"
+                + "1017654314,Eva,Rojas,eva@example.com,abc,\n";
+        when(batch.merge(any())).thenReturn(0L);
+
+        // Act
+        importAffiliatesUseCase.importAffiliates(stream(csv));
+
+        // Assert
+        verify(errors).reject(2L, "", "El campo document es obligatorio.");
+        verify(errors).reject(3L, "1017654312", "El formato del email es inválido.");
+        verify(errors).reject(4L, "1017654313", "La fecha de registro debe tener formato AAAA-MM-DD.");
+        verify(errors).reject(5L, "1017654314", "El salario anual no es un número válido.");
+        verify(batch, never()).stage(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Debe reportar los duplicados detectados al incorporar el lote")
+    void testReportMergeRejections() {
+        // Arrange
+        String csv = HEADER
+                + "1017654311,Juan,Pérez,juan@example.com,3500000,\n"
+                + "1017654311,Juan,Pérez,otro@example.com,3500000,\n";
+        when(batch.merge(any())).thenAnswer(invocation -> {
+            AffiliateBulkImportPort.RejectionHandler handler = invocation.getArgument(0);
+            handler.reject(3L, "1017654311", "Documento duplicado en el archivo.");
+            return 1L;
+        });
+        when(errors.count()).thenReturn(1L);
+
+        // Act
+        AffiliateImportResult result = importAffiliatesUseCase.importAffiliates(stream(csv));
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertTrue(result.hasRejections());
+        verify(errors).reject(3L, "1017654311", "Documento duplicado en el archivo.");
+    }
+
+    @Test
+    @DisplayName("Debe aceptar punto y coma como separador y campos entre comillas")
+    void testSemicolonAndQuotedFields() {
+        // Arrange
+        String csv = "document;first_name;last_name;email;annual_income\n"
+                + "1017654311;\"María José\";\"Pérez; Gómez\";maria@example.com;3500000\n";
+        when(batch.merge(any())).thenReturn(1L);
+
+        // Act
+        importAffiliatesUseCase.importAffiliates(stream(csv));
+
+        // Assert
+        ArgumentCaptor<Affiliate> staged = ArgumentCaptor.forClass(Affiliate.class);
+        verify(batch).stage(eq(2L), staged.capture());
+        assertEquals("María José", staged.getValue().getFirstName());
+        assertEquals("Pérez; Gómez", staged.getValue().getLastName());
+    }
+
+    @Test
+    @DisplayName("Debe fallar si falta una columna obligatoria y descartar el lote")
+    void testMissingRequiredColumn() {
+        // Arrange
+        String csv = "document,first_name,last_name,email\n1017654311,Juan,Pérez,juan@example.com\n";
+
+        // Act & Assert
+        DomainException exception = assertThrows(DomainException.class,
+                () -> importAffiliatesUseCase.importAffiliates(stream(csv)));
+        assertTrue(exception.getMessage().contains("annual_income"));
+        verify(batch, never()).merge(any());
+        verify(batch).close();
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
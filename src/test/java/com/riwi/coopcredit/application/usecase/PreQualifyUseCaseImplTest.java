@@ -0,0 +1,142 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.DecisionRule;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import com.riwi.coopcredit.domain.model.PreQualification;
+import com.riwi.coopcredit.domain.model.ScoreBand;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.DecisionRulesPort;
+import com.riwi.coopcredit.domain.port.out.RiskEstimatePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pruebas unitarias para PreQualifyUseCaseImpl")
+class PreQualifyUseCaseImplTest {
+
+    @Mock
+    private AffiliateRepositoryPort affiliateRepositoryPort;
+
+    @Mock
+    private DecisionRulesPort decisionRulesPort;
+
+    @Mock
+    private AffiliateExposurePort affiliateExposurePort;
+
+    // El puntaje estimado baja con el monto: alto hasta 10.000.000, medio hasta 20.000.000 y bajo después
+    private final RiskEstimatePort riskEstimatePort = (document, amount, termMonths) ->
+            amount <= 10_000_000 ? 750 : amount <= 20_000_000 ? 600 : 400;
+
+    private PreQualifyUseCaseImpl preQualifyUseCase;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange: solo bandas de puntaje, salvo en la prueba de reglas
+        lenient().when(decisionRulesPort.current()).thenReturn(DecisionRules.defaults());
+        lenient().when(affiliateRepositoryPort.findById(1L)).thenReturn(Optional.of(new Affiliate(
+                1L, "1017654311", "Juan", "Pérez", "juan@example.com", 3500000.0,
+                LocalDate.now().minusMonths(7), null)));
+        lenient().when(affiliateExposurePort.findApprovedAmount(1L)).thenReturn(BigDecimal.ZERO);
+        preQualifyUseCase = new PreQualifyUseCaseImpl(affiliateRepositoryPort, riskEstimatePort, decisionRulesPort,
+                affiliateExposurePort, 100_000, 500_000_000);
+    }
+
+    @Test
+    @DisplayName("Devuelve la decisión del monto pedido y el mayor monto aprobable, incluso con revisión")
+    void testDecisionAndMaxApprovableAmount() {
+        // Act
+        PreQualification result = preQualifyUseCase.preQualify(1L, new BigDecimal("5000000"), 24);
+
+        // Assert
+        assertEquals(750, result.riskScore());
+        assertEquals(ApplicationStatus.APROBADA, result.status());
+        assertEquals("BAJO RIESGO", result.riskLevel());
+        assertFalse(result.reviewRequired());
+        assertEquals(0, new BigDecimal("20000000").compareTo(result.maxApprovableAmount()));
+    }
+
+    @Test
+    @DisplayName("Un monto rechazado igual informa hasta cuánto se aprobaría")
+    void testRejectedAmountStillReportsMax() {
+        // Act
+        PreQualification result = preQualifyUseCase.preQualify(1L, new BigDecimal("30000000"), 24);
+
+        // Assert
+        assertEquals(ApplicationStatus.RECHAZADA, result.status());
+        assertEquals(0, new BigDecimal("20000000").compareTo(result.maxApprovableAmount()));
+    }
+
+    @Test
+    @DisplayName("Las reglas de la tabla vigente limitan el monto máximo, y sin monto aprobable responde 0")
+    void testRulesLimitMaxAmount() {
+        // Arrange: monto máximo de 3.500.000 por regla
+        when(decisionRulesPort.current()).thenReturn(DecisionRules.compile(
+                List.of(new ScoreBand(700, ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+                        new ScoreBand(0, ApplicationStatus.RECHAZADA, "ALTO RIESGO", false)),
+                List.of(new DecisionRule("monto", DecisionRule.Metric.AMOUNT, null, 3_500_000.0,
+                        DecisionRule.Outcome.REJECT))));
+
+        // Act
+        PreQualification result = preQualifyUseCase.preQualify(1L, new BigDecimal("5000000"), 24);
+        PreQualification none = new PreQualifyUseCaseImpl(affiliateRepositoryPort,
+                (document, amount, termMonths) -> 400, decisionRulesPort, affiliateExposurePort, 100_000, 500_000_000)
+                .preQualify(1L, new BigDecimal("5000000"), 24);
+
+        // Assert
+        assertEquals(ApplicationStatus.RECHAZADA, result.status());
+        assertEquals(0, new BigDecimal("3500000").compareTo(result.maxApprovableAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(none.maxApprovableAmount()));
+    }
+
+    @Test
+    @DisplayName("La exposición ya aprobada cuenta en la decisión y en el monto máximo, igual que al crear")
+    void testApprovedExposureLimitsMaxAmount() {
+        // Arrange: endeudamiento total hasta 2 veces el ingreso (7.000.000), con 4.000.000 ya aprobados
+        when(decisionRulesPort.current()).thenReturn(DecisionRules.compile(
+                List.of(new ScoreBand(700, ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+                        new ScoreBand(0, ApplicationStatus.RECHAZADA, "ALTO RIESGO", false)),
+                List.of(new DecisionRule("endeudamiento-total", DecisionRule.Metric.EXPOSURE_TO_INCOME, null, 2.0,
+                        DecisionRule.Outcome.REJECT))));
+        when(affiliateExposurePort.findApprovedAmount(1L)).thenReturn(new BigDecimal("4000000"));
+
+        // Act
+        PreQualification result = preQualifyUseCase.preQualify(1L, new BigDecimal("5000000"), 24);
+
+        // Assert
+        assertEquals(ApplicationStatus.RECHAZADA, result.status());
+        assertEquals(0, new BigDecimal("3000000").compareTo(result.maxApprovableAmount()));
+        verify(affiliateExposurePort, times(1)).findApprovedAmount(1L);
+    }
+
+    @Test
+    @DisplayName("Un afiliado inexistente no se pre-califica")
+    void testUnknownAffiliate() {
+        // Arrange
+        RiskEstimatePort estimator = mock(RiskEstimatePort.class);
+        PreQualifyUseCaseImpl useCase = new PreQualifyUseCaseImpl(affiliateRepositoryPort, estimator,
+                decisionRulesPort, affiliateExposurePort, 100_000, 500_000_000);
+
+        // Act & Assert
+        assertThrows(DomainException.class, () -> useCase.preQualify(99L, new BigDecimal("5000000"), 24));
+        verify(estimator, never()).estimateRiskScore(anyString(), anyDouble(), anyInt());
+    }
+}
@@ -0,0 +1,107 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+import com.riwi.coopcredit.domain.model.ReviewOutcome;
+import com.riwi.coopcredit.domain.port.out.AffiliateExposurePort;
+import com.riwi.coopcredit.domain.port.out.PortfolioStatsPort;
+import com.riwi.coopcredit.domain.port.out.ReviewQueuePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pruebas unitarias para ReviewApplicationsUseCaseImpl")
+class ReviewApplicationsUseCaseImplTest {
+
+    private static final String REVIEWER = "analista@coopcredit.com";
+    private static final LocalDateTime DATE = LocalDateTime.of(2026, 10, 5, 9, 30);
+
+    @Mock
+    private ReviewQueuePort reviewQueuePort;
+
+    @Mock
+    private PortfolioStatsPort portfolioStatsPort;
+
+    @Mock
+    private AffiliateExposurePort affiliateExposurePort;
+
+    @InjectMocks
+    private ReviewApplicationsUseCaseImpl reviewApplicationsUseCase;
+
+    @Test
+    @DisplayName("Debe separar las solicitudes decididas de las que tuvieron conflicto y mover solo las que cambian de estado")
+    void testDecideSplitsConflictsAndMovesStats() {
+        // Arrange
+        List<ReviewItem> items = List.of(new ReviewItem(1L, 3L), new ReviewItem(2L, 1L), new ReviewItem(3L, 5L));
+        ApplicationStatusChange pending = new ApplicationStatusChange(1L, 10L, DATE, new BigDecimal("1000000"),
+                ApplicationStatus.PENDIENTE, null, ApplicationStatus.RECHAZADA, null);
+        ApplicationStatusChange flagged = new ApplicationStatusChange(3L, 10L, DATE, new BigDecimal("2000000"),
+                ApplicationStatus.APROBADA, "MEDIO RIESGO", ApplicationStatus.RECHAZADA, "MEDIO RIESGO");
+        when(reviewQueuePort.decide(REVIEWER, ApplicationStatus.RECHAZADA, items)).thenReturn(List.of(pending, flagged));
+
+        // Act
+        ReviewOutcome outcome = reviewApplicationsUseCase.decide(REVIEWER, ApplicationStatus.RECHAZADA, items);
+
+        // Assert
+        assertEquals(List.of(1L, 3L), outcome.decided());
+        assertEquals(List.of(2L), outcome.conflicts());
+        verify(portfolioStatsPort).recordChanges(List.of(pending, flagged));
+        verify(affiliateExposurePort).recordChanges(List.of(pending, flagged));
+    }
+
+    @Test
+    @DisplayName("Confirmar una aprobación automática no modifica el rollup")
+    void testConfirmingApprovalDoesNotTouchStats() {
+        // Arrange
+        List<ReviewItem> items = List.of(new ReviewItem(7L, 2L));
+        when(reviewQueuePort.decide(REVIEWER, ApplicationStatus.APROBADA, items)).thenReturn(List.of(
+                new ApplicationStatusChange(7L, 10L, DATE, new BigDecimal("1500000"),
+                        ApplicationStatus.APROBADA, "MEDIO RIESGO", ApplicationStatus.APROBADA, "MEDIO RIESGO")));
+
+        // Act
+        ReviewOutcome outcome = reviewApplicationsUseCase.decide(REVIEWER, ApplicationStatus.APROBADA, items);
+
+        // Assert
+        assertEquals(List.of(7L), outcome.decided());
+        assertTrue(outcome.conflicts().isEmpty());
+        verify(portfolioStatsPort, never()).recordChanges(anyList());
+        verify(affiliateExposurePort, never()).recordChanges(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una decisión PENDIENTE o con solicitudes repetidas")
+    void testDecideValidation() {
+        // Act & Assert
+        assertThrows(DomainException.class, () -> reviewApplicationsUseCase.decide(REVIEWER,
+                ApplicationStatus.PENDIENTE, List.of(new ReviewItem(1L, 1L))));
+        DomainException duplicated = assertThrows(DomainException.class, () -> reviewApplicationsUseCase.decide(REVIEWER,
+                ApplicationStatus.APROBADA, List.of(new ReviewItem(1L, 1L), new ReviewItem(1L, 2L))));
+
+        assertTrue(duplicated.getMessage().contains("dos veces"));
+        verifyNoInteractions(reviewQueuePort, portfolioStatsPort, affiliateExposurePort);
+    }
+
+    @Test
+    @DisplayName("Debe validar el tamaño del lote y usar 10 por defecto")
+    void testClaimBatchSize() {
+        // Act & Assert
+        assertThrows(DomainException.class, () -> reviewApplicationsUseCase.claim(REVIEWER, 51));
+        reviewApplicationsUseCase.claim(REVIEWER, null);
+
+        verify(reviewQueuePort).claim(REVIEWER, 10);
+    }
+}
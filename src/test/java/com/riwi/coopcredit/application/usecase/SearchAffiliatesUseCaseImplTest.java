@@ -0,0 +1,94 @@
+package com.riwi.coopcredit.application.usecase;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.AffiliateSearchCursor;
+import com.riwi.coopcredit.domain.model.AffiliateSearchHit;
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+import com.riwi.coopcredit.domain.port.out.AffiliateSearchPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pruebas unitarias para SearchAffiliatesUseCaseImpl")
+class SearchAffiliatesUseCaseImplTest {
+
+    @Mock
+    private AffiliateSearchPort searchPort;
+
+    @InjectMocks
+    private SearchAffiliatesUseCaseImpl searchAffiliatesUseCase;
+
+    private static AffiliateSearchHit hit(long id, float rank) {
+        return new AffiliateSearchHit(id, "10" + id, "Juan", "Ramírez", "juan" + id + "@mail.com", rank);
+    }
+
+    @Test
+    @DisplayName("Debe retornar el cursor de la última fila cuando existe una página siguiente")
+    void testSearchReturnsNextCursor() {
+        // Arrange
+        when(searchPort.search("juan ramirez", List.of("juan", "ramirez"), null, 3))
+                .thenReturn(new AffiliateSearchPage(List.of(hit(1, 0.9f), hit(2, 0.8f), hit(3, 0.7f)), null, false));
+
+        // Act
+        AffiliateSearchPage page = searchAffiliatesUseCase.search("  juan   ramirez ", null, 2);
+
+        // Assert
+        assertEquals(2, page.hits().size());
+        AffiliateSearchCursor cursor = AffiliateSearchCursor.decode(page.nextCursor());
+        assertEquals(0.8f, cursor.rank());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    @DisplayName("Debe continuar desde el cursor recibido y omitirlo en la última página")
+    void testSearchFromCursorLastPage() {
+        // Arrange
+        AffiliateSearchCursor after = new AffiliateSearchCursor(0.8f, 2L);
+        when(searchPort.search("ramirez", List.of("ramirez"), after, 21))
+                .thenReturn(new AffiliateSearchPage(List.of(hit(3, 0.7f)), null, true));
+
+        // Act
+        AffiliateSearchPage page = searchAffiliatesUseCase.search("ramirez", after.encode(), null);
+
+        // Assert
+        assertEquals(1, page.hits().size());
+        assertNull(page.nextCursor());
+        assertTrue(page.truncated());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar términos cortos y rechazar consultas sin términos de 3 caracteres")
+    void testSearchRequiresMinimumTermLength() {
+        // Arrange
+        when(searchPort.search(eq("jo ramirez"), eq(List.of("ramirez")), isNull(), anyInt()))
+                .thenReturn(new AffiliateSearchPage(List.of(), null, false));
+
+        // Act
+        searchAffiliatesUseCase.search("jo ramirez", null, null);
+        DomainException exception = assertThrows(DomainException.class,
+                () -> searchAffiliatesUseCase.search("jo a", null, null));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("3 caracteres"));
+        verify(searchPort, times(1)).search(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción con un cursor inválido o un tamaño de página fuera de rango")
+    void testSearchInvalidCursorAndSize() {
+        // Act & Assert
+        assertThrows(DomainException.class, () -> searchAffiliatesUseCase.search("ramirez", "no-es-un-cursor", null));
+        assertThrows(DomainException.class, () -> searchAffiliatesUseCase.search("ramirez", null, 101));
+        verifyNoInteractions(searchPort);
+    }
+}
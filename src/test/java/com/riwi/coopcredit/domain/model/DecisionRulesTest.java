@@ -0,0 +1,104 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para la tabla de decisión")
+class DecisionRulesTest {
+
+    private static final List<ScoreBand> BANDS = List.of(
+            new ScoreBand(500, ApplicationStatus.APROBADA, "MEDIO RIESGO", true),
+            new ScoreBand(700, ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+            new ScoreBand(0, ApplicationStatus.RECHAZADA, "ALTO RIESGO", false));
+
+    @Test
+    @DisplayName("Las bandas por defecto deciden por puntaje con sus límites inclusivos")
+    void testDefaultBands() {
+        // Arrange
+        DecisionRules rules = DecisionRules.defaults();
+
+        // Act & Assert
+        assertEquals(new RiskDecision(ApplicationStatus.APROBADA, "BAJO RIESGO", false), decide(rules, 700));
+        assertEquals(new RiskDecision(ApplicationStatus.APROBADA, "MEDIO RIESGO", true), decide(rules, 699));
+        assertEquals(new RiskDecision(ApplicationStatus.APROBADA, "MEDIO RIESGO", true), decide(rules, 500));
+        assertEquals(new RiskDecision(ApplicationStatus.RECHAZADA, "ALTO RIESGO", false), decide(rules, 499));
+        assertEquals(ApplicationStatus.RECHAZADA, decide(rules, -10).status(), "La banda más baja cubre el resto");
+    }
+
+    @Test
+    @DisplayName("Un límite de rechazo gana sobre el puntaje y uno de revisión manda a analistas")
+    void testRulesOverrideBand() {
+        // Arrange
+        DecisionRules rules = DecisionRules.compile(BANDS, List.of(
+                new DecisionRule("cuota-maxima", DecisionRule.Metric.DEBT_TO_INCOME, null, 1.0, DecisionRule.Outcome.REJECT),
+                new DecisionRule("antiguedad", DecisionRule.Metric.SENIORITY_MONTHS, 6.0, null, DecisionRule.Outcome.REVIEW)));
+
+        // Act & Assert: ingreso mensual de 1.000.000
+        assertEquals(new RiskDecision(ApplicationStatus.RECHAZADA, "BAJO RIESGO", false),
+                rules.decide(800, 24_000_000, 12, 12_000_000, 24), "Cuota de 2.000.000");
+        assertEquals(new RiskDecision(ApplicationStatus.APROBADA, "BAJO RIESGO", true),
+                rules.decide(800, 6_000_000, 12, 12_000_000, 3), "Afiliado con 3 meses");
+        assertEquals(new RiskDecision(ApplicationStatus.APROBADA, "BAJO RIESGO", false),
+                rules.decide(800, 6_000_000, 12, 12_000_000, 6));
+        assertEquals(ApplicationStatus.RECHAZADA, rules.decide(300, 6_000_000, 12, 12_000_000, 3).status(),
+                "La revisión no aprueba una solicitud rechazada por puntaje");
+    }
+
+    @Test
+    @DisplayName("Varias reglas sobre la misma métrica se funden en el límite más estricto")
+    void testStrictestBoundWins() {
+        // Arrange
+        DecisionRules rules = DecisionRules.compile(BANDS, List.of(
+                new DecisionRule("monto-a", DecisionRule.Metric.AMOUNT, null, 50_000_000.0, DecisionRule.Outcome.REJECT),
+                new DecisionRule("monto-b", DecisionRule.Metric.AMOUNT, null, 20_000_000.0, DecisionRule.Outcome.REJECT),
+                new DecisionRule("plazo", DecisionRule.Metric.TERM_MONTHS, 6.0, 60.0, DecisionRule.Outcome.REJECT)));
+
+        // Act & Assert
+        assertEquals(ApplicationStatus.APROBADA, rules.decide(800, 20_000_000, 60, 600_000_000, 12).status());
+        assertEquals(ApplicationStatus.RECHAZADA, rules.decide(800, 30_000_000, 60, 600_000_000, 12).status());
+        assertEquals(ApplicationStatus.RECHAZADA, rules.decide(800, 1_000_000, 72, 600_000_000, 12).status());
+    }
+
+    @Test
+    @DisplayName("Sin ingreso ni fecha de registro se aplican la cuota infinita y la antigüedad cero")
+    void testMissingAffiliateData() {
+        // Arrange
+        DecisionRules rules = DecisionRules.compile(BANDS, List.of(
+                new DecisionRule("cuota", DecisionRule.Metric.DEBT_TO_INCOME, null, 0.5, DecisionRule.Outcome.REVIEW)));
+
+        // Act
+        RiskDecision withoutIncome = rules.decide(800, new BigDecimal("1000000"), 12, null, null, LocalDate.now());
+        RiskDecision withIncome = rules.decide(800, new BigDecimal("1000000"), 12, 12_000_000.0,
+                LocalDate.now().minusYears(1), LocalDate.now());
+
+        // Assert
+        assertTrue(withoutIncome.reviewRequired());
+        assertFalse(withIncome.reviewRequired());
+    }
+
+    @Test
+    @DisplayName("Una tabla incompleta o inconsistente no compila")
+    void testInvalidTables() {
+        assertThrows(DomainException.class, () -> DecisionRules.compile(List.of(), List.of()));
+        assertThrows(DomainException.class, () -> DecisionRules.compile(List.of(
+                new ScoreBand(0, ApplicationStatus.PENDIENTE, "X", false)), List.of()));
+        assertThrows(DomainException.class, () -> DecisionRules.compile(List.of(
+                new ScoreBand(0, ApplicationStatus.APROBADA, "A", false),
+                new ScoreBand(0, ApplicationStatus.RECHAZADA, "B", false)), List.of()));
+        assertThrows(DomainException.class, () -> DecisionRules.compile(BANDS, List.of(
+                new DecisionRule("vacia", DecisionRule.Metric.AMOUNT, null, null, DecisionRule.Outcome.REJECT))));
+        assertThrows(DomainException.class, () -> DecisionRules.compile(BANDS, List.of(
+                new DecisionRule("invertida", DecisionRule.Metric.AMOUNT, 10.0, 1.0, DecisionRule.Outcome.REJECT))));
+    }
+
+    private static RiskDecision decide(DecisionRules rules, int score) {
+        return rules.decide(score, 1_000_000, 12, 120_000_000, 24);
+    }
+}
@@ -0,0 +1,51 @@
+package com.riwi.coopcredit.domain.model;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el modelo de puntaje local")
+class RiskScoringModelTest {
+
+    private final RiskScoringModel model = new RiskScoringModel(620, 60, 3_000_000, -250, -6, 12, -45, 10, 300, 900);
+
+    @Test
+    @DisplayName("Con el ingreso de referencia, sin cuota ni historial, el puntaje es el intercepto")
+    void testInterceptAtReference() {
+        // Act & Assert: ingreso mensual 3.000.000, monto despreciable, plazo de un año
+        assertEquals(614, model.score(36_000_000, 0, 12, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Más ingreso y aprobaciones suben el puntaje; más cuota y rechazos lo bajan")
+    void testWeightsDirection() {
+        // Arrange
+        int base = model.score(60_000_000, 10_000_000, 24, 0, 0);
+
+        // Act & Assert
+        assertTrue(model.score(120_000_000, 10_000_000, 24, 0, 0) > base);
+        assertTrue(model.score(60_000_000, 10_000_000, 24, 3, 0) > base);
+        assertTrue(model.score(60_000_000, 40_000_000, 24, 0, 0) < base);
+        assertTrue(model.score(60_000_000, 10_000_000, 24, 0, 2) < base);
+    }
+
+    @Test
+    @DisplayName("El historial se limita y el puntaje queda dentro del rango")
+    void testCapsAndClamp() {
+        // Act & Assert
+        assertEquals(model.score(60_000_000, 1_000_000, 12, 10, 0), model.score(60_000_000, 1_000_000, 12, 50, 0));
+        assertEquals(900, model.score(5_000_000_000.0, 1_000_000, 12, 10, 0));
+        assertEquals(300, model.score(60_000_000, 1_000_000, 12, 0, 10));
+        assertEquals(300, model.score(0, 1_000_000, 12, 5, 0), "Sin ingreso el puntaje es el mínimo");
+        assertEquals(model.score(60_000_000, 1_000_000, 12, 2, 1),
+                model.score(new RiskProfile(60_000_000, 2, 1), 1_000_000, 12));
+    }
+
+    @Test
+    @DisplayName("Un rango invertido no es un modelo válido")
+    void testInvalidRange() {
+        assertThrows(DomainException.class, () -> new RiskScoringModel(620, 60, 3_000_000, -250, -6, 12, -45, 10, 900, 300));
+    }
+}
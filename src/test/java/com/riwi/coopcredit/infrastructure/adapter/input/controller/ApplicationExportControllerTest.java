@@ -0,0 +1,107 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: descarga de la exportación de solicitudes")
+class ApplicationExportControllerTest extends PostgresIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.of(2001, 5, 1);
+    private static final LocalDate TO = LocalDate.of(2001, 5, 31);
+
+    @Autowired
+    private ApplicationExportController controller;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("La descarga con gzip respeta el rango de fechas y los estados pedidos")
+    void testGzipExportWithFilters() throws IOException {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        Long inRange = newApplication(affiliate, "2001-05-31 23:59", ApplicationStatus.APROBADA);
+        newApplication(affiliate, "2001-05-20 08:00", ApplicationStatus.RECHAZADA);
+        newApplication(affiliate, "2001-06-01 00:00", ApplicationStatus.APROBADA);
+        newApplication(affiliate, "2001-04-30 23:59", ApplicationStatus.APROBADA);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportApplications(
+                "csv", FROM, TO, List.of(ApplicationStatus.APROBADA), true);
+        String csv = gunzip(response.getBody());
+
+        // Assert
+        assertEquals("application/gzip", response.getHeaders().getContentType().toString());
+        assertEquals("attachment; filename=\"solicitudes.csv.gz\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        String[] lines = csv.split("\n");
+        assertTrue(lines[0].startsWith("application_id,application_date,status"));
+        List<String> rows = Arrays.stream(lines).skip(1)
+                .filter(line -> line.contains("," + affiliate.getDocument() + ","))
+                .toList();
+        assertEquals(1, rows.size());
+        assertTrue(rows.get(0).startsWith(inRange + ",2001-05-31T23:59,APROBADA,"));
+    }
+
+    @Test
+    @DisplayName("Sin gzip la descarga es texto plano en el formato pedido")
+    void testPlainNdjsonExport() throws IOException {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        Long application = newApplication(affiliate, "2001-05-10 12:00", ApplicationStatus.RECHAZADA);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportApplications(
+                "ndjson", FROM, TO, null, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertTrue(out.toString(StandardCharsets.UTF_8).lines()
+                .anyMatch(line -> line.startsWith("{\"application_id\":" + application + ",")
+                        && line.contains("\"status\":\"RECHAZADA\"")));
+    }
+
+    private String gunzip(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        body.writeTo(compressed);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Long newApplication(Affiliate affiliate, String date, ApplicationStatus status) {
+        CreditApplication application = applicationRepositoryPort.save(
+                new CreditApplication(new BigDecimal("5000000"), 12, affiliate));
+        jdbcTemplate.update("UPDATE credit_application SET application_date = ?::timestamp, status = ? WHERE id = ?",
+                date, status.name(), application.getId());
+        return application.getId();
+    }
+}
@@ -0,0 +1,105 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.controller;
+
+import com.riwi.coopcredit.domain.port.in.CreateApplicationUseCase;
+import com.riwi.coopcredit.domain.port.in.PreQualifyUseCase;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationRequest;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationResponse;
+import com.riwi.coopcredit.infrastructure.adapter.input.mapper.ApplicationRestMapper;
+import com.riwi.coopcredit.infrastructure.idempotency.IdempotentRequestExecutor;
+import com.riwi.coopcredit.infrastructure.ratelimit.VelocityLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pruebas unitarias para CreditApplicationController")
+class CreditApplicationControllerTest {
+
+    @Mock
+    private CreateApplicationUseCase createApplicationUseCase;
+
+    @Mock
+    private PreQualifyUseCase preQualifyUseCase;
+
+    @Mock
+    private ApplicationRestMapper mapper;
+
+    @Mock
+    private IdempotentRequestExecutor idempotentRequestExecutor;
+
+    @Mock
+    private VelocityLimiter velocityLimiter;
+
+    @InjectMocks
+    private CreditApplicationController controller;
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("1017654311", null);
+
+    @Test
+    @DisplayName("El reintento con una respuesta guardada se repite sin consumir el límite de velocidad")
+    void testReplayDoesNotSpendVelocityBudget() {
+        // Arrange
+        ApplicationRequest request = request();
+        ResponseEntity<ApplicationResponse> stored = ResponseEntity.status(HttpStatus.CREATED)
+                .header(IdempotentRequestExecutor.REPLAYED_HEADER, "true")
+                .body(ApplicationResponse.builder().id(7L).status("APROBADA").build());
+        when(idempotentRequestExecutor.findReplay(eq("1017654311"), eq("key-1"), anyString(), eq(request),
+                eq(ApplicationResponse.class))).thenReturn(Optional.of(stored));
+
+        // Act
+        ResponseEntity<ApplicationResponse> response = controller.createApplication(
+                request, "key-1", authentication, new MockHttpServletRequest());
+
+        // Assert
+        assertSame(stored, response);
+        verifyNoInteractions(velocityLimiter, createApplicationUseCase);
+        verify(idempotentRequestExecutor, never()).execute(anyString(), anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Una llave sin respuesta guardada pasa por el límite de velocidad antes de ejecutarse")
+    void testNewKeyIsRateLimited() {
+        // Arrange
+        ApplicationRequest request = request();
+        when(idempotentRequestExecutor.findReplay(anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(velocityLimiter.tryAcquire(anyLong(), anyString(), any()))
+                .thenReturn(Optional.of(new VelocityLimiter.Rejection("affiliate", Duration.ofMillis(1500))));
+
+        // Act
+        ResponseEntity<ApplicationResponse> response = controller.createApplication(
+                request, "key-1", authentication, new MockHttpServletRequest());
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst("Retry-After"));
+        verify(idempotentRequestExecutor, never()).execute(anyString(), anyString(), anyString(), any(), any(), any());
+    }
+
+    private static ApplicationRequest request() {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setAffiliateId(1L);
+        request.setRequestedAmount(new BigDecimal("5000000"));
+        request.setTermMonths(36);
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.riwi.coopcredit.infrastructure.adapter.input.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para ApplicationExportWriter")
+class ApplicationExportWriterTest {
+
+    private static final String HEADER = "application_id,application_date,status,requested_amount,term_months," +
+            "risk_score,risk_level,affiliate_id,document,first_name,last_name,email,annual_income,registration_date";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV: encabezado y textos con comas, comillas o saltos de línea entre comillas")
+    void testCsvQuotesSpecialCharacters() throws IOException {
+        // Arrange
+        ApplicationExportRow row = row("Ana, María", "O\"Brien", "linea1\nlinea2", 710, "BAJO RIESGO");
+
+        // Act
+        String csv = write(ExportFormat.CSV, row);
+
+        // Assert
+        assertEquals(HEADER + "\n" +
+                "15,2024-03-05T10:15:30,APROBADA,5000000.50,36,710,BAJO RIESGO,42,1017654311,\"Ana, María\"," +
+                "\"O\"\"Brien\",\"linea1\nlinea2\",3500000,2020-01-15\n", csv);
+    }
+
+    @Test
+    @DisplayName("CSV: los campos de riesgo nulos quedan vacíos")
+    void testCsvNullRiskFields() throws IOException {
+        // Act
+        String csv = write(ExportFormat.CSV, row("Juan", "Pérez", "juan@example.com", null, null));
+
+        // Assert
+        assertEquals(HEADER + "\n" +
+                "15,2024-03-05T10:15:30,APROBADA,5000000.50,36,,,42,1017654311,Juan,Pérez,juan@example.com," +
+                "3500000,2020-01-15\n", csv);
+    }
+
+    @Test
+    @DisplayName("NDJSON: un objeto por línea, con nulos explícitos y textos escapados")
+    void testNdjsonOneObjectPerLine() throws IOException {
+        // Act
+        String ndjson = write(ExportFormat.NDJSON,
+                row("Ana, María", "O\"Brien", "linea1\nlinea2", 710, "BAJO RIESGO"),
+                row("Juan", "Pérez", "juan@example.com", null, null));
+
+        // Assert
+        assertTrue(ndjson.endsWith("\n"));
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(15, first.get("application_id").asLong());
+        assertEquals("APROBADA", first.get("status").asText());
+        assertTrue(lines[0].contains("\"requested_amount\":5000000.50,"), "el monto se escribe como número exacto");
+        assertEquals(710, first.get("risk_score").asInt());
+        assertEquals("O\"Brien", first.get("last_name").asText());
+        assertEquals("linea1\nlinea2", first.get("email").asText());
+        assertEquals("2024-03-05T10:15:30", first.get("application_date").asText());
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertTrue(second.get("risk_score").isNull());
+        assertTrue(second.get("risk_level").isNull());
+        assertEquals(14, second.size());
+    }
+
+    @Test
+    @DisplayName("NDJSON: una exportación sin filas queda vacía")
+    void testNdjsonEmpty() throws IOException {
+        assertEquals("", write(ExportFormat.NDJSON));
+    }
+
+    private static String write(ExportFormat format, ApplicationExportRow... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ApplicationExportWriter writer = ApplicationExportWriter.of(format, out)) {
+            for (ApplicationExportRow row : rows) {
+                writer.accept(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ApplicationExportRow row(String firstName, String lastName, String email, Integer riskScore,
+                                            String riskLevel) {
+        return new ApplicationExportRow(15L, LocalDateTime.of(2024, 3, 5, 10, 15, 30), ApplicationStatus.APROBADA,
+                new BigDecimal("5000000.50"), 36, riskScore, riskLevel, 42L, "1017654311", firstName, lastName, email,
+                new BigDecimal("3500000"), LocalDate.of(2020, 1, 15));
+    }
+}
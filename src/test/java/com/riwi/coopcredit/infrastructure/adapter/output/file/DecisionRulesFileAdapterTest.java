@@ -0,0 +1,91 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.DecisionRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias: recarga de la tabla de decisión")
+class DecisionRulesFileAdapterTest {
+
+    private static final String BANDS = """
+            "scoreBands": [
+              { "minScore": 700, "status": "APROBADA", "riskLevel": "BAJO RIESGO" },
+              { "minScore": 0, "status": "RECHAZADA", "riskLevel": "ALTO RIESGO" }
+            ]""";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Un cambio en el archivo reemplaza la tabla sin reiniciar")
+    void testReloadsModifiedFile() throws IOException {
+        // Arrange
+        Path file = write("{" + BANDS + "}", Instant.now().minusSeconds(60));
+        DecisionRulesFileAdapter adapter = adapter(file);
+        DecisionRules before = adapter.current();
+
+        // Act
+        write("{" + BANDS + """
+                , "rules": [ { "name": "monto", "metric": "AMOUNT", "max": 1000000, "outcome": "REJECT" } ] }""",
+                Instant.now());
+        adapter.reloadIfModified();
+
+        // Assert
+        assertNotSame(before, adapter.current());
+        assertEquals(ApplicationStatus.APROBADA, before.decide(800, 5_000_000, 12, 120_000_000, 24).status());
+        assertEquals(ApplicationStatus.RECHAZADA, adapter.current().decide(800, 5_000_000, 12, 120_000_000, 24).status());
+    }
+
+    @Test
+    @DisplayName("Un archivo inválido no reemplaza la tabla vigente")
+    void testKeepsPreviousTableOnInvalidFile() throws IOException {
+        // Arrange
+        Path file = write("{" + BANDS + "}", Instant.now().minusSeconds(60));
+        DecisionRulesFileAdapter adapter = adapter(file);
+        DecisionRules before = adapter.current();
+
+        // Act
+        write("{ \"scoreBands\": [] }", Instant.now());
+        adapter.reloadIfModified();
+
+        // Assert
+        assertSame(before, adapter.current());
+    }
+
+    @Test
+    @DisplayName("El archivo incluido en la aplicación compila")
+    void testBundledRulesCompile() {
+        // Act
+        DecisionRules rules = new DecisionRulesFileAdapter(new DefaultResourceLoader(), new ObjectMapper(),
+                new SimpleMeterRegistry(), "classpath:decision-rules.json").current();
+
+        // Assert
+        assertEquals(ApplicationStatus.APROBADA, rules.decide(750, 5_000_000, 36, 60_000_000, 24).status());
+        assertEquals(ApplicationStatus.RECHAZADA, rules.decide(750, 5_000_000, 36, 1_000_000, 24).status());
+    }
+
+    private DecisionRulesFileAdapter adapter(Path file) {
+        return new DecisionRulesFileAdapter(new DefaultResourceLoader(), new ObjectMapper(), new SimpleMeterRegistry(),
+                file.toUri().toString());
+    }
+
+    private Path write(String content, Instant modified) throws IOException {
+        Path file = directory.resolve("decision-rules.json");
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+        return file;
+    }
+}
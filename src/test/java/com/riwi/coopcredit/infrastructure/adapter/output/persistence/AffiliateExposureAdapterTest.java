@@ -0,0 +1,123 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.in.CreateApplicationUseCase;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Pruebas de integración: exposición aprobada por afiliado")
+class AffiliateExposureAdapterTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AffiliateExposureAdapter affiliateExposureAdapter;
+
+    @Autowired
+    private CreateApplicationUseCase createApplicationUseCase;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @MockitoBean
+    private RiskExternalPort riskExternalPort;
+
+    @Test
+    @DisplayName("Suma las aprobaciones, resta las que dejan de estar aprobadas y se lee con una sentencia")
+    void testExposureIsAdjustedAtomically() {
+        // Arrange
+        Affiliate affiliate = newAffiliate(48000000.0);
+        LocalDateTime date = LocalDateTime.now();
+
+        // Act
+        affiliateExposureAdapter.record(decided(affiliate, ApplicationStatus.APROBADA, "3000000"));
+        affiliateExposureAdapter.record(decided(affiliate, ApplicationStatus.APROBADA, "2000000"));
+        affiliateExposureAdapter.record(decided(affiliate, ApplicationStatus.RECHAZADA, "9000000"));
+        affiliateExposureAdapter.recordChanges(List.of(
+                new ApplicationStatusChange(1L, affiliate.getId(), date, new BigDecimal("2000000"),
+                        ApplicationStatus.APROBADA, "MEDIO RIESGO", ApplicationStatus.RECHAZADA, "MEDIO RIESGO"),
+                new ApplicationStatusChange(2L, affiliate.getId(), date, new BigDecimal("500000"),
+                        ApplicationStatus.PENDIENTE, null, ApplicationStatus.APROBADA, "BAJO RIESGO"),
+                new ApplicationStatusChange(3L, affiliate.getId(), date, new BigDecimal("700000"),
+                        ApplicationStatus.PENDIENTE, null, ApplicationStatus.RECHAZADA, "ALTO RIESGO")));
+        Counted<BigDecimal> exposure = counted(() -> affiliateExposureAdapter.findApprovedAmount(affiliate.getId()));
+
+        // Assert
+        assertEquals(0, new BigDecimal("3500000").compareTo(exposure.result()));
+        assertEquals(1, exposure.statements());
+        assertEquals(0, BigDecimal.ZERO.compareTo(affiliateExposureAdapter.findApprovedAmount(-1L)));
+    }
+
+    @Test
+    @DisplayName("La reconciliación reconstruye la exposición de solicitudes cargadas sin pasar por el contador")
+    void testReconcileRebuildsExposure() {
+        // Arrange: una carga masiva inserta la solicitud aprobada sin ajustar affiliate_exposure
+        Affiliate affiliate = newAffiliate(48000000.0);
+        applicationRepositoryPort.save(decided(affiliate, ApplicationStatus.APROBADA, "7000000"));
+        applicationRepositoryPort.save(decided(affiliate, ApplicationStatus.RECHAZADA, "9000000"));
+        assertEquals(0, BigDecimal.ZERO.compareTo(affiliateExposureAdapter.findApprovedAmount(affiliate.getId())));
+
+        // Act
+        int drift = affiliateExposureAdapter.reconcile();
+
+        // Assert
+        assertTrue(drift >= 1);
+        assertEquals(0, new BigDecimal("7000000").compareTo(affiliateExposureAdapter.findApprovedAmount(affiliate.getId())));
+        assertEquals(0, affiliateExposureAdapter.reconcile());
+    }
+
+    @Test
+    @DisplayName("Dos solicitudes concurrentes del mismo afiliado no superan juntas el límite de exposición")
+    void testConcurrentCreationsRespectExposureLimit() throws Exception {
+        // Arrange: cada una cabe sola en 2 veces el ingreso (96.000.000), las dos juntas no
+        Affiliate affiliate = newAffiliate(48000000.0);
+        CyclicBarrier bothScored = new CyclicBarrier(2);
+        when(riskExternalPort.getRiskScore(eq(affiliate.getDocument()), anyDouble(), anyInt())).thenAnswer(invocation -> {
+            // Las dos ya guardaron su fila y tienen puntaje antes de que alguna lea la exposición
+            bothScored.await(5, TimeUnit.SECONDS);
+            return 750;
+        });
+
+        // Act
+        CompletableFuture<CreditApplication> first = CompletableFuture.supplyAsync(
+                () -> createApplicationUseCase.create(affiliate.getId(), new BigDecimal("60000000"), 120));
+        CompletableFuture<CreditApplication> second = CompletableFuture.supplyAsync(
+                () -> createApplicationUseCase.create(affiliate.getId(), new BigDecimal("61000000"), 120));
+        List<CreditApplication> created = List.of(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+
+        // Assert
+        List<CreditApplication> approved = created.stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.APROBADA)
+                .toList();
+        assertEquals(1, approved.size());
+        assertEquals(1, created.stream().filter(application -> application.getStatus() == ApplicationStatus.RECHAZADA)
+                .count());
+        assertEquals(0, approved.get(0).getRequestedAmount()
+                .compareTo(affiliateExposureAdapter.findApprovedAmount(affiliate.getId())));
+    }
+
+    private static CreditApplication decided(Affiliate affiliate, ApplicationStatus status, String amount) {
+        CreditApplication application = new CreditApplication(new BigDecimal(amount), 12, affiliate);
+        application.setStatus(status);
+        return application;
+    }
+}
@@ -0,0 +1,70 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.AffiliateSearchCursor;
+import com.riwi.coopcredit.domain.model.AffiliateSearchHit;
+import com.riwi.coopcredit.domain.model.AffiliateSearchPage;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: búsqueda de afiliados por trigramas")
+class AffiliateSearchAdapterTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AffiliateSearchAdapter affiliateSearchAdapter;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("El cursor recorre todas las coincidencias, aunque superen max-candidates")
+    void testCursorReachesEveryMatch() {
+        // Arrange: cinco afiliados comparten el término; con max-candidates = 2 la búsqueda queda truncada
+        String term = "busqueda" + nextSuffix();
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Affiliate affiliate = affiliateRepositoryPort.save(new Affiliate("T" + nextSuffix(), "Ana", "Gómez",
+                    term + "-" + i + "@example.com", 3500000.0));
+            expected.add(affiliate.getId());
+        }
+        AffiliateSearchAdapter narrow = new AffiliateSearchAdapter(jdbcTemplate, 2);
+
+        // Act
+        List<Long> wide = ids(pages(affiliateSearchAdapter, term));
+        List<AffiliateSearchPage> truncatedPages = pages(narrow, term);
+
+        // Assert
+        assertEquals(expected, wide);
+        assertEquals(expected, ids(truncatedPages));
+        assertTrue(truncatedPages.stream().allMatch(AffiliateSearchPage::truncated));
+    }
+
+    // Páginas de dos filas, continuando desde la última fila de la anterior como hace el caso de uso
+    private static List<AffiliateSearchPage> pages(AffiliateSearchAdapter adapter, String term) {
+        List<AffiliateSearchPage> pages = new ArrayList<>();
+        AffiliateSearchCursor after = null;
+        do {
+            AffiliateSearchPage page = adapter.search(term, List.of(term), after, 2);
+            pages.add(page);
+            List<AffiliateSearchHit> hits = page.hits();
+            after = hits.size() < 2 ? null : AffiliateSearchCursor.of(hits.get(hits.size() - 1));
+        } while (after != null);
+        return pages;
+    }
+
+    private static List<Long> ids(List<AffiliateSearchPage> pages) {
+        return pages.stream().flatMap(page -> page.hits().stream()).map(AffiliateSearchHit::id).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationExportFilter;
+import com.riwi.coopcredit.domain.model.ApplicationExportRow;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: exportación de solicitudes")
+class CreditApplicationExportAdapterTest extends PostgresIntegrationTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2001, 3, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2001, 3, 31);
+
+    @Autowired
+    private CreditApplicationExportAdapter exportAdapter;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Exporta las solicitudes activas y las archivadas con los mismos filtros, en orden de fecha")
+    void testExportIncludesArchivedApplications() {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        Long active = newActiveApplication(affiliate, "2001-03-10 10:00", ApplicationStatus.APROBADA);
+        Long archived = newArchivedApplication(affiliate, "2001-03-05 09:00", ApplicationStatus.RECHAZADA);
+        newArchivedApplication(affiliate, "2001-04-02 09:00", ApplicationStatus.APROBADA);
+
+        // Act
+        List<ApplicationExportRow> all = export(affiliate, EnumSet.of(ApplicationStatus.APROBADA, ApplicationStatus.RECHAZADA));
+        List<ApplicationExportRow> approved = export(affiliate, EnumSet.of(ApplicationStatus.APROBADA));
+
+        // Assert
+        assertEquals(List.of(archived, active), all.stream().map(ApplicationExportRow::applicationId).toList());
+        assertEquals(ApplicationStatus.RECHAZADA, all.get(0).status());
+        assertEquals("ALTO RIESGO", all.get(0).riskLevel());
+        assertEquals(affiliate.getDocument(), all.get(0).document());
+        assertEquals(List.of(active), approved.stream().map(ApplicationExportRow::applicationId).toList());
+    }
+
+    private List<ApplicationExportRow> export(Affiliate affiliate, Set<ApplicationStatus> statuses) {
+        List<ApplicationExportRow> rows = new ArrayList<>();
+        exportAdapter.stream(new ApplicationExportFilter(MONTH_START, MONTH_END, statuses), row -> {
+            if (row.affiliateId().equals(affiliate.getId())) {
+                rows.add(row);
+            }
+        });
+        return rows;
+    }
+
+    private Long newActiveApplication(Affiliate affiliate, String date, ApplicationStatus status) {
+        CreditApplication application = applicationRepositoryPort.save(
+                new CreditApplication(new BigDecimal("5000000"), 12, affiliate));
+        jdbcTemplate.update("UPDATE credit_application SET application_date = ?::timestamp, status = ? WHERE id = ?",
+                date, status.name(), application.getId());
+        return application.getId();
+    }
+
+    private Long newArchivedApplication(Affiliate affiliate, String date, ApplicationStatus status) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO credit_application_archive
+                    (id, affiliate_id, requested_amount, term_months, application_date, status, risk_score, risk_level)
+                VALUES (nextval(pg_get_serial_sequence('credit_application', 'id')), ?, 3000000, 24, ?::timestamp, ?,
+                        420, 'ALTO RIESGO')
+                RETURNING id
+                """, Long.class, affiliate.getId(), date, status.name());
+    }
+}
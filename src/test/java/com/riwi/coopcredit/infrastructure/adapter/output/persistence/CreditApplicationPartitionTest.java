@@ -0,0 +1,86 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: particiones mensuales de solicitudes")
+class CreditApplicationPartitionTest extends PostgresIntegrationTest {
+
+    private static final String ENSURE = "SELECT ensure_credit_application_partition(?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Dos nodos que crean a la vez la partición de un mes nuevo no fallan: el segundo la encuentra")
+    void testConcurrentPartitionCreation() throws Exception {
+        // Arrange: un mes lejano distinto en cada ejecución, porque la base se reutiliza
+        LocalDate month = LocalDate.of(2200 + (int) (nextSuffix() % 700), 1, 1);
+        String partition = "credit_application_" + month.getYear() + "_01";
+        CountDownLatch created = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // Act: el primer nodo crea la partición y retiene el bloqueo hasta su commit
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                    new TransactionTemplate(transactionManager).execute(status -> {
+                        String name = jdbcTemplate.queryForObject(ENSURE, String.class, Date.valueOf(month));
+                        created.countDown();
+                        try {
+                            assertTrue(release.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return name;
+                    }));
+            assertTrue(created.await(10, TimeUnit.SECONDS));
+            // El segundo aún no ve la partición sin confirmar y queda esperando el bloqueo
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() ->
+                    jdbcTemplate.queryForObject(ENSURE, String.class, Date.valueOf(month)));
+            awaitBlockedOnLock();
+            release.countDown();
+
+            // Assert
+            assertEquals(partition, first.get(10, TimeUnit.SECONDS));
+            assertNull(second.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+                jdbcTemplate.execute("ALTER TABLE credit_application DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+        }
+    }
+
+    private void awaitBlockedOnLock() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("""
+                    SELECT count(*) FROM pg_stat_activity
+                    WHERE datname = current_database() AND wait_event_type = 'Lock'
+                      AND query LIKE 'SELECT ensure_credit_application_partition%'
+                    """, Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        fail("La segunda creación no llegó a esperar el bloqueo");
+    }
+}
@@ -0,0 +1,89 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.exception.StaleApplicationException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: bloqueo optimista de solicitudes de crédito")
+class CreditApplicationVersioningTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("La segunda actualización sobre la misma versión se rechaza y no pisa la primera")
+    void testStaleUpdateIsRejected() {
+        // Arrange
+        CreditApplication application = newApplication();
+        CreditApplication analystCopy = applicationRepositoryPort.findById(application.getId()).orElseThrow();
+        CreditApplication jobCopy = applicationRepositoryPort.findById(application.getId()).orElseThrow();
+
+        // Act
+        analystCopy.setStatus(ApplicationStatus.APROBADA);
+        CreditApplication approved = applicationRepositoryPort.save(analystCopy);
+        jobCopy.setStatus(ApplicationStatus.RECHAZADA);
+
+        // Assert
+        assertEquals(application.getVersion() + 1, approved.getVersion());
+        assertThrows(StaleApplicationException.class, () -> applicationRepositoryPort.save(jobCopy));
+        assertEquals("APROBADA", jdbcTemplate.queryForObject(
+                "SELECT status FROM credit_application WHERE id = ?", String.class, application.getId()));
+    }
+
+    @Test
+    @DisplayName("El reintento vuelve a leer la solicitud y aplica el cambio sobre la versión vigente")
+    void testRetryRereadsAfterConflict() {
+        // Arrange
+        CreditApplication application = newApplication();
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionTemplate otherProcess = new TransactionTemplate(transactionManager);
+        otherProcess.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Act: en el primer intento otro proceso cambia la fila entre la lectura y la escritura
+        CreditApplication rescored = optimisticRetry.execute(() -> {
+            CreditApplication current = applicationRepositoryPort.findById(application.getId()).orElseThrow();
+            if (attempts.incrementAndGet() == 1) {
+                otherProcess.executeWithoutResult(status -> jdbcTemplate.update(
+                        "UPDATE credit_application SET risk_level = 'MEDIO RIESGO', version = version + 1 WHERE id = ?",
+                        application.getId()));
+            }
+            current.setRiskScore(720);
+            return applicationRepositoryPort.save(current);
+        });
+
+        // Assert
+        assertEquals(2, attempts.get());
+        assertEquals(720, rescored.getRiskScore());
+        assertEquals("MEDIO RIESGO", rescored.getRiskLevel());
+        assertEquals(application.getVersion() + 2, rescored.getVersion());
+    }
+
+    private CreditApplication newApplication() {
+        Affiliate affiliate = newAffiliate(3800000.0);
+        return applicationRepositoryPort.save(new CreditApplication(new BigDecimal("4000000"), 24, affiliate));
+    }
+}
@@ -0,0 +1,119 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: detección de solicitudes duplicadas")
+class DuplicateApplicationAdapterTest extends PostgresIntegrationTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("5000000");
+
+    @Autowired
+    private DuplicateApplicationAdapter duplicateApplicationAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Un envío idéntico dentro de la ventana es duplicado; fuera de ella ya no")
+    void testDuplicateWithinWindow() {
+        // Arrange
+        long affiliateId = randomAffiliateId();
+
+        // Act & Assert
+        assertFalse(submit(affiliateId, AMOUNT));
+        assertTrue(submit(affiliateId, new BigDecimal("5000000.00")));
+        assertFalse(submit(affiliateId, new BigDecimal("6000000")), "Otro monto no es duplicado");
+
+        jdbcTemplate.update("UPDATE credit_application_dedup SET submitted_at = submitted_at - INTERVAL '1 hour' "
+                + "WHERE affiliate_id = ?", affiliateId);
+        assertFalse(submit(affiliateId, AMOUNT));
+    }
+
+    @Test
+    @DisplayName("Un envío concurrente en otra transacción espera a la primera y se detecta como duplicado")
+    void testConcurrentSubmissionWaitsForFirst() throws Exception {
+        // Arrange
+        long affiliateId = randomAffiliateId();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            boolean duplicate = duplicateApplicationAdapter.isDuplicate(affiliateId, AMOUNT, 36);
+            claimed.countDown();
+            await(commit);
+            return duplicate;
+        }));
+        assertTrue(claimed.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> submit(affiliateId, AMOUNT));
+        TimeUnit.MILLISECONDS.sleep(300);
+        boolean secondFinishedEarly = second.isDone();
+        commit.countDown();
+
+        // Assert
+        assertFalse(secondFinishedEarly, "El segundo envío debe esperar el commit del primero");
+        assertFalse(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Una solicitud recordada en esta instancia se detecta sin consultar la base")
+    void testRememberedApplicationAnswersFromMemory() {
+        // Arrange
+        long affiliateId = randomAffiliateId();
+        Affiliate affiliate = new Affiliate();
+        affiliate.setId(affiliateId);
+        CreditApplication application = new CreditApplication(AMOUNT, 36, affiliate);
+        application.setId(42L);
+        duplicateApplicationAdapter.remember(application);
+
+        // Act
+        Counted<Boolean> duplicate = counted(() -> duplicateApplicationAdapter.isDuplicate(affiliateId, AMOUNT, 36));
+        Counted<Long> recent = counted(() ->
+                duplicateApplicationAdapter.findRecent(affiliateId, AMOUNT, 36).orElseThrow());
+
+        // Assert
+        assertTrue(duplicate.result());
+        assertEquals(0, duplicate.statements());
+        assertEquals(42L, recent.result());
+        assertEquals(0, recent.statements());
+    }
+
+    private boolean submit(long affiliateId, BigDecimal amount) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                duplicateApplicationAdapter.isDuplicate(affiliateId, amount, 36));
+    }
+
+    private static long randomAffiliateId() {
+        // La tabla de duplicados no referencia afiliados; un ID aleatorio aísla cada prueba
+        return ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
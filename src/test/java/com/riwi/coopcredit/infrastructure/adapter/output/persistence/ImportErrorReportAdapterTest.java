@@ -0,0 +1,94 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.port.out.ImportErrorReportPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: reportes de filas rechazadas en importaciones")
+class ImportErrorReportAdapterTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ImportErrorReportAdapter reportAdapter;
+
+    @Autowired
+    private ImportErrorCleanupJob cleanupJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("El reporte se guarda en la base y se descarga completo como CSV, en varias páginas")
+    void testReportRoundTrip() throws IOException {
+        // Arrange
+        String importId = UUID.randomUUID().toString();
+        try (ImportErrorReportPort.ErrorReport report = reportAdapter.create(importId)) {
+            report.reject(2, "123\"45", "El formato del email es inválido.");
+            report.reject(3, null, "Falta el documento.");
+            for (long line = 4; line < 2504; line++) {
+                report.reject(line, "D" + line, "Documento duplicado en el archivo.");
+            }
+            assertEquals(2502, report.count());
+        }
+
+        // Act
+        List<String> lines = read(importId).lines().toList();
+
+        // Assert
+        assertEquals(2503, lines.size());
+        assertEquals("linea,documento,motivo", lines.get(0));
+        assertEquals("2,\"123\"\"45\",\"El formato del email es inválido.\"", lines.get(1));
+        assertEquals("3,,\"Falta el documento.\"", lines.get(2));
+        assertEquals("2503,\"D2503\",\"Documento duplicado en el archivo.\"", lines.get(2502));
+    }
+
+    @Test
+    @DisplayName("Sin filas rechazadas o con un ID inválido no hay reporte")
+    void testMissingReport() {
+        String importId = UUID.randomUUID().toString();
+        reportAdapter.create(importId).close();
+
+        assertTrue(reportAdapter.open(importId).isEmpty());
+        assertTrue(reportAdapter.open("../../etc/passwd").isEmpty());
+    }
+
+    @Test
+    @DisplayName("La limpieza borra los reportes vencidos y conserva los recientes")
+    void testCleanupRemovesExpiredReports() {
+        // Arrange
+        String expired = UUID.randomUUID().toString();
+        String recent = UUID.randomUUID().toString();
+        try (ImportErrorReportPort.ErrorReport report = reportAdapter.create(expired)) {
+            report.reject(2, "1", "Documento duplicado en el archivo.");
+        }
+        try (ImportErrorReportPort.ErrorReport report = reportAdapter.create(recent)) {
+            report.reject(2, "1", "Documento duplicado en el archivo.");
+        }
+        jdbcTemplate.update("UPDATE affiliate_import_error SET created_at = LOCALTIMESTAMP - INTERVAL '8 days' "
+                + "WHERE import_id = ?::uuid", expired);
+
+        // Act
+        long deleted = cleanupJob.cleanup();
+
+        // Assert
+        assertTrue(deleted >= 1);
+        assertTrue(reportAdapter.open(expired).isEmpty());
+        assertTrue(reportAdapter.open(recent).isPresent());
+    }
+
+    private String read(String importId) throws IOException {
+        try (InputStream in = reportAdapter.open(importId).orElseThrow()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
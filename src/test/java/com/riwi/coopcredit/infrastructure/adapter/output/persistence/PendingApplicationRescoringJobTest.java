@@ -0,0 +1,136 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.in.CreateApplicationUseCase;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Pruebas de integración: re-puntaje de solicitudes pendientes")
+class PendingApplicationRescoringJobTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PendingApplicationRescoringJob rescoringJob;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreateApplicationUseCase createApplicationUseCase;
+
+    @MockitoBean
+    private RiskExternalPort riskExternalPort;
+
+    @Test
+    @DisplayName("Decide las pendientes que el servicio puntúa y pospone con espera las que fallan")
+    void testRescoreDecidesAndBacksOff() {
+        // Arrange
+        CreditApplication scored = newStalePendingApplication();
+        CreditApplication failing = newStalePendingApplication();
+        when(riskExternalPort.getRiskScore(eq(scored.getAffiliate().getDocument()), anyDouble(), anyInt())).thenReturn(550);
+        when(riskExternalPort.getRiskScore(eq(failing.getAffiliate().getDocument()), anyDouble(), anyInt()))
+                .thenThrow(new DomainException("Error de servicio externo de riesgo. Código: 503"));
+
+        // Act
+        rescoringJob.rescore();
+        rescoringJob.rescore();
+
+        // Assert
+        CreditApplication decided = applicationRepositoryPort.findById(scored.getId()).orElseThrow();
+        assertEquals(ApplicationStatus.APROBADA, decided.getStatus());
+        assertEquals("MEDIO RIESGO", decided.getRiskLevel());
+        assertTrue(decided.isReviewRequired());
+
+        Map<String, Object> postponed = jdbcTemplate.queryForMap(
+                "SELECT status, rescore_attempts, rescore_next_at > LOCALTIMESTAMP AS waiting FROM credit_application WHERE id = ?",
+                failing.getId());
+        assertEquals("PENDIENTE", postponed.get("status"));
+        assertEquals(1, postponed.get("rescore_attempts"), "El segundo recorrido no debe reintentar antes de la espera");
+        assertEquals(true, postponed.get("waiting"));
+    }
+
+    @Test
+    @DisplayName("Una solicitud creada con el servicio de riesgo caído se guarda PENDIENTE y el job la decide")
+    void testCreateWithRiskDownIsRescored() {
+        // Arrange
+        Affiliate affiliate = newAffiliate(3900000.0);
+        when(riskExternalPort.getRiskScore(eq(affiliate.getDocument()), anyDouble(), anyInt()))
+                .thenThrow(new DomainException("Error de servicio externo de riesgo. Código: 503"))
+                .thenReturn(750);
+
+        // Act
+        CreditApplication created = createApplicationUseCase.create(affiliate.getId(), new BigDecimal("1700000"), 12);
+        Map<String, Object> queued = jdbcTemplate.queryForMap(
+                "SELECT status, rescore_attempts, rescore_next_at > LOCALTIMESTAMP AS waiting FROM credit_application WHERE id = ?",
+                created.getId());
+        // Vencen la antigüedad mínima y la espera del primer intento
+        jdbcTemplate.update("""
+                UPDATE credit_application
+                SET application_date = application_date - INTERVAL '1 hour', rescore_next_at = rescore_next_at - INTERVAL '1 hour'
+                WHERE id = ?
+                """, created.getId());
+        rescoringJob.rescore();
+
+        // Assert
+        assertEquals(ApplicationStatus.PENDIENTE, created.getStatus());
+        assertEquals("PENDIENTE", queued.get("status"));
+        assertEquals(1, queued.get("rescore_attempts"));
+        assertEquals(true, queued.get("waiting"));
+        CreditApplication decided = applicationRepositoryPort.findById(created.getId()).orElseThrow();
+        assertEquals(ApplicationStatus.APROBADA, decided.getStatus());
+        assertEquals("BAJO RIESGO", decided.getRiskLevel());
+    }
+
+    @Test
+    @DisplayName("Dos pendientes del mismo afiliado en una página no pasan juntas el límite de exposición")
+    void testRescoreAccumulatesExposureWithinPage() {
+        // Arrange: cada una cabe sola en 2 veces el ingreso (96.000.000), las dos juntas no
+        Affiliate affiliate = newAffiliate(48000000.0);
+        CreditApplication first = newStalePendingApplication(affiliate, "60000000", 120);
+        CreditApplication second = newStalePendingApplication(affiliate, "61000000", 120);
+        when(riskExternalPort.getRiskScore(eq(affiliate.getDocument()), anyDouble(), anyInt())).thenReturn(750);
+
+        // Act
+        rescoringJob.rescore();
+
+        // Assert: la primera de la página se aprueba y la segunda se decide contra esa aprobación
+        assertEquals(ApplicationStatus.APROBADA, applicationRepositoryPort.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals(ApplicationStatus.RECHAZADA, applicationRepositoryPort.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals(0, new BigDecimal("60000000").compareTo(jdbcTemplate.queryForObject(
+                "SELECT approved_amount FROM affiliate_exposure WHERE affiliate_id = ?", BigDecimal.class,
+                affiliate.getId())));
+    }
+
+    private CreditApplication newStalePendingApplication() {
+        return newStalePendingApplication(newAffiliate(3900000.0), "1800000", 12);
+    }
+
+    private CreditApplication newStalePendingApplication(Affiliate affiliate, String amount, int term) {
+        CreditApplication application = applicationRepositoryPort.save(
+                new CreditApplication(new BigDecimal(amount), term, affiliate));
+        jdbcTemplate.update("UPDATE credit_application SET application_date = application_date - INTERVAL '1 hour' WHERE id = ?",
+                application.getId());
+        application.setAffiliate(affiliate);
+        return application;
+    }
+}
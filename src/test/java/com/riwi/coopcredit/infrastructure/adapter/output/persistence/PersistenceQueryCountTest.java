@@ -0,0 +1,183 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.port.in.CreateApplicationUseCase;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.RiskExternalPort;
+import com.riwi.coopcredit.infrastructure.adapter.input.auth.AuthenticationService;
+import com.riwi.coopcredit.infrastructure.adapter.input.auth.dto.RegisterRequest;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Presupuestos de sentencias SQL por operación. Si un cambio en los adaptadores o mappers
+ * introduce consultas adicionales (p. ej. un N+1), estas pruebas fallan.
+ */
+@DisplayName("Pruebas de integración: sentencias SQL por operación de persistencia")
+class PersistenceQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepositoryPort;
+
+    @Autowired
+    private AffiliatePersistenceAdapter affiliatePersistenceAdapter;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Autowired
+    private CreateApplicationUseCase createApplicationUseCase;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private CreditApplicationArchiveJob archiveJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private RiskExternalPort riskExternalPort;
+
+    @Test
+    @DisplayName("Crear una solicitud emite como máximo 7 sentencias")
+    void testCreateApplicationStatementBudget() {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt())).thenReturn(750);
+
+        // Act
+        Counted<CreditApplication> created = counted(() ->
+                createApplicationUseCase.create(affiliate.getId(), new BigDecimal("5000000"), 36));
+
+        // Assert
+        assertEquals(ApplicationStatus.APROBADA, created.result().getStatus());
+        assertEquals(affiliate.getId(), created.result().getAffiliate().getId());
+        // Incluye la lectura de la exposición del afiliado por llave primaria y su incremento al aprobar
+        assertTrue(created.statements() <= 7,
+                "Crear una solicitud emitió " + created.statements() + " sentencias (máximo 7)");
+    }
+
+    @Test
+    @DisplayName("Listar afiliados emite un número constante de sentencias (sin N+1)")
+    void testListAffiliatesIsConstantQueries() {
+        // Arrange
+        Affiliate withApplications = newAffiliate();
+        when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt())).thenReturn(600);
+        createApplicationUseCase.create(withApplications.getId(), new BigDecimal("1000000"), 12);
+        int before = statementsFor(() -> affiliateRepositoryPort.findAll());
+
+        for (int i = 0; i < 10; i++) {
+            newAffiliate();
+        }
+
+        // Act
+        Counted<List<Affiliate>> listed = counted(() -> affiliateRepositoryPort.findAll());
+
+        // Assert
+        assertTrue(listed.result().size() >= 11);
+        assertEquals(before, listed.statements(), "El número de sentencias no debe crecer con los afiliados");
+        assertEquals(1, listed.statements());
+    }
+
+    @Test
+    @DisplayName("Buscar afiliado y solicitud por ID emite una sola sentencia")
+    void testFindByIdSingleStatement() {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt())).thenReturn(400);
+        CreditApplication application = createApplicationUseCase.create(affiliate.getId(), new BigDecimal("2000000"), 24);
+
+        // Act & Assert
+        assertEquals(1, statementsFor(() -> affiliatePersistenceAdapter.findById(affiliate.getId())));
+        assertEquals(1, statementsFor(() -> applicationRepositoryPort.findById(application.getId())));
+    }
+
+    @Test
+    @DisplayName("El afiliado en cache no consulta la base y se invalida al guardarlo")
+    void testCachedAffiliateLookup() {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        affiliateRepositoryPort.findById(affiliate.getId());
+
+        // Act
+        Counted<Optional<Affiliate>> cached = counted(() -> affiliateRepositoryPort.findById(affiliate.getId()));
+        affiliate.setFirstName("Juana");
+        affiliateRepositoryPort.save(affiliate);
+        Counted<Optional<Affiliate>> reloaded = counted(() -> affiliateRepositoryPort.findById(affiliate.getId()));
+        affiliateRepositoryPort.findById(-1L);
+        Counted<Optional<Affiliate>> missing = counted(() -> affiliateRepositoryPort.findById(-1L));
+
+        // Assert
+        assertEquals(0, cached.statements());
+        assertEquals(1, reloaded.statements());
+        assertEquals("Juana", reloaded.result().orElseThrow().getFirstName());
+        assertEquals(1, missing.statements(), "Un afiliado inexistente no debe quedar en cache");
+    }
+
+    @Test
+    @DisplayName("Una solicitud archivada se sigue encontrando por ID con una consulta adicional")
+    void testFindByIdFallsBackToArchive() {
+        // Arrange
+        Affiliate affiliate = newAffiliate();
+        when(riskExternalPort.getRiskScore(anyString(), anyDouble(), anyInt())).thenReturn(750);
+        CreditApplication application = createApplicationUseCase.create(affiliate.getId(), new BigDecimal("3000000"), 12);
+        // Afiliado recién registrado: la tabla de decisión lo deja en revisión y solo se archiva lo ya revisado
+        jdbcTemplate.update("UPDATE credit_application SET application_date = application_date - INTERVAL '3 years', "
+                + "review_required = false WHERE id = ?", application.getId());
+        jdbcTemplate.update("INSERT INTO risk_evaluation (application_id, score, risk_level) VALUES (?, 750, 'BAJO RIESGO')",
+                application.getId());
+
+        // Act
+        long archived = archiveJob.archive();
+        Counted<Optional<CreditApplication>> found = counted(() -> applicationRepositoryPort.findById(application.getId()));
+
+        // Assert
+        assertTrue(archived >= 1);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM credit_application WHERE id = ?",
+                Integer.class, application.getId()));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM risk_evaluation_archive WHERE application_id = ?",
+                Integer.class, application.getId()));
+        assertTrue(found.result().isPresent());
+        assertEquals(ApplicationStatus.APROBADA, found.result().get().getStatus());
+        assertEquals(2, found.statements());
+    }
+
+    @Test
+    @DisplayName("Registrar un usuario afiliado emite como máximo 7 sentencias")
+    void testRegisterStatementBudget() {
+        // Arrange
+        long n = nextSuffix();
+        RegisterRequest request = RegisterRequest.builder()
+                .username("Usuario Prueba")
+                .document("R" + n)
+                .email("registro" + n + "@example.com")
+                .password("SecurePassword123")
+                .annualIncome(new BigDecimal("3500000.00"))
+                .build();
+
+        // Act
+        int statements = statementsFor(() -> authenticationService.register(request));
+
+        // Assert
+        assertTrue(statements <= 7, "Registrar emitió " + statements + " sentencias (máximo 7)");
+    }
+}
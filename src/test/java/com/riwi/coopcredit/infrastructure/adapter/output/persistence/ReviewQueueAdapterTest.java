@@ -0,0 +1,146 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.ApplicationStatusChange;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.ReviewBatch;
+import com.riwi.coopcredit.domain.model.ReviewItem;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.domain.port.out.ReviewQueuePort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: cola de revisión de analistas")
+class ReviewQueueAdapterTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReviewQueuePort reviewQueuePort;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void emptyQueue() {
+        // Las solicitudes accionables de otras pruebas saldrían primero en la cola
+        jdbcTemplate.update("UPDATE credit_application SET status = 'RECHAZADA', review_required = FALSE "
+                + "WHERE status = 'PENDIENTE' OR review_required");
+    }
+
+    @Test
+    @DisplayName("Revisores concurrentes reclaman lotes disjuntos")
+    void testConcurrentClaimsAreDisjoint() throws Exception {
+        // Arrange
+        for (int i = 0; i < 12; i++) {
+            newPendingApplication();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<ReviewBatch>> claims;
+        try {
+            List<Callable<ReviewBatch>> reviewers = List.of(1, 2, 3, 4).stream()
+                    .<Callable<ReviewBatch>>map(n -> () -> {
+                        start.await();
+                        return reviewQueuePort.claim("analista" + n, 5);
+                    })
+                    .toList();
+            claims = reviewers.stream().map(executor::submit).toList();
+            start.countDown();
+            for (Future<ReviewBatch> claim : claims) {
+                claim.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert: las 12 solicitudes se reparten sin repetirse
+        Set<Long> claimed = new HashSet<>();
+        int total = 0;
+        for (Future<ReviewBatch> claim : claims) {
+            for (CreditApplication application : claim.get().applications()) {
+                claimed.add(application.getId());
+                total++;
+            }
+        }
+        assertEquals(12, total);
+        assertEquals(12, claimed.size());
+        assertTrue(reviewQueuePort.claim("analista5", 5).applications().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Solo el revisor con el reclamo vigente y la versión recibida puede decidir")
+    void testDecideRequiresClaimAndVersion() {
+        // Arrange
+        CreditApplication first = newPendingApplication();
+        CreditApplication second = newPendingApplication();
+        ReviewBatch batch = reviewQueuePort.claim("analista1", 10);
+        CreditApplication claimedFirst = find(batch, first.getId());
+        CreditApplication claimedSecond = find(batch, second.getId());
+
+        // Act
+        List<ApplicationStatusChange> byOther = reviewQueuePort.decide("analista2", ApplicationStatus.APROBADA,
+                List.of(new ReviewItem(first.getId(), claimedFirst.getVersion())));
+        List<ApplicationStatusChange> decided = reviewQueuePort.decide("analista1", ApplicationStatus.RECHAZADA, List.of(
+                new ReviewItem(first.getId(), claimedFirst.getVersion()),
+                new ReviewItem(second.getId(), claimedSecond.getVersion() - 1)));
+
+        // Assert
+        assertTrue(byOther.isEmpty());
+        assertEquals(1, decided.size());
+        assertEquals(ApplicationStatus.PENDIENTE, decided.get(0).previousStatus());
+        assertEquals(ApplicationStatus.RECHAZADA, decided.get(0).status());
+        assertEquals(ApplicationStatus.RECHAZADA, applicationRepositoryPort.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals(ApplicationStatus.PENDIENTE, applicationRepositoryPort.findById(second.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Un reclamo vencido vuelve a la cola para otro revisor")
+    void testExpiredLeaseIsReclaimed() {
+        // Arrange
+        CreditApplication application = newPendingApplication();
+        reviewQueuePort.claim("analista1", 10);
+        jdbcTemplate.update("UPDATE credit_application SET review_lease_until = LOCALTIMESTAMP - INTERVAL '1 second' WHERE id = ?",
+                application.getId());
+
+        // Act
+        ReviewBatch reclaimed = reviewQueuePort.claim("analista2", 10);
+
+        // Assert
+        assertNotNull(find(reclaimed, application.getId()));
+        assertTrue(reviewQueuePort.decide("analista1", ApplicationStatus.APROBADA,
+                List.of(new ReviewItem(application.getId(), find(reclaimed, application.getId()).getVersion()))).isEmpty());
+    }
+
+    private CreditApplication newPendingApplication() {
+        Affiliate affiliate = newAffiliate(4100000.0);
+        return applicationRepositoryPort.save(new CreditApplication(new BigDecimal("2500000"), 24, affiliate));
+    }
+
+    private static CreditApplication find(ReviewBatch batch, Long applicationId) {
+        return batch.applications().stream()
+                .filter(application -> application.getId().equals(applicationId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
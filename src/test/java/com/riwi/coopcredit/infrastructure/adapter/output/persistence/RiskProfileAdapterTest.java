@@ -0,0 +1,54 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.persistence;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.model.ApplicationStatus;
+import com.riwi.coopcredit.domain.model.CreditApplication;
+import com.riwi.coopcredit.domain.model.RiskProfile;
+import com.riwi.coopcredit.domain.port.out.CreditApplicationRepositoryPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: perfil de riesgo para el puntaje local")
+class RiskProfileAdapterTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private RiskProfileAdapter riskProfileAdapter;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepositoryPort;
+
+    @Test
+    @DisplayName("Cuenta las solicitudes aprobadas y rechazadas y responde desde la cache después")
+    void testProfileCountsHistoryAndIsCached() {
+        // Arrange
+        Affiliate affiliate = newAffiliate(48000000.0);
+        newApplication(affiliate, ApplicationStatus.APROBADA);
+        newApplication(affiliate, ApplicationStatus.APROBADA);
+        newApplication(affiliate, ApplicationStatus.RECHAZADA);
+        newApplication(affiliate, ApplicationStatus.PENDIENTE);
+
+        // Act
+        Counted<Optional<RiskProfile>> first = counted(() -> riskProfileAdapter.findByDocument(affiliate.getDocument()));
+        Counted<Optional<RiskProfile>> second = counted(() -> riskProfileAdapter.findByDocument(affiliate.getDocument()));
+
+        // Assert
+        assertEquals(new RiskProfile(48000000.0, 2, 1), first.result().orElseThrow());
+        assertEquals(1, first.statements());
+        assertSame(first.result(), second.result());
+        assertEquals(0, second.statements());
+        assertTrue(riskProfileAdapter.findByDocument("NO-EXISTE-" + nextSuffix()).isEmpty());
+    }
+
+    private void newApplication(Affiliate affiliate, ApplicationStatus status) {
+        CreditApplication application = new CreditApplication(new BigDecimal("1000000"), 12, affiliate);
+        application.setStatus(status);
+        applicationRepositoryPort.save(application);
+    }
+}
@@ -0,0 +1,77 @@
+package com.riwi.coopcredit.infrastructure.adapter.output.scoring;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.infrastructure.adapter.output.external.RiskExternalAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pruebas unitarias: selección del origen del puntaje de riesgo")
+class RoutingRiskScoringAdapterTest {
+
+    @Mock
+    private RiskExternalAdapter remote;
+
+    @Mock
+    private LocalRiskScoringAdapter local;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("En modo escalonado un puntaje local claro no consulta el servicio externo")
+    void testTieredUsesClearLocalScores() {
+        // Arrange
+        RoutingRiskScoringAdapter adapter = adapter(RoutingRiskScoringAdapter.Mode.TIERED);
+        when(local.getRiskScore("alto", 5_000_000.0, 36)).thenReturn(820);
+        when(local.getRiskScore("bajo", 5_000_000.0, 36)).thenReturn(350);
+
+        // Act & Assert
+        assertEquals(820, adapter.getRiskScore("alto", 5_000_000.0, 36));
+        assertEquals(350, adapter.getRiskScore("bajo", 5_000_000.0, 36));
+        verifyNoInteractions(remote);
+        assertEquals(2.0, meterRegistry.counter("coopcredit.risk.scores", "source", "local").count());
+    }
+
+    @Test
+    @DisplayName("En modo escalonado los casos intermedios y sin perfil local se consultan afuera")
+    void testTieredFallsBackToRemote() {
+        // Arrange
+        RoutingRiskScoringAdapter adapter = adapter(RoutingRiskScoringAdapter.Mode.TIERED);
+        when(local.getRiskScore("medio", 5_000_000.0, 36)).thenReturn(600);
+        when(local.getRiskScore("nuevo", 5_000_000.0, 36)).thenThrow(new DomainException("Sin perfil"));
+        when(remote.getRiskScore(any(), any(), any())).thenReturn(640);
+
+        // Act & Assert
+        assertEquals(640, adapter.getRiskScore("medio", 5_000_000.0, 36));
+        assertEquals(640, adapter.getRiskScore("nuevo", 5_000_000.0, 36));
+        verify(remote, times(2)).getRiskScore(any(), any(), any());
+        assertEquals(2.0, meterRegistry.counter("coopcredit.risk.scores", "source", "remote").count());
+    }
+
+    @Test
+    @DisplayName("Los modos remoto y local usan solo su origen")
+    void testSingleSourceModes() {
+        // Arrange
+        when(remote.getRiskScore("doc", 1_000_000.0, 12)).thenReturn(710);
+        when(local.getRiskScore("doc", 1_000_000.0, 12)).thenReturn(590);
+
+        // Act & Assert
+        assertEquals(710, adapter(RoutingRiskScoringAdapter.Mode.REMOTE).getRiskScore("doc", 1_000_000.0, 12));
+        assertEquals(590, adapter(RoutingRiskScoringAdapter.Mode.LOCAL).getRiskScore("doc", 1_000_000.0, 12));
+        verify(remote, times(1)).getRiskScore(any(), any(), any());
+        verify(local, times(1)).getRiskScore(any(), any(), any());
+    }
+
+    private RoutingRiskScoringAdapter adapter(RoutingRiskScoringAdapter.Mode mode) {
+        return new RoutingRiskScoringAdapter(remote, local, meterRegistry, mode, 780, 420);
+    }
+}
@@ -0,0 +1,84 @@
+package com.riwi.coopcredit.infrastructure.cache;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: invalidación de caches entre instancias")
+class CacheInvalidationBusTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Test
+    @DisplayName("Un aviso de otra instancia descarta el afiliado de la cache local")
+    void testRemoteNotificationEvictsAffiliate() throws InterruptedException {
+        // Arrange
+        Affiliate affiliate = newAffiliate(4200000.0);
+        affiliateRepositoryPort.findById(affiliate.getId());
+        assertEquals(0, statementsFor(() -> affiliateRepositoryPort.findById(affiliate.getId())));
+
+        // Act: otra instancia cambió el afiliado y publicó la llave
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CacheInvalidationBus.CHANNEL,
+                "otro-nodo:affiliates:id:" + affiliate.getId());
+
+        // Assert: la siguiente lectura vuelve a la base
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        int statements = 0;
+        while (statements == 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+            statements = statementsFor(() -> affiliateRepositoryPort.findById(affiliate.getId()));
+        }
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("Una cache que falla al vaciarse no detiene al hilo de escucha ni a las demás caches")
+    void testFailingSubscriberDoesNotStopListener() throws InterruptedException {
+        // Arrange
+        cacheInvalidationBus.subscribe("falla-" + nextSuffix(), key -> {
+        }, () -> {
+            throw new IllegalStateException("cache no disponible");
+        });
+        Affiliate affiliate = newAffiliate(4200000.0);
+        affiliateRepositoryPort.findById(affiliate.getId());
+
+        // Act: se corta la conexión de escucha; al reconectar se vacían todas las caches
+        jdbcTemplate.queryForList("""
+                SELECT pg_terminate_backend(pid) FROM pg_stat_activity
+                WHERE datname = current_database() AND query = 'LISTEN ' || ? AND pid <> pg_backend_pid()
+                """, CacheInvalidationBus.CHANNEL);
+
+        // Assert: la cache de afiliados se vació pese a la otra y los avisos siguen llegando
+        assertTrue(reloadsWithin(affiliate, 10));
+        affiliateRepositoryPort.findById(affiliate.getId());
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CacheInvalidationBus.CHANNEL,
+                "otro-nodo:affiliates:id:" + affiliate.getId());
+        assertTrue(reloadsWithin(affiliate, 5));
+    }
+
+    private boolean reloadsWithin(Affiliate affiliate, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+            if (statementsFor(() -> affiliateRepositoryPort.findById(affiliate.getId())) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
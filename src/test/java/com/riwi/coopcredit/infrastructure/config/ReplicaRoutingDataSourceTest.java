@@ -0,0 +1,169 @@
+package com.riwi.coopcredit.infrastructure.config;
+
+import com.riwi.coopcredit.support.TestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pruebas unitarias para ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Las transacciones de solo lectura usan la réplica al día y las demás el primario")
+    void testReadOnlyConnectionsGoToReplica() throws SQLException {
+        // Arrange
+        Connection primaryConnection = mock(Connection.class);
+        Connection replicaConnection = replicaReporting(true, false, 0);
+        DataSource primary = dataSource(primaryConnection);
+        DataSource replica = dataSource(replicaConnection);
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, List.of(replica), 5, meterRegistry);
+        readOnly.checkLag();
+        ReadReplicaConfig.ReadWriteDataSource dataSource = new ReadReplicaConfig.ReadWriteDataSource(primary, readOnly);
+
+        // Act: el proxy pide la conexión real en la primera sentencia
+        try (Connection reading = dataSource.getConnection()) {
+            reading.setReadOnly(true);
+            reading.createStatement();
+        }
+        try (Connection writing = dataSource.getConnection()) {
+            writing.createStatement();
+        }
+
+        // Assert
+        verify(replicaConnection, times(2)).createStatement(); // Chequeo de retraso y lectura
+        verify(primaryConnection).createStatement();
+        assertEquals(0, fallbacks());
+    }
+
+    @Test
+    @DisplayName("Una réplica que no responde o va atrasada se omite y la lectura pasa al primario")
+    void testUnhealthyOrLaggingReplicaFallsBackToPrimary() throws SQLException {
+        // Arrange: la primera réplica no acepta conexiones y la segunda lleva 30 s sin aplicar WAL
+        Connection primaryConnection = mock(Connection.class);
+        DataSource primary = dataSource(primaryConnection);
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        DataSource lagging = dataSource(replicaReporting(true, false, 30));
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, List.of(down, lagging), 5,
+                meterRegistry);
+
+        // Act
+        Connection beforeFirstCheck = readOnly.getConnection();
+        readOnly.checkLag();
+        Connection afterCheck = readOnly.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, beforeFirstCheck);
+        assertSame(primaryConnection, afterCheck);
+        verify(down, times(1)).getConnection(); // Solo el chequeo; la lectura ya no la intenta
+        assertEquals(2, fallbacks());
+        assertEquals(0, meterRegistry.get("coopcredit.datasource.replica.available").gauges().stream()
+                .mapToDouble(gauge -> gauge.value()).sum());
+    }
+
+    @Test
+    @DisplayName("Si la réplica falla al pedir la conexión se excluye hasta el próximo chequeo")
+    void testConnectionFailureMarksReplicaUnavailable() throws SQLException {
+        // Arrange
+        Connection primaryConnection = mock(Connection.class);
+        DataSource replica = dataSource(replicaReporting(true, true, 0));
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(replica), 5, meterRegistry);
+        readOnly.checkLag();
+        when(replica.getConnection()).thenThrow(new SQLException("Connection reset"));
+
+        // Act
+        Connection first = readOnly.getConnection();
+        Connection second = readOnly.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, first);
+        assertSame(primaryConnection, second);
+        verify(replica, times(2)).getConnection(); // Chequeo y primer intento
+    }
+
+    @Test
+    @DisplayName("No acepta credenciales distintas a las del pool")
+    void testCredentialsAreNotSupported() {
+        // Arrange
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(mock(DataSource.class), List.of(), 5,
+                meterRegistry);
+
+        // Act & Assert
+        assertThrows(SQLFeatureNotSupportedException.class, () -> readOnly.getConnection("otro", "secreto"));
+    }
+
+    @Test
+    @DisplayName("El retraso no supera el tiempo desde que la réplica se vio al día")
+    void testReplicaLag() {
+        // Arrange
+        ReplicaRoutingDataSource.Replica replica = new ReplicaRoutingDataSource.Replica(mock(DataSource.class));
+        long start = 1_000_000_000L;
+
+        // Act & Assert: sin haberse visto al día manda la antigüedad de la última transacción aplicada
+        assertEquals(120, replica.lag(false, 120, false, start));
+        assertEquals(Double.POSITIVE_INFINITY, replica.lag(false, 0, true, start));
+        // Al día: sin retraso
+        assertEquals(0, replica.lag(true, 600, false, start));
+        // El primario escribió tras estar inactivo: la antigüedad de 600 s exagera; van 2 s desde el último al día
+        assertEquals(2, replica.lag(false, 600, false, start + 2_000_000_000L));
+        assertEquals(0.5, replica.lag(false, 0.5, false, start + 2_000_000_000L));
+    }
+
+    @Test
+    @EnabledIf("com.riwi.coopcredit.support.TestDatabase#available")
+    @DisplayName("Sin receptor de WAL la consulta de retraso no declara la réplica al día")
+    void testLagQueryWithoutWalReceiver() throws SQLException {
+        // Arrange & Act: la base de pruebas no replica de nadie, igual que una réplica que perdió su origen
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.username(),
+                TestDatabase.password());
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)) {
+
+            // Assert: ambas posiciones son NULL (sin distinción), pero no hay receptor conectado
+            assertTrue(rs.next());
+            assertFalse(rs.getBoolean(2));
+        }
+    }
+
+    private double fallbacks() {
+        return meterRegistry.counter("coopcredit.datasource.replica.fallback").count();
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    // Conexión cuya consulta de retraso devuelve (en recuperación, al día, segundos desde la última transacción)
+    private static Connection replicaReporting(boolean inRecovery, boolean caughtUp, double replayAgeSeconds)
+            throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(inRecovery);
+        when(rs.getBoolean(2)).thenReturn(caughtUp);
+        when(rs.getDouble(3)).thenReturn(replayAgeSeconds);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        return connection;
+    }
+}
@@ -0,0 +1,210 @@
+package com.riwi.coopcredit.infrastructure.idempotency;
+
+import com.riwi.coopcredit.domain.exception.DomainException;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationRequest;
+import com.riwi.coopcredit.infrastructure.adapter.input.dto.ApplicationResponse;
+import com.riwi.coopcredit.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas de integración: llaves de idempotencia")
+class IdempotentRequestExecutorTest extends PostgresIntegrationTest {
+
+    private static final String OPERATION = "POST /api/v1/applications";
+
+    @Autowired
+    private IdempotentRequestExecutor executor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("El reintento con la misma llave recibe la respuesta guardada sin ejecutar de nuevo")
+    void testRetryReplaysStoredResponse() {
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        ResponseEntity<ApplicationResponse> first = execute(owner, "key-1", request(36), created(executions));
+        ResponseEntity<ApplicationResponse> retry = execute(owner, "key-1", request(36), created(executions));
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(first.getBody(), retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotentRequestExecutor.REPLAYED_HEADER));
+        assertNull(first.getHeaders().getFirst(IdempotentRequestExecutor.REPLAYED_HEADER));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM idempotency_key WHERE owner = ? AND response_status = 201", Integer.class, owner));
+    }
+
+    @Test
+    @DisplayName("La consulta previa solo repite llaves con respuesta guardada y valida el cuerpo")
+    void testFindReplayOnlyForCompletedKeys() {
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        Optional<ResponseEntity<ApplicationResponse>> before = findReplay(owner, "key-1", request(36));
+        ResponseEntity<ApplicationResponse> first = execute(owner, "key-1", request(36), created(executions));
+        Optional<ResponseEntity<ApplicationResponse>> after = findReplay(owner, "key-1", request(36));
+
+        // Assert
+        assertTrue(before.isEmpty());
+        assertTrue(after.isPresent());
+        assertEquals(first.getBody(), after.get().getBody());
+        assertEquals("true", after.get().getHeaders().getFirst(IdempotentRequestExecutor.REPLAYED_HEADER));
+        assertThrows(DomainException.class, () -> findReplay(owner, "key-1", request(48)));
+        assertTrue(findReplay(UUID.randomUUID().toString(), "key-1", request(36)).isEmpty());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Reutilizar la llave con otro cuerpo se rechaza; otro usuario puede usar la misma llave")
+    void testKeyReusedWithDifferentRequest() {
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        execute(owner, "key-1", request(36), created(executions));
+
+        // Act & Assert
+        DomainException exception = assertThrows(DomainException.class,
+                () -> execute(owner, "key-1", request(48), created(executions)));
+        assertTrue(exception.getMessage().contains("petición diferente"));
+
+        execute(UUID.randomUUID().toString(), "key-1", request(48), created(executions));
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Un duplicado concurrente espera la primera ejecución y recibe su respuesta")
+    void testConcurrentDuplicateWaitsForFirstExecution() throws Exception {
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<ApplicationResponse>> slow = () -> {
+            started.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return created(executions).get();
+        };
+
+        // Act
+        CompletableFuture<ResponseEntity<ApplicationResponse>> first =
+                CompletableFuture.supplyAsync(() -> execute(owner, "key-1", request(36), slow));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<ApplicationResponse>> duplicate =
+                CompletableFuture.supplyAsync(() -> execute(owner, "key-1", request(36), created(executions)));
+        release.countDown();
+
+        // Assert
+        assertEquals(first.get(5, TimeUnit.SECONDS).getBody(), duplicate.get(5, TimeUnit.SECONDS).getBody());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Si la ejecución falla la llave no queda registrada y el reintento se ejecuta")
+    void testFailedExecutionReleasesKey() {
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        assertThrows(DomainException.class, () -> execute(owner, "key-1", request(36), () -> {
+            throw new DomainException("Afiliado con ID 1 no encontrado.");
+        }));
+        ResponseEntity<ApplicationResponse> retry = execute(owner, "key-1", request(36), created(executions));
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertNull(retry.getHeaders().getFirst(IdempotentRequestExecutor.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Si la ejecución en curso falla, el duplicado que esperaba se ejecuta en lugar de recibir el error")
+    void testConcurrentDuplicateRetriesAfterFailure() throws Exception {
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<ApplicationResponse>> failing = () -> {
+            started.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new DomainException("Error de servicio externo de riesgo. Código: 503");
+        };
+
+        // Act
+        CompletableFuture<ResponseEntity<ApplicationResponse>> first =
+                CompletableFuture.supplyAsync(() -> execute(owner, "key-1", request(36), failing));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<ApplicationResponse>> duplicate =
+                CompletableFuture.supplyAsync(() -> execute(owner, "key-1", request(36), created(executions)));
+        // El duplicado alcanza a quedar esperando antes de que la primera falle
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        // Assert: la misma regla que un duplicado en otra instancia, que encuentra la llave libre tras el rollback
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DomainException.class, failure.getCause());
+        ResponseEntity<ApplicationResponse> retried = duplicate.get(5, TimeUnit.SECONDS);
+        assertEquals(HttpStatus.CREATED, retried.getStatusCode());
+        assertNull(retried.getHeaders().getFirst(IdempotentRequestExecutor.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM idempotency_key WHERE owner = ? AND response_status = 201", Integer.class, owner));
+    }
+
+    private ResponseEntity<ApplicationResponse> execute(String owner, String key, ApplicationRequest request,
+                                                        Supplier<ResponseEntity<ApplicationResponse>> action) {
+        return executor.execute(owner, key, OPERATION, request, ApplicationResponse.class, action);
+    }
+
+    private Optional<ResponseEntity<ApplicationResponse>> findReplay(String owner, String key, ApplicationRequest request) {
+        return executor.findReplay(owner, key, OPERATION, request, ApplicationResponse.class);
+    }
+
+    private static Supplier<ResponseEntity<ApplicationResponse>> created(AtomicInteger executions) {
+        return () -> ResponseEntity.status(HttpStatus.CREATED).body(ApplicationResponse.builder()
+                .id((long) executions.incrementAndGet())
+                .requestedAmount(new BigDecimal("5000000"))
+                .status("APROBADA")
+                .build());
+    }
+
+    private static ApplicationRequest request(int termMonths) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setAffiliateId(1L);
+        request.setRequestedAmount(new BigDecimal("5000000"));
+        request.setTermMonths(termMonths);
+        return request;
+    }
+}
@@ -0,0 +1,55 @@
+package com.riwi.coopcredit.infrastructure.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para SqlShapes")
+class SqlShapesTest {
+
+    @Test
+    @DisplayName("Debe reemplazar literales de texto y numéricos por '?'")
+    void testNormalizeReplacesLiterals() {
+        String shape = SqlShapes.normalize(
+                "select * from affiliate where document = '1017654311' and annual_income > 3500000.50");
+
+        assertEquals("select * from affiliate where document = ? and annual_income > ?", shape);
+    }
+
+    @Test
+    @DisplayName("Debe conservar los alias numéricos generados por Hibernate")
+    void testNormalizeKeepsHibernateAliases() {
+        String shape = SqlShapes.normalize("select a1_0.id from affiliate a1_0 where a1_0.id=?");
+
+        assertEquals("select a1_0.id from affiliate a1_0 where a1_0.id=?", shape);
+    }
+
+    @Test
+    @DisplayName("Debe colapsar listas IN y VALUES de distinto tamaño en la misma forma")
+    void testNormalizeCollapsesLists() {
+        String in3 = SqlShapes.normalize("select * from credit_application where id in (?, ?, ?)");
+        String in1 = SqlShapes.normalize("select * from credit_application where id in (?)");
+        String values = SqlShapes.normalize("insert into role (name) values (?), (?), (?)");
+
+        assertEquals(in1, in3);
+        assertEquals("insert into role (name) values (?)", values);
+    }
+
+    @Test
+    @DisplayName("Debe compactar espacios y saltos de línea")
+    void testNormalizeCollapsesWhitespace() {
+        String shape = SqlShapes.normalize("  select id\n    from   role\n where name = ?  ");
+
+        assertEquals("select id from role where name = ?", shape);
+    }
+
+    @Test
+    @DisplayName("Debe clasificar la operación de la sentencia")
+    void testOperation() {
+        assertEquals("select", SqlShapes.operation("select id from role"));
+        assertEquals("select", SqlShapes.operation("with t as (select 1) select * from t"));
+        assertEquals("insert", SqlShapes.operation("INSERT into role values (?)"));
+        assertEquals("other", SqlShapes.operation("set application_name = ?"));
+    }
+}
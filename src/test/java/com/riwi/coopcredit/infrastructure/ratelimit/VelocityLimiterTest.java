@@ -0,0 +1,131 @@
+package com.riwi.coopcredit.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias: límites de velocidad de solicitudes")
+class VelocityLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("Cada afiliado tiene su propio límite dentro de la ventana")
+    void testLimitPerAffiliate() {
+        // Arrange
+        VelocityLimiter limiter = limiter(3, 0, 0);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(1L, "user", "10.0.0.1").isEmpty());
+        }
+        Optional<VelocityLimiter.Rejection> rejection = limiter.tryAcquire(1L, "user", "10.0.0.1");
+
+        // Assert
+        assertTrue(rejection.isPresent());
+        assertEquals("affiliate", rejection.get().rule());
+        assertTrue(rejection.get().retryAfter().compareTo(Duration.ZERO) > 0);
+        assertTrue(rejection.get().retryAfter().compareTo(WINDOW) <= 0);
+        assertTrue(limiter.tryAcquire(2L, "user", "10.0.0.1").isEmpty(), "Otro afiliado no se ve afectado");
+        assertEquals(1.0, meterRegistry.counter("coopcredit.velocity.rejected", "rule", "affiliate").count());
+    }
+
+    @Test
+    @DisplayName("La ventana se desliza: los intentos antiguos dejan de contar")
+    void testWindowSlides() {
+        // Arrange
+        VelocityLimiter limiter = limiter(2, 0, 0);
+        limiter.tryAcquire(1L, "user", "10.0.0.1");
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        limiter.tryAcquire(1L, "user", "10.0.0.1");
+        Duration retryAfter = limiter.tryAcquire(1L, "user", "10.0.0.1").orElseThrow().retryAfter();
+
+        // Act & Assert
+        now.addAndGet(retryAfter.toMillis());
+        assertTrue(limiter.tryAcquire(1L, "user", "10.0.0.1").isEmpty(),
+                "Tras Retry-After los intentos anteriores ya salieron de la ventana");
+
+        now.addAndGet(WINDOW.toMillis());
+        assertTrue(limiter.tryAcquire(1L, "user", "10.0.0.1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Las reglas por usuario e IP aplican aunque el afiliado cambie")
+    void testUserAndClientIpRules() {
+        // Arrange
+        VelocityLimiter limiter = limiter(0, 2, 3);
+
+        // Act
+        assertTrue(limiter.tryAcquire(1L, "ana", "10.0.0.1").isEmpty());
+        assertTrue(limiter.tryAcquire(2L, "ana", "10.0.0.1").isEmpty());
+        Optional<VelocityLimiter.Rejection> byUser = limiter.tryAcquire(3L, "ana", "10.0.0.1");
+        assertTrue(limiter.tryAcquire(4L, "luis", "10.0.0.1").isEmpty());
+        Optional<VelocityLimiter.Rejection> byIp = limiter.tryAcquire(5L, "eva", "10.0.0.1");
+
+        // Assert
+        assertEquals("user", byUser.orElseThrow().rule());
+        assertEquals("client-ip", byIp.orElseThrow().rule());
+    }
+
+    @Test
+    @DisplayName("Con intentos concurrentes pasan exactamente tantos como el límite")
+    void testConcurrentAttemptsAdmitExactlyLimit() throws Exception {
+        // Arrange
+        int limit = 50;
+        int threads = 16;
+        VelocityLimiter limiter = limiter(limit, 0, 0);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire(1L, null, null).isEmpty()) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(limit, admitted.get());
+    }
+
+    private VelocityLimiter limiter(int affiliateLimit, int userLimit, int clientIpLimit) {
+        return new VelocityLimiter(meterRegistry, true, 1000, List.of(
+                new VelocityLimiter.RuleSettings("affiliate", affiliateLimit, WINDOW),
+                new VelocityLimiter.RuleSettings("user", userLimit, WINDOW),
+                new VelocityLimiter.RuleSettings("client-ip", clientIpLimit, WINDOW)), now::get);
+    }
+}
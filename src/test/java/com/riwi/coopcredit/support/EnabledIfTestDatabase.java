@@ -0,0 +1,20 @@
+package com.riwi.coopcredit.support;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita la clase de prueba solo si {@link TestDatabase} tiene una base de datos disponible.
+ * Es heredable para que baste con declararla en la clase base de integración.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@EnabledIf("com.riwi.coopcredit.support.TestDatabase#available")
+public @interface EnabledIfTestDatabase {
+}
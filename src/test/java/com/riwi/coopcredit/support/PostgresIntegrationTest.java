@@ -0,0 +1,80 @@
+package com.riwi.coopcredit.support;
+
+import com.riwi.coopcredit.domain.model.Affiliate;
+import com.riwi.coopcredit.domain.port.out.AffiliateRepositoryPort;
+import com.riwi.coopcredit.infrastructure.observability.StatementCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Clase base para pruebas de integración contra PostgreSQL real.
+ * El esquema se crea con las migraciones de Flyway, igual que en producción, y cada sentencia
+ * pasa por el proxy JDBC, de modo que las pruebas pueden contar las consultas emitidas.
+ */
+@SpringBootTest
+@EnabledIfTestDatabase
+public abstract class PostgresIntegrationTest {
+
+    // La base se reutiliza entre ejecuciones: el punto de partida cambia para no repetir documentos ni correos
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    @Autowired
+    private AffiliateRepositoryPort fixtureAffiliates;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", TestDatabase::url);
+        registry.add("spring.datasource.username", TestDatabase::username);
+        registry.add("spring.datasource.password", TestDatabase::password);
+    }
+
+    /**
+     * Ejecuta la operación y retorna cuántas sentencias JDBC emitió.
+     */
+    protected static int statementsFor(Runnable operation) {
+        return counted(() -> {
+            operation.run();
+            return null;
+        }).statements();
+    }
+
+    /**
+     * Ejecuta la operación y retorna su resultado junto con las sentencias JDBC emitidas.
+     */
+    protected static <T> Counted<T> counted(Supplier<T> operation) {
+        StatementCounter.start();
+        try {
+            T result = operation.get();
+            return new Counted<>(result, StatementCounter.current());
+        } finally {
+            StatementCounter.stop();
+        }
+    }
+
+    /**
+     * Sufijo único para documentos, correos y usuarios de los datos de prueba.
+     */
+    protected static long nextSuffix() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Guarda un afiliado nuevo con documento y correo únicos.
+     */
+    protected Affiliate newAffiliate(double annualIncome) {
+        long n = nextSuffix();
+        return fixtureAffiliates.save(new Affiliate("T" + n, "Juan", "Pérez", "afiliado" + n + "@example.com", annualIncome));
+    }
+
+    protected Affiliate newAffiliate() {
+        return newAffiliate(3500000.0);
+    }
+
+    protected record Counted<T>(T result, int statements) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.riwi.coopcredit.support;
+
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base de datos PostgreSQL para las pruebas de integración.
+ *
+ * Si se define IT_DATABASE_URL (y opcionalmente IT_DATABASE_USERNAME / IT_DATABASE_PASSWORD)
+ * se usa esa instancia levantada localmente; si no, se arranca un contenedor con Testcontainers.
+ * Sin ninguna de las dos opciones las pruebas de integración se omiten.
+ */
+public final class TestDatabase {
+
+    private static final String EXTERNAL_URL = System.getenv("IT_DATABASE_URL");
+
+    private static PostgreSQLContainer<?> container;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Condición para {@code @EnabledIf}: hay una base de datos disponible para las pruebas.
+     */
+    public static boolean available() {
+        return EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    public static synchronized String url() {
+        if (EXTERNAL_URL != null) {
+            return EXTERNAL_URL;
+        }
+        return container().getJdbcUrl();
+    }
+
+    public static String username() {
+        if (EXTERNAL_URL != null) {
+            return System.getenv().getOrDefault("IT_DATABASE_USERNAME", "root");
+        }
+        return container().getUsername();
+    }
+
+    public static String password() {
+        if (EXTERNAL_URL != null) {
+            return System.getenv().getOrDefault("IT_DATABASE_PASSWORD", "admin123");
+        }
+        return container().getPassword();
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            // Misma imagen que docker-compose.yml; se reutiliza durante toda la ejecución
+            container = new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("coop_credit_db");
+            container.start();
+        }
+        return container;
+    }
+}